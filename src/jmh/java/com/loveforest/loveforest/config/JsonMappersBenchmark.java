@@ -0,0 +1,103 @@
+package com.loveforest.loveforest.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.loveforest.loveforest.domain.room.dto.FurnitureLayoutDTO;
+import com.loveforest.loveforest.domain.room.dto.RoomStateDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출마다 ObjectMapper를 만드는 경우와 JsonMappers의 공유 reader/writer 비교
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JsonMappersBenchmark {
+
+    // 애플리케이션은 방 상태를 바이너리 코덱으로 쓰므로 JSON writer는 비교용으로 여기서만 만든다
+    private final ObjectWriter stateWriter = JsonMappers.MAPPER.writerFor(RoomStateDTO.class);
+
+    private RoomStateDTO state;
+    private String stateJson;
+    private String aiResponse;
+    private Map<String, Object> errorBody;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        List<FurnitureLayoutDTO> layouts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            layouts.add(FurnitureLayoutDTO.builder()
+                    .furnitureId((long) i + 1)
+                    .positionX(i % 20)
+                    .positionY(i / 20)
+                    .rotation((i % 4) * 90)
+                    .build());
+        }
+        state = new RoomStateDTO(3L, 2L, layouts);
+        stateJson = stateWriter.writeValueAsString(state);
+        aiResponse = "{\"mood\":\"{\\\"mood\\\":\\\"긍정\\\"}\"}";
+
+        errorBody = new HashMap<>();
+        errorBody.put("status", 403);
+        errorBody.put("errorType", "Forbidden");
+        errorBody.put("message", "로그인이 필요합니다.");
+        errorBody.put("code", "USER-004");
+        errorBody.put("timestamp", "2024-11-20T10:15:30");
+    }
+
+    // ===== 방 상태 =====
+
+    @Benchmark
+    public String roomStateWritePerCall() throws Exception {
+        return new ObjectMapper().writeValueAsString(state);
+    }
+
+    @Benchmark
+    public String roomStateWriteShared() throws Exception {
+        return stateWriter.writeValueAsString(state);
+    }
+
+    @Benchmark
+    public RoomStateDTO roomStateReadPerCall() throws Exception {
+        return new ObjectMapper().readValue(stateJson, RoomStateDTO.class);
+    }
+
+    @Benchmark
+    public RoomStateDTO roomStateReadShared() throws Exception {
+        return JsonMappers.ROOM_STATE_READER.readValue(stateJson);
+    }
+
+    // ===== AI 응답 =====
+
+    @Benchmark
+    public JsonNode aiResponsePerCall() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode root = objectMapper.readTree(aiResponse);
+        return objectMapper.readTree(root.path("mood").asText());
+    }
+
+    @Benchmark
+    public JsonNode aiResponseShared() throws Exception {
+        JsonNode root = JsonMappers.AI_RESPONSE_READER.readTree(aiResponse);
+        return JsonMappers.AI_RESPONSE_READER.readTree(root.path("mood").asText());
+    }
+
+    // ===== 에러 응답 =====
+
+    @Benchmark
+    public String errorBodyPerCall() throws Exception {
+        return new ObjectMapper().writeValueAsString(errorBody);
+    }
+
+    @Benchmark
+    public String errorBodyShared() throws Exception {
+        return JsonMappers.ERROR_BODY_WRITER.writeValueAsString(errorBody);
+    }
+}
@@ -0,0 +1,68 @@
+package com.loveforest.loveforest.domain.room.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loveforest.loveforest.domain.room.dto.FurnitureLayoutDTO;
+import com.loveforest.loveforest.domain.room.dto.RoomStateDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 상태 직렬화 비교: 기존 JSON 경로(호출마다 ObjectMapper 생성) vs RoomStateCodec
+ * 방 하나당 바이트 수는 setup 시 출력한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RoomStateCodecBenchmark {
+
+    @Param({"5", "20", "50"})
+    public int furnitureCount;
+
+    private RoomStateDTO state;
+    private String json;
+    private byte[] binary;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        List<FurnitureLayoutDTO> layouts = new ArrayList<>();
+        for (int i = 0; i < furnitureCount; i++) {
+            layouts.add(FurnitureLayoutDTO.builder()
+                    .furnitureId((long) (i % 40) + 1)
+                    .name("DoubleBed_Yellow")
+                    .positionX(i % 20)
+                    .positionY(i / 20)
+                    .rotation((i % 4) * 90)
+                    .build());
+        }
+        state = new RoomStateDTO(3L, 2L, layouts);
+        json = new ObjectMapper().writeValueAsString(state);
+        binary = RoomStateCodec.encode(state);
+
+        System.out.printf("%n[bytes per room] furniture=%d json=%d binary=%d%n",
+                furnitureCount, json.getBytes(StandardCharsets.UTF_8).length, binary.length);
+    }
+
+    @Benchmark
+    public String jsonEncode() throws Exception {
+        return new ObjectMapper().writeValueAsString(state);
+    }
+
+    @Benchmark
+    public RoomStateDTO jsonDecode() throws Exception {
+        return new ObjectMapper().readValue(json, RoomStateDTO.class);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return RoomStateCodec.encode(state);
+    }
+
+    @Benchmark
+    public RoomStateDTO binaryDecode() {
+        return RoomStateCodec.decode(binary);
+    }
+}
@@ -0,0 +1,41 @@
+package com.loveforest.loveforest.common.upload;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * AI 서버 파일 업로드 본문 선택 (ai.upload.mode, 기본값 base64-json)
+ *
+ * base64-json: 기존 계약대로 JSON 필드에 Base64 문자열을 담되, 조각 단위로 인코딩하여 스트리밍한다.
+ * multipart: 파일을 원본 바이트 그대로 multipart/form-data "file" 파트로 보낸다 (AI 서버가 지원할 때 사용).
+ */
+@Slf4j
+@Component
+public class AiUploadBodies {
+    static final String MODE_BASE64_JSON = "base64-json";
+    static final String MODE_MULTIPART = "multipart";
+    private static final String FILE_PART = "file";
+
+    private final boolean multipart;
+
+    public AiUploadBodies(@Value("${ai.upload.mode:" + MODE_BASE64_JSON + "}") String mode) {
+        if (!MODE_BASE64_JSON.equals(mode) && !MODE_MULTIPART.equals(mode)) {
+            throw new IllegalArgumentException("지원하지 않는 ai.upload.mode: " + mode);
+        }
+        this.multipart = MODE_MULTIPART.equals(mode);
+        log.info("AI 서버 업로드 방식: {}", mode);
+    }
+
+    /**
+     * @param base64Field base64-json 방식에서 Base64 문자열을 담을 JSON 필드
+     * @param fields      함께 보낼 값 (JSON 필드 또는 form 파트)
+     */
+    public StreamingUploadBody fileBody(UploadSource source, String base64Field, Map<String, ?> fields) {
+        return multipart
+                ? StreamingUploadBody.multipart(source, FILE_PART, fields)
+                : StreamingUploadBody.base64Json(source, base64Field, fields);
+    }
+}
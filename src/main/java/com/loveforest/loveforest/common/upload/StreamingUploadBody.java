@@ -0,0 +1,145 @@
+package com.loveforest.loveforest.common.upload;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.loveforest.loveforest.config.JsonMappers;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * 파일을 조각 단위로 읽어 보내는 요청 본문
+ *
+ * 파일 내용은 구독 시점에 채널에서 읽으며, 보낸 조각은 바로 버려지므로 파일 크기와 관계없이 조각 몇 개만큼만 힙을 쓴다.
+ * 파일 읽기는 네트워크 스레드를 막지 않도록 boundedElastic 스케줄러에서 실행한다.
+ *
+ * @param contentType   요청 Content-Type
+ * @param contentLength 본문 길이 (모르면 -1, 청크 전송)
+ * @param inserter      WebClient 본문
+ */
+public record StreamingUploadBody(MediaType contentType,
+                                  long contentLength,
+                                  BodyInserter<?, ? super ClientHttpRequest> inserter) {
+
+    // 3의 배수여야 조각별 Base64 결과를 이어 붙인 것이 전체를 한 번에 인코딩한 것과 같다
+    static final int RAW_CHUNK_SIZE = 48 * 1024;
+    private static final DataBufferFactory BUFFER_FACTORY = DefaultDataBufferFactory.sharedInstance;
+
+    /**
+     * 요청에 Content-Type, Content-Length, 본문 적용
+     */
+    public WebClient.RequestHeadersSpec<?> applyTo(WebClient.RequestBodySpec request) {
+        request.contentType(contentType);
+        if (contentLength >= 0) {
+            request.contentLength(contentLength);
+        }
+        return request.body(inserter);
+    }
+
+    /**
+     * {"fileField": "<Base64>", ...fields} JSON 본문 (파일을 Base64 문자열로 받는 기존 AI 서버 계약)
+     * Base64 문자열을 한 번에 만들지 않고 읽은 조각마다 인코딩하여 내보낸다.
+     */
+    public static StreamingUploadBody base64Json(UploadSource source, String fileField, Map<String, ?> fields) {
+        byte[] prefix = ("{" + json(fileField) + ":\"").getBytes(StandardCharsets.UTF_8);
+        String rest = json(fields);
+        byte[] suffix = ("\"" + (rest.length() > 2 ? "," + rest.substring(1) : "}")).getBytes(StandardCharsets.UTF_8);
+
+        Flux<DataBuffer> body = Flux.concat(
+                Flux.defer(() -> Flux.just(BUFFER_FACTORY.wrap(prefix))),
+                base64(source.opener(), BUFFER_FACTORY),
+                Flux.defer(() -> Flux.just(BUFFER_FACTORY.wrap(suffix))));
+
+        long length = source.size() < 0 ? -1 : prefix.length + base64Length(source.size()) + suffix.length;
+        return new StreamingUploadBody(MediaType.APPLICATION_JSON, length, BodyInserters.fromDataBuffers(body));
+    }
+
+    /**
+     * multipart/form-data 본문 - 파일은 원본 바이트 그대로 partName 파트로, fields는 각각 문자열 파트로 보낸다
+     */
+    public static StreamingUploadBody multipart(UploadSource source, String partName, Map<String, ?> fields) {
+        Flux<DataBuffer> content = DataBufferUtils
+                .readByteChannel(source.opener()::open, BUFFER_FACTORY, RAW_CHUNK_SIZE)
+                .subscribeOn(Schedulers.boundedElastic());
+
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.asyncPart(partName, content, DataBuffer.class)
+                .filename(source.fileName())
+                .contentType(source.contentType());
+        fields.forEach((name, value) -> builder.part(name, String.valueOf(value)));
+
+        return new StreamingUploadBody(MediaType.MULTIPART_FORM_DATA, -1,
+                BodyInserters.fromMultipartData(builder.build()));
+    }
+
+    /**
+     * 채널 내용을 Base64로 인코딩한 조각 스트림
+     */
+    static Flux<DataBuffer> base64(UploadSource.ChannelOpener opener, DataBufferFactory bufferFactory) {
+        Base64.Encoder encoder = Base64.getEncoder();
+        return Flux.using(opener::open,
+                        channel -> Flux.<DataBuffer, ByteBuffer>generate(() -> ByteBuffer.allocate(RAW_CHUNK_SIZE),
+                                (raw, sink) -> {
+                                    raw.clear();
+                                    if (!fill(channel, raw)) {
+                                        sink.complete();
+                                        return raw;
+                                    }
+                                    raw.flip();
+                                    sink.next(bufferFactory.wrap(encoder.encode(raw)));
+                                    return raw;
+                                }),
+                        StreamingUploadBody::closeQuietly)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    static long base64Length(long size) {
+        return (size + 2) / 3 * 4;
+    }
+
+    // 버퍼가 가득 차거나 파일 끝까지 읽는다 - 마지막 조각을 빼면 항상 RAW_CHUNK_SIZE 만큼 채워진다
+    private static boolean fill(ReadableByteChannel channel, ByteBuffer raw) {
+        try {
+            while (raw.hasRemaining()) {
+                if (channel.read(raw) < 0) {
+                    break;
+                }
+            }
+            return raw.position() > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String json(Object value) {
+        try {
+            return JsonMappers.MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 변환 실패: " + value, e);
+        }
+    }
+
+    private static void closeQuietly(ReadableByteChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 읽기가 끝난 채널이므로 무시
+        }
+    }
+}
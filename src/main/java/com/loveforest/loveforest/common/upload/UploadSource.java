@@ -0,0 +1,60 @@
+package com.loveforest.loveforest.common.upload;
+
+import com.loveforest.loveforest.s3.service.BlobMetadata;
+import com.loveforest.loveforest.s3.service.BlobStore;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * 업로드할 파일 - 본문을 보낼 때마다 채널을 새로 열어 조각 단위로 읽는다
+ *
+ * @param fileName    파일명 (multipart 파트의 filename)
+ * @param contentType 파일 형식
+ * @param size        파일 크기 (모르면 -1)
+ * @param opener      읽기 채널 열기
+ */
+public record UploadSource(String fileName, MediaType contentType, long size, ChannelOpener opener) {
+
+    @FunctionalInterface
+    public interface ChannelOpener {
+        ReadableByteChannel open() throws IOException;
+    }
+
+    /**
+     * 저장소에 게시된 파일 (로컬/S3 모두 채널로 읽는다)
+     */
+    public static UploadSource of(BlobStore store, String fileUrl) {
+        BlobMetadata metadata = store.stat(fileUrl);
+        return new UploadSource(fileUrl.substring(fileUrl.lastIndexOf('/') + 1),
+                parseOrOctetStream(metadata.contentType()), metadata.contentLength(),
+                () -> store.openChannel(fileUrl));
+    }
+
+    /**
+     * 요청으로 받은 업로드 파일 (임시 파일 또는 메모리에 있는 내용을 스트림으로 읽는다)
+     */
+    public static UploadSource of(MultipartFile file) {
+        String fileName = file.getOriginalFilename() == null ? file.getName() : file.getOriginalFilename();
+        return new UploadSource(fileName, contentTypeOf(file), file.getSize(),
+                () -> Channels.newChannel(file.getInputStream()));
+    }
+
+    private static MediaType contentTypeOf(MultipartFile file) {
+        return parseOrOctetStream(file.getContentType());
+    }
+
+    private static MediaType parseOrOctetStream(String contentType) {
+        try {
+            return contentType == null
+                    ? MediaType.APPLICATION_OCTET_STREAM
+                    : MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+}
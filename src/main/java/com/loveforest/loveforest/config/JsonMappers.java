@@ -0,0 +1,50 @@
+package com.loveforest.loveforest.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loveforest.loveforest.domain.room.dto.PresetRoomResponseDTO;
+import com.loveforest.loveforest.domain.room.dto.RoomStateDTO;
+import com.loveforest.loveforest.domain.room.event.RoomChangeEvent;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 애플리케이션 공용 ObjectMapper와 미리 만들어 둔 reader/writer 모음
+ * ObjectMapper는 생성 비용이 크고 내부에 직렬화기 캐시를 가지므로 호출마다 만들지 않는다.
+ * reader/writer는 불변이라 스레드 간에 공유해도 안전하다.
+ * 엔티티, 정적 코덱처럼 빈 주입이 어려운 곳에서도 쓸 수 있도록 정적으로 노출하며,
+ * {@link JacksonConfig}의 ObjectMapper 빈도 같은 인스턴스를 사용한다.
+ */
+public final class JsonMappers {
+
+    public static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule());
+
+    // 방 상태 (바이너리 코덱 이전의 JSON 행)
+    public static final ObjectReader ROOM_STATE_READER = MAPPER.readerFor(RoomStateDTO.class);
+
+    // 방 변경 이벤트 (실시간 스트림 전송, 노드 간 pub/sub 메시지)
+    public static final ObjectReader ROOM_CHANGE_EVENT_READER = MAPPER.readerFor(RoomChangeEvent.class);
+    public static final ObjectWriter ROOM_CHANGE_EVENT_WRITER = MAPPER.writerFor(RoomChangeEvent.class);
+
+    // 단일 컬럼에 저장하는 문자열 목록 (StringListConverter)
+    public static final ObjectReader STRING_LIST_READER = MAPPER.readerFor(new TypeReference<List<String>>() {});
+    public static final ObjectWriter STRING_LIST_WRITER = MAPPER.writerFor(new TypeReference<List<String>>() {});
+
+    // 프리셋 목록 스냅샷
+    public static final ObjectWriter PRESET_LIST_WRITER =
+            MAPPER.writerFor(new TypeReference<List<PresetRoomResponseDTO>>() {});
+
+    // AI 서버 응답 (구조가 고정되지 않아 트리로 읽는다)
+    public static final ObjectReader AI_RESPONSE_READER = MAPPER.reader();
+
+    // 필터 단계에서 직접 쓰는 에러 응답 본문
+    public static final ObjectWriter ERROR_BODY_WRITER = MAPPER.writerFor(Map.class);
+
+    private JsonMappers() {
+    }
+}
@@ -1,7 +1,7 @@
 package com.loveforest.loveforest.domain.auth.utils;
 
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loveforest.loveforest.config.JsonMappers;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -41,7 +41,6 @@ public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint
         errorDetails.put("timestamp", LocalDateTime.now().toString());
 
         // JSON 응답으로 변환하여 전송
-        ObjectMapper objectMapper = new ObjectMapper();
-        response.getWriter().write(objectMapper.writeValueAsString(errorDetails));
+        response.getWriter().write(JsonMappers.ERROR_BODY_WRITER.writeValueAsString(errorDetails));
     }
 }
@@ -9,6 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -38,6 +39,14 @@ public class Couple extends BaseTimeEntity {
     @OneToMany(mappedBy = "couple", cascade = {CascadeType.MERGE, CascadeType.PERSIST}, orphanRemoval = false)
     private List<User> users = new ArrayList<>();
 
+    // 구성원이 바뀌면 refreshProfile()로 다시 계산하는 비정규화 표시 정보
+    @Embedded
+    private CoupleProfile profile;
+
+    // 표시 정보(커플 이름, 기념일)가 마지막으로 바뀐 시각 - 공유 방 피드 ETag에 사용
+    @Column(name = "profile_updated_at")
+    private LocalDateTime profileUpdatedAt;
+
     public Couple(String coupleCode) {
         this.coupleCode = coupleCode;
     }
@@ -50,6 +59,17 @@ public class Couple extends BaseTimeEntity {
         }
     }
 
+    /**
+     * 구성원 정보로 커플 표시 정보를 다시 계산 (회원가입, 커플 연동 시)
+     */
+    public void refreshProfile() {
+        CoupleProfile refreshed = CoupleProfile.from(users);
+        if (profile == null || !profile.hasSameDisplay(refreshed)) {
+            this.profileUpdatedAt = LocalDateTime.now();
+        }
+        this.profile = refreshed;
+    }
+
     /**
      * 포인트를 추가하는 메서드
      * @param points 추가할 포인트
@@ -0,0 +1,76 @@
+package com.loveforest.loveforest.domain.couple.entity;
+
+import com.loveforest.loveforest.domain.user.entity.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 커플 표시 정보 (비정규화)
+ * 커플 이름, 기념일, 구성원 ID/닉네임을 커플 행에 함께 저장하여
+ * 방 피드, 랜덤 방, 미션 조회 시 사용자 테이블을 읽지 않도록 한다.
+ * 구성원은 사용자 ID 순서로 정렬하며, 첫 번째 구성원이 미션의 partner1이다.
+ * 회원가입, 커플 연동 시 {@link Couple#refreshProfile()}로 다시 계산한다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CoupleProfile {
+    public static final String DEFAULT_NAME = "커플";
+    public static final String NICKNAME_SEPARATOR = "♥";
+
+    @Column(name = "display_name")
+    private String displayName;
+
+    @Column(name = "anniversary_date")
+    private LocalDate anniversaryDate;
+
+    @Column(name = "first_member_id")
+    private Long firstMemberId;
+
+    @Column(name = "first_member_nickname")
+    private String firstMemberNickname;
+
+    @Column(name = "second_member_id")
+    private Long secondMemberId;
+
+    @Column(name = "second_member_nickname")
+    private String secondMemberNickname;
+
+    public static CoupleProfile from(List<User> users) {
+        List<User> members = users.stream()
+                .sorted(Comparator.comparing(User::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        User first = !members.isEmpty() ? members.get(0) : null;
+        User second = members.size() > 1 ? members.get(1) : null;
+
+        String displayName = second != null
+                ? first.getNickname() + NICKNAME_SEPARATOR + second.getNickname()
+                : DEFAULT_NAME;
+        return new CoupleProfile(
+                displayName,
+                first != null ? first.getAnniversaryDate() : null,
+                first != null ? first.getId() : null,
+                first != null ? first.getNickname() : null,
+                second != null ? second.getId() : null,
+                second != null ? second.getNickname() : null);
+    }
+
+    /**
+     * 다른 사용자에게 보이는 정보(커플 이름, 기념일)가 같은지
+     */
+    public boolean hasSameDisplay(CoupleProfile other) {
+        return other != null
+                && Objects.equals(displayName, other.displayName)
+                && Objects.equals(anniversaryDate, other.anniversaryDate);
+    }
+}
@@ -0,0 +1,50 @@
+package com.loveforest.loveforest.domain.couple.profile;
+
+import com.loveforest.loveforest.domain.couple.entity.Couple;
+import com.loveforest.loveforest.domain.couple.repository.CoupleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 표시 정보가 없는 커플 행을 채우는 백필 작업
+ * 표시 정보 컬럼 도입 이전에 만들어진 커플을 시작 시 배치 단위로 계산해 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoupleProfileBackfill {
+    private static final int BATCH_SIZE = 100;
+
+    private final CoupleRepository coupleRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long lastId = 0L;
+        int total = 0;
+
+        while (true) {
+            List<Long> ids = coupleRepository.findIdsWithoutProfile(lastId, PageRequest.of(0, BATCH_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            tx.executeWithoutResult(status ->
+                    coupleRepository.findAllWithUsersByIdIn(ids).forEach(Couple::refreshProfile));
+            lastId = ids.get(ids.size() - 1);
+            total += ids.size();
+        }
+
+        if (total > 0) {
+            log.info("커플 표시 정보 백필 완료 - {}건", total);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.loveforest.loveforest.domain.couple.profile;
+
+import com.loveforest.loveforest.domain.couple.repository.CoupleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 커플 ID별 표시 정보 캐시
+ * 커플 행의 비정규화 컬럼만 조회하므로 캐시 미스에도 사용자 테이블을 읽지 않는다.
+ * 표시 정보가 바뀌면 커밋 이후 해당 커플을 무효화한다.
+ */
+@Slf4j
+@Component
+public class CoupleProfileCache {
+    private static final String METRIC_REQUESTS = "couple.profile.cache.requests";
+
+    private final CoupleRepository coupleRepository;
+    private final int maxSize;
+    private final Map<Long, CoupleProfileInfo> profiles = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CoupleProfileCache(CoupleRepository coupleRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${couple.profile.cache.max-size:100000}") int maxSize) {
+        this.coupleRepository = coupleRepository;
+        this.maxSize = maxSize;
+        this.hitCounter = Counter.builder(METRIC_REQUESTS).tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_REQUESTS).tag("result", "miss").register(meterRegistry);
+    }
+
+    public Optional<CoupleProfileInfo> find(Long coupleId) {
+        if (coupleId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(findAll(List.of(coupleId)).get(coupleId));
+    }
+
+    /**
+     * 여러 커플의 표시 정보 - 캐시에 없는 커플은 IN 쿼리 한 번으로 조회한다.
+     */
+    public Map<Long, CoupleProfileInfo> findAll(Collection<Long> coupleIds) {
+        Map<Long, CoupleProfileInfo> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long coupleId : new LinkedHashSet<>(coupleIds)) {
+            CoupleProfileInfo cached = profiles.get(coupleId);
+            if (cached != null) {
+                found.put(coupleId, cached);
+            } else if (coupleId != null) {
+                missing.add(coupleId);
+            }
+        }
+        hitCounter.increment(found.size());
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        missCounter.increment(missing.size());
+        for (CoupleProfileInfo loaded : coupleRepository.findProfilesByIdIn(missing)) {
+            put(loaded);
+            found.put(loaded.getCoupleId(), loaded);
+        }
+        return found;
+    }
+
+    /**
+     * 표시 정보 변경 후 호출 - 커밋 이후에 무효화하여 다음 조회 시 다시 읽는다.
+     */
+    public void evictAfterCommit(Long coupleId) {
+        if (coupleId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    profiles.remove(coupleId);
+                }
+            });
+        } else {
+            profiles.remove(coupleId);
+        }
+    }
+
+    private void put(CoupleProfileInfo profile) {
+        // 상한을 넘으면 임의의 항목 하나를 비운다 (다음 조회 시 다시 읽음)
+        if (profiles.size() >= maxSize) {
+            Iterator<Long> keys = profiles.keySet().iterator();
+            if (keys.hasNext()) {
+                profiles.remove(keys.next());
+            }
+        }
+        profiles.put(profile.getCoupleId(), profile);
+    }
+}
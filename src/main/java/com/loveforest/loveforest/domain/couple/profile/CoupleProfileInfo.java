@@ -0,0 +1,49 @@
+package com.loveforest.loveforest.domain.couple.profile;
+
+import com.loveforest.loveforest.domain.couple.entity.CoupleProfile;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 캐시에 보관하는 불변 커플 표시 정보
+ */
+@Getter
+public class CoupleProfileInfo {
+    private final Long coupleId;
+    private final String displayName;
+    private final LocalDate anniversaryDate;
+    private final Long firstMemberId;
+    private final String firstMemberNickname;
+    private final Long secondMemberId;
+    private final String secondMemberNickname;
+
+    // JPQL 생성자 표현식에서 사용
+    public CoupleProfileInfo(Long coupleId, String displayName, LocalDate anniversaryDate,
+                             Long firstMemberId, String firstMemberNickname,
+                             Long secondMemberId, String secondMemberNickname) {
+        this.coupleId = coupleId;
+        this.displayName = displayName != null ? displayName : CoupleProfile.DEFAULT_NAME;
+        this.anniversaryDate = anniversaryDate;
+        this.firstMemberId = firstMemberId;
+        this.firstMemberNickname = firstMemberNickname;
+        this.secondMemberId = secondMemberId;
+        this.secondMemberNickname = secondMemberNickname;
+    }
+
+    public boolean isMember(Long userId) {
+        return userId != null && (userId.equals(firstMemberId) || userId.equals(secondMemberId));
+    }
+
+    public boolean isFirstMember(Long userId) {
+        return userId != null && userId.equals(firstMemberId);
+    }
+
+    /**
+     * 표시 정보가 바뀌면 달라지는 값 (조건부 조회 ETag에 사용)
+     */
+    public int contentHash() {
+        return Objects.hash(displayName, anniversaryDate);
+    }
+}
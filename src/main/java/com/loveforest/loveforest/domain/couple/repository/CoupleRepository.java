@@ -2,8 +2,15 @@ package com.loveforest.loveforest.domain.couple.repository;
 
 import com.loveforest.loveforest.domain.couple.entity.Couple;
 import com.loveforest.loveforest.domain.user.entity.User;
+import com.loveforest.loveforest.domain.couple.profile.CoupleProfileInfo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CoupleRepository extends JpaRepository<Couple, Long> {
@@ -14,4 +21,25 @@ public interface CoupleRepository extends JpaRepository<Couple, Long> {
     Couple findByUsersContaining(User user);
 
     boolean existsByCoupleCode(String coupleCode);
+
+    // 커플 구성원과 함께 조회 (공개 방 조회 시 커플 이름/기념일 생성용)
+    @EntityGraph(attributePaths = {"users", "roomCollection"})
+    @Query("SELECT c FROM Couple c WHERE c.id = :coupleId")
+    Optional<Couple> findWithUsersById(@Param("coupleId") Long coupleId);
+
+    // 표시 정보 캐시용 - 커플 행의 비정규화 컬럼만 조회 (사용자 테이블 조인 없음)
+    @Query("SELECT new com.loveforest.loveforest.domain.couple.profile.CoupleProfileInfo(" +
+            "c.id, c.profile.displayName, c.profile.anniversaryDate, " +
+            "c.profile.firstMemberId, c.profile.firstMemberNickname, " +
+            "c.profile.secondMemberId, c.profile.secondMemberNickname) " +
+            "FROM Couple c WHERE c.id IN :coupleIds")
+    List<CoupleProfileInfo> findProfilesByIdIn(@Param("coupleIds") Collection<Long> coupleIds);
+
+    // 표시 정보 백필 대상 (ID 순 페이지)
+    @Query("SELECT c.id FROM Couple c WHERE c.profile.displayName IS NULL AND c.id > :lastId ORDER BY c.id")
+    List<Long> findIdsWithoutProfile(@Param("lastId") Long lastId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"users"})
+    @Query("SELECT c FROM Couple c WHERE c.id IN :coupleIds")
+    List<Couple> findAllWithUsersByIdIn(@Param("coupleIds") Collection<Long> coupleIds);
 }
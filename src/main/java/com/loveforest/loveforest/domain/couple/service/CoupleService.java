@@ -5,6 +5,7 @@ import com.loveforest.loveforest.domain.couple.dto.CoupleResponseDTO;
 import com.loveforest.loveforest.domain.couple.entity.Couple;
 import com.loveforest.loveforest.domain.couple.exception.CoupleCodeAlreadyUsedException;
 import com.loveforest.loveforest.domain.couple.exception.CoupleNotFoundException;
+import com.loveforest.loveforest.domain.couple.profile.CoupleProfileCache;
 import com.loveforest.loveforest.domain.couple.repository.CoupleRepository;
 import com.loveforest.loveforest.domain.daily_mission.repository.DailyMissionRepository;
 import com.loveforest.loveforest.domain.flower.service.FlowerService;
@@ -33,6 +34,7 @@ public class CoupleService {
     private final RoomServiceImpl roomServiceImpl;
     private final FlowerService flowerService;
     private final DailyMissionRepository dailyMissionRepository;
+    private final CoupleProfileCache coupleProfileCache;
 
 
     public String generateCoupleCode() {
@@ -65,6 +67,7 @@ public class CoupleService {
                 }
                 userRepository.saveAll(currentCouple.getUsers());
                 coupleRepository.delete(currentCouple);
+                coupleProfileCache.evictAfterCommit(currentCouple.getId());
             } else {
                 throw new IllegalStateException("이미 다른 커플과 연동된 상태입니다.");
             }
@@ -84,7 +87,9 @@ public class CoupleService {
         requestUser.setAnniversaryDate(anniversaryDate);
         requestUser.setCouple(targetCouple);
         targetCouple.addUser(requestUser);
+        targetCouple.refreshProfile();
         userRepository.save(requestUser);
+        coupleProfileCache.evictAfterCommit(targetCouple.getId());
 
         // 6. 커플에 대한 꽃 생성
         if (targetCouple.getUsers().size() == 2) {
@@ -150,9 +155,9 @@ public class CoupleService {
         Couple couple = coupleRepository.findById(coupleId)
                 .orElseThrow(CoupleNotFoundException::new);
 
-        // 첫 번째 사용자의 기념일을 가져옴
-        String anniversaryDate = couple.getUsers().isEmpty() ? null :
-                couple.getUsers().get(0).getAnniversaryDate().toString();
+        // 커플 표시 정보에 저장된 기념일 (구성원 조회 없음)
+        LocalDate anniversary = couple.getProfile() != null ? couple.getProfile().getAnniversaryDate() : null;
+        String anniversaryDate = anniversary != null ? anniversary.toString() : null;
 
         return CoupleResponseDTO.builder()
                 .coupleId(couple.getId())
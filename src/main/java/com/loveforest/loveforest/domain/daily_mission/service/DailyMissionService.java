@@ -2,6 +2,8 @@ package com.loveforest.loveforest.domain.daily_mission.service;
 
 import com.loveforest.loveforest.domain.couple.entity.Couple;
 import com.loveforest.loveforest.domain.couple.exception.CoupleNotFoundException;
+import com.loveforest.loveforest.domain.couple.profile.CoupleProfileCache;
+import com.loveforest.loveforest.domain.couple.profile.CoupleProfileInfo;
 import com.loveforest.loveforest.domain.couple.repository.CoupleRepository;
 import com.loveforest.loveforest.domain.daily_mission.dto.DailyMissionResponseDTO;
 import com.loveforest.loveforest.domain.daily_mission.dto.WeeklyMissionRequestDTO;
@@ -10,7 +12,6 @@ import com.loveforest.loveforest.domain.daily_mission.entity.DailyMission;
 import com.loveforest.loveforest.domain.daily_mission.exception.*;
 import com.loveforest.loveforest.domain.daily_mission.repository.DailyMissionRepository;
 import com.loveforest.loveforest.domain.pet.service.PetService;
-import com.loveforest.loveforest.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -35,6 +36,7 @@ public class DailyMissionService {
     private final DailyMissionRepository dailyMissionRepository;
     private final RestTemplate restTemplate;
     private final CoupleRepository coupleRepository;
+    private final CoupleProfileCache coupleProfileCache;
     private static final String DEFAULT_ANSWER = "null";
     private static final String AI_ENDPOINT = "/generate_question";
     private final PetService petService;
@@ -257,11 +259,11 @@ public class DailyMissionService {
 
     // 첫 번째 파트너인지 확인하는 메서드
     private boolean isFirstPartner(Long coupleId, Long userId) {
-        Couple couple = coupleRepository.findById(coupleId)
+        CoupleProfileInfo profile = coupleProfileCache.find(coupleId)
                 .orElseThrow(CoupleNotFoundException::new);
 
-        // 커플의 users 리스트에서 첫 번째 사용자의 ID와 비교
-        return couple.getUsers().get(0).getId().equals(userId);
+        // 커플 표시 정보의 첫 번째 구성원(사용자 ID 순)과 비교
+        return profile.isFirstMember(userId);
     }
 
     private boolean isAlreadyAnswered(DailyMission mission, boolean isPartner1) {
@@ -280,10 +282,12 @@ public class DailyMissionService {
     }
 
     private DailyMissionResponseDTO convertToDTO(DailyMission mission) {
-        List<User> users = mission.getCouple().getUsers();
-        // 커플의 두 사용자 정보 가져오기
-        String partner1Name = !users.isEmpty() ? users.get(0).getNickname() : "Unknown";
-        String partner2Name = users.size() > 1 ? users.get(1).getNickname() : "Unknown";
+        // 커플 표시 정보에서 두 사용자 닉네임 가져오기 (구성원 조회 없음)
+        CoupleProfileInfo profile = coupleProfileCache.find(mission.getCouple().getId()).orElse(null);
+        String partner1Name = profile != null && profile.getFirstMemberNickname() != null
+                ? profile.getFirstMemberNickname() : "Unknown";
+        String partner2Name = profile != null && profile.getSecondMemberNickname() != null
+                ? profile.getSecondMemberNickname() : "Unknown";
         return DailyMissionResponseDTO.builder()
                 .missionNumber(mission.getMissionNumber())
                 .missionDate(mission.getMissionDate())
@@ -1,11 +1,12 @@
 package com.loveforest.loveforest.domain.flower.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loveforest.loveforest.common.upload.AiUploadBodies;
+import com.loveforest.loveforest.common.upload.UploadSource;
+import com.loveforest.loveforest.config.JsonMappers;
 import com.loveforest.loveforest.domain.couple.exception.CoupleNotFoundException;
 import com.loveforest.loveforest.domain.flower.dto.FlowerMoodResponseDTO;
 import com.loveforest.loveforest.domain.flower.dto.StartNewSeedResponseDTO;
-import com.loveforest.loveforest.domain.flower.dto.VoiceAnalysisRequestDTO;
 import com.loveforest.loveforest.domain.flower.dto.VoiceMessageStatusDTO;
 import com.loveforest.loveforest.domain.flower.entity.Flower;
 import com.loveforest.loveforest.domain.flower.exception.*;
@@ -15,12 +16,10 @@ import com.loveforest.loveforest.domain.user.exception.UserNotFoundException;
 import com.loveforest.loveforest.domain.user.repository.UserRepository;
 import com.loveforest.loveforest.exception.ErrorCode;
 import com.loveforest.loveforest.exception.common.InvalidInputException;
-import com.loveforest.loveforest.s3.service.LocalStorageService;
-import com.loveforest.loveforest.s3.service.S3Service;
+import com.loveforest.loveforest.s3.service.BlobStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,9 +29,10 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
-import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -45,8 +45,9 @@ public class FlowerService {
     private final UserRepository userRepository;
     private final WebClient.Builder webClientBuilder; // WebClient.Builder 주입
     private static final int MAX_FLOWER_NAME_LENGTH = 50;
-//    private final S3Service s3Service;
-    private final LocalStorageService storageService;
+    private final BlobStore storageService;
+    private final AiUploadBodies aiUploadBodies;
+    private static final String VOICE_FIELD = "voiceData";
 
     @Value("${ai.server.url}")
     private String serverUrl;
@@ -54,9 +55,6 @@ public class FlowerService {
     @Value("${server.url}") // 서버 URL
     private String serverUrl1;
 
-    @Value("${file.storage.path}") // 저장소 경로
-    private String storagePath;
-
     /**
      * 사용자에게 새로운 꽃을 생성
      *
@@ -88,18 +86,12 @@ public class FlowerService {
         Flower flower = flowerRepository.findByUserId(userId)
                 .orElseGet(() -> new Flower("My Flower", user));
 
-        // AI 서버에 전송할 데이터 준비
-        VoiceAnalysisRequestDTO voiceData = new VoiceAnalysisRequestDTO();
-        try {
-            // 파일을 Base64로 인코딩 (AI 서버와의 통신용)
-            voiceData.setVoiceData(Base64.getEncoder().encodeToString(voiceFile.getBytes()));
-        } catch (IOException e) {
-            log.error("음성 파일 읽기 실패: {}", e.getMessage());
+        if (voiceFile == null || voiceFile.isEmpty()) {
             throw new VoiceMessageUploadFailedException();
         }
 
-        // AI 서버 분석 요청 및 처리
-        String mood = analyzeWithAIServer(voiceData);
+        // AI 서버 분석 요청 및 처리 (음성 파일은 요청을 보내면서 조각 단위로 읽는다)
+        String mood = analyzeWithAIServer(UploadSource.of(voiceFile));
 
         // 기분 상태 업데이트
         flower.updateMoodState(mood);
@@ -134,17 +126,16 @@ public class FlowerService {
     /**
      * AI 서버와 통신하여 기분 상태 분석
      *
-     * @param voiceData AI 서버로 전송할 음성 데이터
+     * @param voiceFile AI 서버로 전송할 음성 파일
      * @return 분석된 기분 상태 (긍정/중립/부정 등)
      */
-    private String analyzeWithAIServer(VoiceAnalysisRequestDTO voiceData) {
+    private String analyzeWithAIServer(UploadSource voiceFile) {
         WebClient webClient = webClientBuilder.baseUrl(serverUrl).build();
 
         try {
-            String rawResponse = webClient.post()
-                    .uri("/analyze_sentiment")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(voiceData)
+            // base64-json 방식이면 {"voiceData": "<Base64>"}
+            String rawResponse = aiUploadBodies.fileBody(voiceFile, VOICE_FIELD, Map.of())
+                    .applyTo(webClient.post().uri("/analyze_sentiment"))
                     .retrieve()
                     .bodyToMono(String.class)
                     .onErrorMap(WebClientResponseException.class, ex -> {
@@ -153,13 +144,12 @@ public class FlowerService {
                     })
                     .block();
             // 응답 JSON 파싱
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(rawResponse);
+            JsonNode rootNode = JsonMappers.AI_RESPONSE_READER.readTree(rawResponse);
             String mood = rootNode.path("mood").asText();
 
             // 만약 중첩된 JSON 문자열이 있다면 다시 파싱
             if (mood.startsWith("{") && mood.endsWith("}")) {
-                JsonNode nestedNode = objectMapper.readTree(mood);
+                JsonNode nestedNode = JsonMappers.AI_RESPONSE_READER.readTree(mood);
                 return nestedNode.path("mood").asText();
             }
 
@@ -254,18 +244,9 @@ public class FlowerService {
         try {
             // 기존 음성 파일이 있다면 삭제
             if (flower.getVoiceUrl() != null) {
-//                s3Service.deleteFile(flower.getVoiceUrl());
                 storageService.deleteFile(flower.getVoiceUrl());
             }
 
-            // 새로운 음성 파일 업로드
-//            String voiceUrl = s3Service.uploadFile(
-//                    voiceFile.getBytes(),
-//                    getExtension(voiceFile.getOriginalFilename()),
-//                    voiceFile.getContentType(),
-//                    voiceFile.getSize()
-//            );
-
             // 새로운 음성 파일 업로드 및 URL 생성
             String savedFileName = uploadVoiceFile(voiceFile);
 
@@ -291,13 +272,11 @@ public class FlowerService {
      * 음성 파일 업로드 및 URL 생성
      */
     private String uploadVoiceFile(MultipartFile file) throws IOException {
-        // 전체 URL 생성 및 반환 (http://서버주소/s3/파일명)
-        return storageService.uploadFile(
-                file.getBytes(),
-                getExtension(file.getOriginalFilename()),
-                file.getContentType(),
-                file.getSize()
-        );
+        // 저장소에 스트리밍 업로드 후 파일 URL 반환
+        try (InputStream content = file.getInputStream()) {
+            return storageService.upload(content, file.getSize(),
+                    getExtension(file.getOriginalFilename()), file.getContentType());
+        }
     }
 
 
@@ -379,9 +358,13 @@ public class FlowerService {
 
         for (Flower flower : flowers) {
             if (flower.getVoiceSavedAt().isBefore(yesterday)) {
-                // S3에서 파일 삭제
-//                s3Service.deleteFile(flower.getVoiceUrl());
-                storageService.deleteFile(flower.getVoiceUrl());
+                // 저장소에서 파일 삭제 - 한 건이 실패해도 나머지는 계속 정리하고, 실패한 건은 다음 실행에서 다시 시도
+                try {
+                    storageService.deleteFile(flower.getVoiceUrl());
+                } catch (Exception e) {
+                    log.error("음성메시지 파일 삭제 실패 - 꽃 ID: {}, URL: {}", flower.getId(), flower.getVoiceUrl(), e);
+                    continue;
+                }
                 flower.clearVoiceMessage();
                 flowerRepository.save(flower);
 
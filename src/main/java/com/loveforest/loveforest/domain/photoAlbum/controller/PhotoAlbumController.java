@@ -2,8 +2,10 @@ package com.loveforest.loveforest.domain.photoAlbum.controller;
 
 import com.loveforest.loveforest.domain.auth.dto.LoginInfo;
 import com.loveforest.loveforest.domain.photoAlbum.dto.ApiResponseDTO;
+import com.loveforest.loveforest.domain.photoAlbum.dto.ConversionJobResponseDTO;
 import com.loveforest.loveforest.domain.photoAlbum.dto.PhotoAlbumRequestDTO;
 import com.loveforest.loveforest.domain.photoAlbum.dto.PhotoAlbumResponseDTO;
+import com.loveforest.loveforest.domain.photoAlbum.enums.ConversionJobStatus;
 import com.loveforest.loveforest.domain.photoAlbum.service.PhotoAlbumService;
 import com.loveforest.loveforest.domain.user.exception.LoginRequiredException;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,6 +18,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -62,27 +65,36 @@ public class PhotoAlbumController {
     }
 
     /**
-     * 3D 모델 변환
+     * 3D 모델 변환 요청 (작업 등록 후 바로 반환)
      */
     @Operation(
-            summary = "3D 모델 변환",
-            description = "저장된 사진을 기반으로 3D 오브젝트를 생성합니다.",
+            summary = "3D 모델 변환 요청",
+            description = "저장된 사진의 3D 오브젝트 생성 작업을 등록합니다. 변환은 백그라운드에서 진행되며 작업 상태 조회 API로 결과를 확인합니다. " +
+                    "같은 사진/위치의 변환이 진행 중이면 그 작업을, 이미 반영된 결과가 있으면 완료된 작업(200)을 반환합니다.",
             responses = {
                     @ApiResponse(
-                            responseCode = "200",
-                            description = "3D 변환 성공",
+                            responseCode = "202",
+                            description = "변환 작업 등록 성공",
                             content = @Content(
                                     mediaType = "application/json",
                                     schema = @Schema(implementation = ApiResponseDTO.class),
                                     examples = @ExampleObject(
                                             value = """
                         {
-                          "message": "3D 모델 변환이 완료되었습니다.",
-                          "data": [
-                            "https://loveforest.s3.ap-northeast-2.amazonaws.com/30b8fee9-9f5c-4578-8d82-cfb83f524e2a.obj",
-                            "https://loveforest.s3.ap-northeast-2.amazonaws.com/12ca0b9e-f19c-4dd8-8cc3-7611af098cb5.png",
-                            "https://loveforest.s3.ap-northeast-2.amazonaws.com/416d9c9f-7a66-458f-88be-0668cdd1da1f.mtl"
-                          ]
+                          "message": "3D 모델 변환 작업이 등록되었습니다.",
+                          "data": {
+                            "jobId": 12,
+                            "photoId": 3,
+                            "status": "QUEUED",
+                            "attempts": 0,
+                            "nextAttemptAt": "2024-11-20T10:00:00",
+                            "lastError": null,
+                            "objectUrl": null,
+                            "pngUrl": null,
+                            "materialUrl": null,
+                            "createdAt": "2024-11-20T10:00:00",
+                            "updatedAt": "2024-11-20T10:00:00"
+                          }
                         }
                     """
                                     )
@@ -91,16 +103,47 @@ public class PhotoAlbumController {
             }
     )
     @PostMapping("/convert/{photoId}")
-    public ResponseEntity<ApiResponseDTO<List<String>>> convertTo3DModel(@AuthenticationPrincipal LoginInfo loginInfo, @PathVariable("photoId") Long photoId,
+    public ResponseEntity<ApiResponseDTO<ConversionJobResponseDTO>> convertTo3DModel(@AuthenticationPrincipal LoginInfo loginInfo, @PathVariable("photoId") Long photoId,
             @RequestParam Integer positionX, @RequestParam Integer positionY) {
 
-        List<String> modelUrls = photoAlbumService.convert3DModel(
+        if (loginInfo == null) {
+            throw new LoginRequiredException();
+        }
+
+        ConversionJobResponseDTO job = photoAlbumService.requestConversion(
                 photoId,
                 loginInfo.getUserId(),
                 positionX,
                 positionY
         );
-        return ResponseEntity.ok(ApiResponseDTO.success("3D 모델 변환이 완료되었습니다.", modelUrls));
+        // 같은 변환 결과가 이미 반영되어 있으면 200, 변환이 진행될 예정이면 202
+        if (job.getStatus() == ConversionJobStatus.SUCCEEDED) {
+            return ResponseEntity.ok(ApiResponseDTO.success("이미 변환된 3D 모델입니다.", job));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponseDTO.success("3D 모델 변환 작업이 등록되었습니다.", job));
+    }
+
+    /**
+     * 3D 변환 작업 상태 조회
+     */
+    @Operation(summary = "3D 변환 작업 상태 조회",
+            description = "변환 작업의 상태를 조회합니다. 상태가 SUCCEEDED이면 모델 파일 URL이 포함됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    @GetMapping("/convert/jobs/{jobId}")
+    public ResponseEntity<ApiResponseDTO<ConversionJobResponseDTO>> getConversionJob(
+            @AuthenticationPrincipal LoginInfo loginInfo,
+            @PathVariable("jobId") Long jobId) {
+
+        if (loginInfo == null) {
+            throw new LoginRequiredException();
+        }
+
+        return ResponseEntity.ok(ApiResponseDTO.success(
+                photoAlbumService.getConversionJob(jobId, loginInfo.getUserId())));
     }
 
     /**
@@ -0,0 +1,63 @@
+package com.loveforest.loveforest.domain.photoAlbum.dto;
+
+import com.loveforest.loveforest.domain.photoAlbum.entity.ConversionJob;
+import com.loveforest.loveforest.domain.photoAlbum.enums.ConversionJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "3D 변환 작업 응답 DTO")
+public class ConversionJobResponseDTO {
+    @Schema(description = "작업 ID", example = "1")
+    private Long jobId;
+
+    @Schema(description = "사진 ID", example = "1")
+    private Long photoId;
+
+    @Schema(description = "작업 상태", example = "QUEUED")
+    private ConversionJobStatus status;
+
+    @Schema(description = "시도 횟수", example = "0")
+    private int attempts;
+
+    @Schema(description = "다음 시도 예정 시각 (대기 중일 때)")
+    private LocalDateTime nextAttemptAt;
+
+    @Schema(description = "마지막 실패 사유")
+    private String lastError;
+
+    @Schema(description = "3D 오브젝트 URL (완료 시)")
+    private String objectUrl;
+
+    @Schema(description = "텍스처 이미지 URL (완료 시)")
+    private String pngUrl;
+
+    @Schema(description = "재질 파일 URL (완료 시)")
+    private String materialUrl;
+
+    @Schema(description = "작업 생성 시각")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "마지막 상태 변경 시각")
+    private LocalDateTime updatedAt;
+
+    public static ConversionJobResponseDTO from(ConversionJob job) {
+        return new ConversionJobResponseDTO(
+                job.getId(),
+                job.getPhotoId(),
+                job.getStatus(),
+                job.getAttempts(),
+                job.getStatus() == ConversionJobStatus.QUEUED ? job.getNextAttemptAt() : null,
+                job.getLastError(),
+                job.getObjectUrl(),
+                job.getPngUrl(),
+                job.getMaterialUrl(),
+                job.getCreatedAt(),
+                job.getUpdatedAt()
+        );
+    }
+}
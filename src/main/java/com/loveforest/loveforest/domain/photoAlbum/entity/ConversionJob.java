@@ -0,0 +1,137 @@
+package com.loveforest.loveforest.domain.photoAlbum.entity;
+
+import com.loveforest.loveforest.domain.photoAlbum.enums.ConversionJobStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 3D 모델 변환 작업
+ * 요청 스레드는 작업 행만 만들고 반환하며, 작업자가 대기 중인 행을 가져가 AI 서버를 호출한다.
+ * 행으로 남아 있으므로 서버가 재시작되어도 작업이 유지된다.
+ */
+@Entity
+@Table(name = "tbl_conversion_job",
+        uniqueConstraints = @UniqueConstraint(name = "uk_conversion_job_active_key", columnNames = "active_key"),
+        indexes = {
+                @Index(name = "idx_conversion_job_due", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_conversion_job_key", columnList = "conversion_key, status")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ConversionJob {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "photo_id", nullable = false)
+    private Long photoId;
+
+    @Column(name = "couple_id", nullable = false)
+    private Long coupleId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "position_x", nullable = false)
+    private int positionX;
+
+    @Column(name = "position_y", nullable = false)
+    private int positionY;
+
+    // 사진 ID + 원본 이미지 해시 + 위치의 SHA-256 - 같은 변환 요청 판별
+    @Column(name = "conversion_key", length = 64)
+    private String conversionKey;
+
+    // 대기/실행 중인 동안만 conversionKey를 담는다 - 유일 제약으로 같은 변환이 동시에 두 번 등록되지 않게 한다
+    @Column(name = "active_key", length = 64)
+    private String activeKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ConversionJobStatus status;
+
+    // 작업자가 가져갈 때 원자적 UPDATE로 증가
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 마지막으로 작업자가 가져간 시각 - 오래된 RUNNING 작업 복구에 사용
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "object_url")
+    private String objectUrl;
+
+    @Column(name = "png_url")
+    private String pngUrl;
+
+    @Column(name = "material_url")
+    private String materialUrl;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ConversionJob(String conversionKey, Long photoId, Long coupleId, Long userId, int positionX, int positionY) {
+        this.conversionKey = conversionKey;
+        this.activeKey = conversionKey;
+        this.photoId = photoId;
+        this.coupleId = coupleId;
+        this.userId = userId;
+        this.positionX = positionX;
+        this.positionY = positionY;
+        this.status = ConversionJobStatus.QUEUED;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    public void succeed(String objectUrl, String pngUrl, String materialUrl) {
+        this.objectUrl = objectUrl;
+        this.pngUrl = pngUrl;
+        this.materialUrl = materialUrl;
+        this.lastError = null;
+        this.activeKey = null;
+        changeStatus(ConversionJobStatus.SUCCEEDED);
+    }
+
+    /**
+     * 실패한 시도를 기록하고 지정한 시각에 다시 대기열에 올린다
+     */
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+        changeStatus(ConversionJobStatus.QUEUED);
+    }
+
+    public void fail(String error) {
+        this.lastError = truncate(error);
+        this.activeKey = null;
+        changeStatus(ConversionJobStatus.FAILED);
+    }
+
+    private void changeStatus(ConversionJobStatus status) {
+        this.status = status;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -8,6 +8,9 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 @Entity
 @Table(name = "tbl_photo_album")
@@ -49,6 +52,14 @@ public class PhotoAlbum {
     @Column(nullable = true)
     private Integer positionY;
 
+    // 원본 이미지 SHA-256 (3D 변환 중복 판별용, 기존 행은 첫 변환 요청 때 계산)
+    @Column(name = "image_hash", length = 64)
+    private String imageHash;
+
+    @Version  // 모델 교체 시 낙관적 락 (기존 행은 0으로 시작)
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
@@ -70,11 +81,32 @@ public class PhotoAlbum {
         this.couple = couple;
     }
 
-    public void updateModelUrlsAndPosition(String objUrl, String pngUrl, String mtlUrl, Integer positionX, Integer positionY) {
+    public void assignImageHash(String imageHash) {
+        this.imageHash = imageHash;
+    }
+
+    /**
+     * 3D 모델 교체
+     *
+     * @return 더 이상 참조하지 않는 이전 모델 파일 URL (커밋 이후 삭제 대상)
+     */
+    public List<String> updateModelUrlsAndPosition(String objUrl, String pngUrl, String mtlUrl, Integer positionX, Integer positionY) {
+        List<String> superseded = Stream.of(this.objectUrl, this.pngUrl, this.materialUrl)
+                .filter(Objects::nonNull)
+                .filter(url -> !url.equals(objUrl) && !url.equals(pngUrl) && !url.equals(mtlUrl))
+                .toList();
+
         this.objectUrl = objUrl;
         this.pngUrl = pngUrl;
         this.materialUrl = mtlUrl;
         this.positionX = positionX;
         this.positionY = positionY;
+        return superseded;
+    }
+
+    public List<String> getModelUrls() {
+        return Stream.of(objectUrl, pngUrl, materialUrl)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
\ No newline at end of file
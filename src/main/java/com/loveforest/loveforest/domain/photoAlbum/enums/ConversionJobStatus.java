@@ -0,0 +1,23 @@
+package com.loveforest.loveforest.domain.photoAlbum.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ConversionJobStatus {
+    QUEUED("대기", "변환 작업이 대기열에 있습니다."),
+    RUNNING("변환 중", "AI 서버에서 3D 모델을 생성하고 있습니다."),
+    SUCCEEDED("완료", "3D 모델 변환이 완료되었습니다."),
+    FAILED("실패", "재시도 횟수를 모두 사용하여 변환에 실패했습니다.");
+
+    private final String title;
+    private final String description;
+
+    ConversionJobStatus(String title, String description) {
+        this.title = title;
+        this.description = description;
+    }
+
+    public boolean isActive() {
+        return this == QUEUED || this == RUNNING;
+    }
+}
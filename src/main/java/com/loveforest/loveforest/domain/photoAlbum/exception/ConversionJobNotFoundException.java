@@ -0,0 +1,10 @@
+package com.loveforest.loveforest.domain.photoAlbum.exception;
+
+import com.loveforest.loveforest.exception.CustomException;
+import com.loveforest.loveforest.exception.ErrorCode;
+
+public class ConversionJobNotFoundException extends CustomException {
+    public ConversionJobNotFoundException() {
+        super(ErrorCode.CONVERSION_JOB_NOT_FOUND);
+    }
+}
@@ -0,0 +1,64 @@
+package com.loveforest.loveforest.domain.photoAlbum.repository;
+
+import com.loveforest.loveforest.domain.photoAlbum.entity.ConversionJob;
+import com.loveforest.loveforest.domain.photoAlbum.enums.ConversionJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ConversionJobRepository extends JpaRepository<ConversionJob, Long> {
+
+    Optional<ConversionJob> findByIdAndCoupleId(Long id, Long coupleId);
+
+    // 같은 변환이 대기/실행 중인 작업 (single-flight)
+    Optional<ConversionJob> findByActiveKey(String activeKey);
+
+    // 같은 변환의 마지막 성공 작업 (결과 재사용)
+    Optional<ConversionJob> findFirstByConversionKeyAndStatusOrderByIdDesc(String conversionKey, ConversionJobStatus status);
+
+    Optional<ConversionJob> findFirstByConversionKeyOrderByIdDesc(String conversionKey);
+
+    // 실행 시각이 된 대기 작업 (오래 기다린 순)
+    @Query("SELECT j FROM ConversionJob j " +
+            "WHERE j.status = com.loveforest.loveforest.domain.photoAlbum.enums.ConversionJobStatus.QUEUED " +
+            "AND j.nextAttemptAt <= :now ORDER BY j.nextAttemptAt ASC, j.id ASC")
+    List<ConversionJob> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 대기 작업을 실행 상태로 가져간다
+     * 여러 서버가 같은 행을 동시에 가져가려 해도 조건부 UPDATE이므로 한 곳만 1을 받는다.
+     */
+    @Modifying
+    @Query("UPDATE ConversionJob j SET " +
+            "j.status = com.loveforest.loveforest.domain.photoAlbum.enums.ConversionJobStatus.RUNNING, " +
+            "j.attempts = j.attempts + 1, j.startedAt = :now, j.updatedAt = :now " +
+            "WHERE j.id = :jobId " +
+            "AND j.status = com.loveforest.loveforest.domain.photoAlbum.enums.ConversionJobStatus.QUEUED")
+    int claim(@Param("jobId") Long jobId, @Param("now") LocalDateTime now);
+
+    // 실행 중에 서버가 내려가 멈춘 작업 중 시도 횟수가 남은 작업을 다시 대기열로
+    @Modifying
+    @Query("UPDATE ConversionJob j SET " +
+            "j.status = com.loveforest.loveforest.domain.photoAlbum.enums.ConversionJobStatus.QUEUED, " +
+            "j.nextAttemptAt = :now, j.updatedAt = :now " +
+            "WHERE j.status = com.loveforest.loveforest.domain.photoAlbum.enums.ConversionJobStatus.RUNNING " +
+            "AND j.startedAt < :cutoff AND j.attempts < :maxAttempts")
+    int requeueStale(@Param("cutoff") LocalDateTime cutoff, @Param("maxAttempts") int maxAttempts,
+                     @Param("now") LocalDateTime now);
+
+    // 시도 횟수를 모두 쓴 채 멈춘 작업은 실패로 끝낸다 (같은 변환을 다시 요청할 수 있도록 activeKey 해제)
+    @Modifying
+    @Query("UPDATE ConversionJob j SET " +
+            "j.status = com.loveforest.loveforest.domain.photoAlbum.enums.ConversionJobStatus.FAILED, " +
+            "j.activeKey = NULL, j.lastError = :error, j.updatedAt = :now " +
+            "WHERE j.status = com.loveforest.loveforest.domain.photoAlbum.enums.ConversionJobStatus.RUNNING " +
+            "AND j.startedAt < :cutoff AND j.attempts >= :maxAttempts")
+    int failStale(@Param("cutoff") LocalDateTime cutoff, @Param("maxAttempts") int maxAttempts,
+                  @Param("error") String error, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,102 @@
+package com.loveforest.loveforest.domain.photoAlbum.service;
+
+import com.loveforest.loveforest.domain.photoAlbum.entity.ConversionJob;
+import com.loveforest.loveforest.domain.photoAlbum.entity.PhotoAlbum;
+import com.loveforest.loveforest.domain.photoAlbum.enums.ConversionJobStatus;
+import com.loveforest.loveforest.domain.photoAlbum.exception.Photo3DConvertFailedException;
+import com.loveforest.loveforest.domain.photoAlbum.repository.ConversionJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 3D 변환 작업 등록
+ *
+ * 사진 ID + 원본 이미지 해시 + 위치로 변환 키를 만들고,
+ * 1. 같은 키가 대기/실행 중이면 그 작업을 반환한다 (single-flight).
+ * 2. 사진의 현재 모델이 같은 키의 마지막 성공 결과면 그 작업을 반환한다 (결과 재사용).
+ * 3. 없으면 별도 트랜잭션에서 새 작업을 만든다. 같은 키가 동시에 들어와 active_key 유일 제약에 걸리면 먼저 등록된 작업을 쓴다.
+ *
+ * 호출자 트랜잭션의 스냅샷에는 다른 요청이 방금 등록한 작업이 보이지 않으므로 작업 조회도 별도 트랜잭션에서 한다.
+ */
+@Slf4j
+@Component
+public class ConversionJobQueue {
+    private static final String METRIC_REQUESTS = "photo.conversion.requests";
+
+    private final ConversionJobRepository jobRepository;
+    private final TransactionTemplate newTx;
+    private final Counter createdCounter;
+    private final Counter coalescedCounter;
+    private final Counter cachedCounter;
+
+    public ConversionJobQueue(ConversionJobRepository jobRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.jobRepository = jobRepository;
+        this.newTx = new TransactionTemplate(transactionManager);
+        this.newTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.createdCounter = Counter.builder(METRIC_REQUESTS).tag("result", "created").register(meterRegistry);
+        this.coalescedCounter = Counter.builder(METRIC_REQUESTS).tag("result", "coalesced").register(meterRegistry);
+        this.cachedCounter = Counter.builder(METRIC_REQUESTS).tag("result", "cached").register(meterRegistry);
+    }
+
+    /**
+     * 변환 작업 등록 또는 기존 작업 반환
+     *
+     * @param photo 원본 이미지 해시가 채워진 사진
+     */
+    public ConversionJob enqueue(PhotoAlbum photo, Long userId, int positionX, int positionY) {
+        String key = conversionKey(photo.getId(), photo.getImageHash(), positionX, positionY);
+
+        ConversionJob active = newTx.execute(status -> jobRepository.findByActiveKey(key).orElse(null));
+        if (active != null) {
+            coalescedCounter.increment();
+            log.info("진행 중인 3D 변환 작업 재사용 - photoId: {}, jobId: {}", photo.getId(), active.getId());
+            return active;
+        }
+
+        ConversionJob done = newTx.execute(status -> jobRepository
+                .findFirstByConversionKeyAndStatusOrderByIdDesc(key, ConversionJobStatus.SUCCEEDED)
+                .orElse(null));
+        // 이후 다른 위치로 변환되어 결과 파일이 교체(삭제)되었을 수 있으므로 사진의 현재 모델일 때만 재사용
+        if (done != null && done.getObjectUrl() != null && done.getObjectUrl().equals(photo.getObjectUrl())) {
+            cachedCounter.increment();
+            log.info("3D 변환 결과 재사용 - photoId: {}, jobId: {}", photo.getId(), done.getId());
+            return done;
+        }
+
+        try {
+            ConversionJob job = newTx.execute(status -> jobRepository.saveAndFlush(new ConversionJob(
+                    key, photo.getId(), photo.getCouple().getId(), userId, positionX, positionY)));
+            createdCounter.increment();
+            log.info("3D 변환 작업 등록 - photoId: {}, jobId: {}", photo.getId(), job.getId());
+            return job;
+        } catch (DataIntegrityViolationException e) {
+            coalescedCounter.increment();
+            log.debug("3D 변환 동시 등록 - 기존 작업 사용: {}", key);
+            return newTx.execute(status -> jobRepository.findFirstByConversionKeyOrderByIdDesc(key)
+                    .orElseThrow(Photo3DConvertFailedException::new));
+        }
+    }
+
+    static String conversionKey(Long photoId, String imageHash, int positionX, int positionY) {
+        String raw = photoId + ":" + imageHash + ":" + positionX + ":" + positionY;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(raw.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.loveforest.loveforest.domain.photoAlbum.service;
+
+import com.loveforest.loveforest.domain.photoAlbum.entity.ConversionJob;
+import com.loveforest.loveforest.domain.photoAlbum.entity.PhotoAlbum;
+import com.loveforest.loveforest.domain.photoAlbum.enums.ConversionJobStatus;
+import com.loveforest.loveforest.domain.photoAlbum.repository.ConversionJobRepository;
+import com.loveforest.loveforest.domain.photoAlbum.repository.PhotoAlbumRepository;
+import com.loveforest.loveforest.s3.service.BlobStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 3D 변환 작업 처리
+ *
+ * 1. 주기적으로 실행 시각이 된 대기 작업을 조회하고, 빈 작업 스레드 수만큼 조건부 UPDATE로 가져간다.
+ * 2. 커플별 동시 실행 수를 제한하여 한 커플이 작업 스레드를 모두 차지하지 못하게 한다.
+ * 3. 실패하면 지수 백오프로 다시 대기열에 올리고, 최대 시도 횟수를 넘으면 실패로 끝낸다.
+ * 4. 실행 중 서버가 내려가 RUNNING으로 남은 작업은 기동 시와 주기적으로 다시 대기열에 올린다.
+ *    시도 횟수를 모두 쓴 작업은 다시 올리지 않고 실패로 끝낸다.
+ *
+ * 커플별 제한은 서버 인스턴스 단위로 적용된다.
+ */
+@Slf4j
+@Component
+public class ConversionJobWorker {
+    private static final String METRIC_JOBS = "photo.conversion.jobs";
+    private static final int MAX_APPLY_ATTEMPTS = 3;
+    private static final String STALE_ERROR = "실행 중 응답이 없어 최대 시도 횟수를 넘었습니다.";
+
+    private final ConversionJobRepository jobRepository;
+    private final PhotoAlbumRepository photoAlbumRepository;
+    private final Photo3DConversionClient conversionClient;
+    private final BlobStore storageService;
+    private final TransactionTemplate txTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Map<Long, Integer> runningByCouple = new ConcurrentHashMap<>();
+    private final Counter succeededCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final int workers;
+    private final int perCoupleLimit;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration staleAfter;
+
+    public ConversionJobWorker(ConversionJobRepository jobRepository,
+                               PhotoAlbumRepository photoAlbumRepository,
+                               Photo3DConversionClient conversionClient,
+                               BlobStore storageService,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${photo.conversion.workers:2}") int workers,
+                               @Value("${photo.conversion.per-couple-limit:1}") int perCoupleLimit,
+                               @Value("${photo.conversion.max-attempts:4}") int maxAttempts,
+                               @Value("${photo.conversion.backoff-base-ms:30000}") long baseBackoffMs,
+                               @Value("${photo.conversion.backoff-max-ms:600000}") long maxBackoffMs,
+                               @Value("${photo.conversion.stale-after-ms:900000}") long staleAfterMs) {
+        this.jobRepository = jobRepository;
+        this.photoAlbumRepository = photoAlbumRepository;
+        this.conversionClient = conversionClient;
+        this.storageService = storageService;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.workers = workers;
+        this.perCoupleLimit = perCoupleLimit;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofMillis(baseBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.staleAfter = Duration.ofMillis(staleAfterMs);
+        // 빈 스레드 수만큼만 가져가므로 큐는 스레드 수로 충분하다 - 넘치면 작업을 대기열로 되돌린다
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers), threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.succeededCounter = Counter.builder(METRIC_JOBS).tag("result", "succeeded").register(meterRegistry);
+        this.retriedCounter = Counter.builder(METRIC_JOBS).tag("result", "retried").register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_JOBS).tag("result", "failed").register(meterRegistry);
+        Gauge.builder("photo.conversion.running", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 3D 변환 작업 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        requeueStale();
+    }
+
+    @Scheduled(fixedDelayString = "${photo.conversion.stale-check-ms:60000}")
+    public void requeueStale() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(staleAfter);
+        int[] counts = txTemplate.execute(status -> new int[]{
+                jobRepository.failStale(cutoff, maxAttempts, STALE_ERROR, now),
+                jobRepository.requeueStale(cutoff, maxAttempts, now)
+        });
+        if (counts == null) {
+            return;
+        }
+        if (counts[0] > 0) {
+            failedCounter.increment(counts[0]);
+            log.error("멈춘 3D 변환 작업 최종 실패 - {}건", counts[0]);
+        }
+        if (counts[1] > 0) {
+            log.warn("멈춘 3D 변환 작업 재등록 - {}건", counts[1]);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${photo.conversion.poll-ms:2000}")
+    public void poll() {
+        int free = workers - executor.getActiveCount() - executor.getQueue().size();
+        if (free <= 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        // 커플 제한으로 건너뛰는 작업이 있을 수 있으므로 빈 자리보다 넉넉하게 조회
+        List<ConversionJob> due = txTemplate.execute(status ->
+                jobRepository.findDue(now, PageRequest.of(0, free * 4)));
+        if (due == null) {
+            return;
+        }
+
+        for (ConversionJob job : due) {
+            if (free <= 0) {
+                break;
+            }
+            if (dispatch(job, now)) {
+                free--;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            // 중단된 작업은 RUNNING으로 남고 재기동 후 오래된 작업 복구로 다시 실행된다
+            log.warn("3D 변환 작업이 남은 채로 종료 - 실행 중: {}", executor.getActiveCount());
+            executor.shutdownNow();
+        }
+    }
+
+    // ===== 내부 구현 =====
+
+    private boolean dispatch(ConversionJob job, LocalDateTime now) {
+        Long coupleId = job.getCoupleId();
+        if (!reserveCoupleSlot(coupleId)) {
+            return false;
+        }
+
+        Integer claimed = txTemplate.execute(status -> jobRepository.claim(job.getId(), now));
+        if (claimed == null || claimed == 0) {
+            // 다른 서버가 먼저 가져감
+            releaseCoupleSlot(coupleId);
+            return false;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    run(job.getId());
+                } finally {
+                    releaseCoupleSlot(coupleId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            releaseCoupleSlot(coupleId);
+            txTemplate.executeWithoutResult(status -> jobRepository.findById(job.getId())
+                    .ifPresent(claimedJob -> claimedJob.retryAt(LocalDateTime.now(), null)));
+            return false;
+        }
+    }
+
+    private void run(Long jobId) {
+        ConversionJob job = txTemplate.execute(status -> jobRepository.findById(jobId).orElse(null));
+        if (job == null || job.getStatus() != ConversionJobStatus.RUNNING) {
+            return;
+        }
+
+        String imageUrl = txTemplate.execute(status -> photoAlbumRepository.findById(job.getPhotoId())
+                .map(PhotoAlbum::getImageUrl)
+                .orElse(null));
+        if (imageUrl == null) {
+            finishFailed(jobId, "사진이 삭제되었습니다.");
+            return;
+        }
+
+        Photo3DConversionClient.ModelUrls urls;
+        try {
+            urls = conversionClient.convert(imageUrl, job.getPositionX(), job.getPositionY());
+        } catch (Exception e) {
+            handleFailure(job, e);
+            return;
+        }
+
+        complete(job, urls);
+    }
+
+    private void complete(ConversionJob job, Photo3DConversionClient.ModelUrls urls) {
+        ApplyResult result;
+        try {
+            result = applyWithRetry(job, urls);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            deleteFiles(List.of(urls.objectUrl(), urls.pngUrl(), urls.materialUrl()));
+            handleFailure(job, e);
+            return;
+        }
+
+        if (result.applied()) {
+            // 커밋 이후 - 교체되어 더 이상 참조하지 않는 이전 모델 파일 정리
+            deleteFiles(result.superseded());
+            succeededCounter.increment();
+            log.info("3D 변환 완료 - jobId: {}, photoId: {}, 정리한 이전 파일: {}",
+                    job.getId(), job.getPhotoId(), result.superseded().size());
+        } else {
+            // 변환 중 사진이 삭제된 경우 만들어진 모델 파일을 남기지 않는다
+            deleteFiles(List.of(urls.objectUrl(), urls.pngUrl(), urls.materialUrl()));
+            failedCounter.increment();
+        }
+    }
+
+    private record ApplyResult(boolean applied, List<String> superseded) {
+    }
+
+    // 같은 사진의 다른 변환이 동시에 끝나 모델을 교체했으면(@Version 충돌) 다시 읽어 적용
+    private ApplyResult applyWithRetry(ConversionJob job, Photo3DConversionClient.ModelUrls urls) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return txTemplate.execute(status -> apply(job, urls));
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= MAX_APPLY_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("3D 모델 반영 충돌, 재시도 - jobId: {}, 시도: {}", job.getId(), attempt);
+            }
+        }
+    }
+
+    private ApplyResult apply(ConversionJob job, Photo3DConversionClient.ModelUrls urls) {
+        ConversionJob current = jobRepository.findById(job.getId()).orElse(null);
+        PhotoAlbum photo = photoAlbumRepository.findById(job.getPhotoId()).orElse(null);
+        if (current == null) {
+            return new ApplyResult(false, List.of());
+        }
+        if (photo == null) {
+            current.fail("사진이 삭제되었습니다.");
+            return new ApplyResult(false, List.of());
+        }
+        List<String> superseded = photo.updateModelUrlsAndPosition(urls.objectUrl(), urls.pngUrl(), urls.materialUrl(),
+                job.getPositionX(), job.getPositionY());
+        current.succeed(urls.objectUrl(), urls.pngUrl(), urls.materialUrl());
+        return new ApplyResult(true, superseded);
+    }
+
+    private void handleFailure(ConversionJob job, Exception e) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        if (job.getAttempts() >= maxAttempts) {
+            finishFailed(job.getId(), error);
+            return;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(job.getAttempts()));
+        txTemplate.executeWithoutResult(status -> jobRepository.findById(job.getId())
+                .ifPresent(current -> current.retryAt(nextAttemptAt, error)));
+        retriedCounter.increment();
+        log.warn("3D 변환 실패, 재시도 예약 - jobId: {}, 시도: {}/{}, 다음 시도: {}",
+                job.getId(), job.getAttempts(), maxAttempts, nextAttemptAt);
+    }
+
+    private void finishFailed(Long jobId, String error) {
+        txTemplate.executeWithoutResult(status -> jobRepository.findById(jobId)
+                .ifPresent(current -> current.fail(error)));
+        failedCounter.increment();
+        log.error("3D 변환 최종 실패 - jobId: {}, 사유: {}", jobId, error);
+    }
+
+    // base * 2^(attempts - 1), 최대 maxBackoff
+    private Duration backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = baseBackoff.multipliedBy(1L << shift);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private boolean reserveCoupleSlot(Long coupleId) {
+        boolean[] reserved = {false};
+        runningByCouple.compute(coupleId, (id, running) -> {
+            int current = running == null ? 0 : running;
+            if (current >= perCoupleLimit) {
+                return running;
+            }
+            reserved[0] = true;
+            return current + 1;
+        });
+        return reserved[0];
+    }
+
+    private void releaseCoupleSlot(Long coupleId) {
+        runningByCouple.computeIfPresent(coupleId, (id, running) -> running <= 1 ? null : running - 1);
+    }
+
+    private void deleteFiles(List<String> fileUrls) {
+        for (String fileUrl : fileUrls) {
+            if (fileUrl == null || !storageService.owns(fileUrl)) {
+                continue;
+            }
+            try {
+                storageService.deleteFile(fileUrl);
+            } catch (Exception e) {
+                log.warn("모델 파일 삭제 실패: {}", fileUrl);
+            }
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "photo-conversion-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,262 @@
+package com.loveforest.loveforest.domain.photoAlbum.service;
+
+import com.loveforest.loveforest.common.upload.AiUploadBodies;
+import com.loveforest.loveforest.common.upload.StreamingUploadBody;
+import com.loveforest.loveforest.common.upload.UploadSource;
+import com.loveforest.loveforest.domain.photoAlbum.exception.Photo3DConvertFailedException;
+import com.loveforest.loveforest.domain.photoAlbum.exception.PhotoUploadFailedException;
+import com.loveforest.loveforest.domain.photoAlbum.util.MultipartMixedParser;
+import com.loveforest.loveforest.s3.service.BlobStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * AI 서버 3D 변환 호출
+ * 응답을 최대 수 분까지 기다리므로 요청 스레드가 아닌 변환 작업자(ConversionJobWorker)에서만 호출한다.
+ * 트랜잭션 밖에서 실행되어 AI 서버를 기다리는 동안 DB 커넥션을 잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class Photo3DConversionClient {
+    private final BlobStore storageService;
+    private final WebClient.Builder webClientBuilder;
+    private final AiUploadBodies aiUploadBodies;
+
+    // AI 서버 요청 필드
+    private static final String IMAGE_FIELD = "base64Image";
+    private static final String POSITION_X_FIELD = "positionX";
+    private static final String POSITION_Y_FIELD = "positionY";
+    private static final String DEFAULT_BOUNDARY = "myboundary";
+    private static final Set<String> MODEL_EXTENSIONS = Set.of(".obj", ".png", ".mtl");
+    // 처리를 기다리며 미리 받아 둘 응답 조각 수
+    private static final int PREFETCH_BUFFERS = 4;
+
+    @Value("${ai.server.url}")
+    private String aiServerUrl;
+
+    /**
+     * 변환 결과 파일 URL (obj, png, mtl)
+     */
+    public record ModelUrls(String objectUrl, String pngUrl, String materialUrl) {
+    }
+
+    /**
+     * 사진을 3D 모델로 변환하고 결과 파일을 저장
+     *
+     * @param imageUrl  변환할 원본 이미지 URL
+     * @param positionX X 좌표
+     * @param positionY Y 좌표
+     * @return 저장된 모델 파일 URL
+     */
+    public ModelUrls convert(String imageUrl, int positionX, int positionY) {
+        Map<String, String> savedFiles = requestAIServerConversion(imageUrl, positionX, positionY);
+
+        String objectUrl = savedFiles.get(".obj");
+        if (objectUrl == null) {
+            log.error("AI 서버 응답에 obj 파일이 없습니다 - 받은 파일: {}", savedFiles.keySet());
+            savedFiles.values().forEach(this::deleteQuietly);
+            throw new Photo3DConvertFailedException();
+        }
+        return new ModelUrls(objectUrl, savedFiles.get(".png"), savedFiles.get(".mtl"));
+    }
+
+    /**
+     * AI 서버에 변환 요청
+     * multipart/mixed 응답을 조각 단위로 읽으면서 각 파트를 임시 파일에 바로 쓰고, 파트가 끝나면 게시한다.
+     * 응답 전체를 메모리에 올리지 않으므로 모델 크기와 관계없이 조각 몇 개만큼만 버퍼를 사용한다.
+     *
+     * @param imageUrl  변환할 원본 이미지 URL
+     * @param positionX X 좌표
+     * @param positionY Y 좌표
+     * @return 확장자(.obj, .png, .mtl)별 저장된 파일 URL
+     */
+    private Map<String, String> requestAIServerConversion(String imageUrl, int positionX, int positionY) {
+        WebClient webClient = webClientBuilder.baseUrl(aiServerUrl).build();
+
+        StreamingUploadBody requestBody = aiUploadBodies.fileBody(imageSource(imageUrl), IMAGE_FIELD,
+                Map.of(POSITION_X_FIELD, positionX, POSITION_Y_FIELD, positionY));
+        ModelFileSink sink = new ModelFileSink();
+
+        try {
+            log.info("AI 서버 요청 데이터 - Image URL: {}, PositionX: {}, PositionY: {}", imageUrl, positionX, positionY);
+            log.info("AI 서버 요청 본문 길이: {}", requestBody.contentLength());
+
+            ResponseEntity<Flux<DataBuffer>> response = requestBody.applyTo(webClient.post()
+                            .uri("/convert_3d_model"))
+                    .accept(MediaType.MULTIPART_MIXED)  // multipart/mixed 형식 지정
+                    .retrieve()
+
+                    .onStatus(
+                            status -> !status.is2xxSuccessful(),
+                            clientResponse -> clientResponse.bodyToMono(String.class)
+                                    .doOnNext(body -> log.error("AI 서버 응답 오류: {}", body))
+                                    .then(Mono.error(new Photo3DConvertFailedException()))
+                    )
+                    .toEntityFlux(DataBuffer.class)  // 헤더만 먼저 받고 본문은 스트림으로
+                    .block();
+
+            if (response == null || response.getBody() == null) {
+                throw new Photo3DConvertFailedException();
+            }
+
+            MultipartMixedParser parser = new MultipartMixedParser(
+                    boundaryOf(response.getHeaders().getContentType()), sink);
+            // 작업자 스레드에서 조각을 하나씩 꺼내 처리 - 파일 쓰기가 네트워크 스레드를 막지 않고, 처리 속도에 맞춰 수신한다
+            try (Stream<DataBuffer> buffers = response.getBody().toStream(PREFETCH_BUFFERS)) {
+                Iterator<DataBuffer> iterator = buffers.iterator();
+                while (iterator.hasNext()) {
+                    DataBuffer buffer = iterator.next();
+                    try (DataBuffer.ByteBufferIterator byteBuffers = buffer.readableByteBuffers()) {
+                        while (byteBuffers.hasNext()) {
+                            parser.feed(byteBuffers.next());
+                        }
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                }
+            }
+            parser.finish();
+
+            log.info("AI 서버 응답 수신 완료 - 파트 수: {}, 저장 바이트: {}", parser.getPartCount(), sink.getTotalBytes());
+            return sink.getSavedFiles();
+
+        } catch (Exception e) {
+            sink.discard();
+            log.error("AI 서버 변환 실패: {}", e.getMessage());
+            throw new Photo3DConvertFailedException();
+        }
+    }
+
+    private String boundaryOf(MediaType contentType) {
+        String boundary = contentType == null ? null : contentType.getParameter("boundary");
+        if (boundary == null || boundary.isBlank()) {
+            return DEFAULT_BOUNDARY;
+        }
+        return boundary.replace("\"", "");
+    }
+
+    private void deleteQuietly(String fileUrl) {
+        try {
+            storageService.deleteFile(fileUrl);
+        } catch (Exception e) {
+            log.warn("모델 파일 삭제 실패: {}", fileUrl);
+        }
+    }
+
+    /**
+     * 파트 본문을 임시 파일에 바로 쓰고, 파트가 끝나면 확장자별로 게시
+     */
+    private class ModelFileSink implements MultipartMixedParser.PartHandler {
+        private final Map<String, String> savedFiles = new HashMap<>();
+        private String extension;
+        private Path incoming;
+        private FileChannel channel;
+        private long partBytes;
+        private long totalBytes;
+
+        @Override
+        public void startPart(Map<String, String> headers) throws IOException {
+            String fileName = MultipartMixedParser.fileNameOf(headers);
+            extension = fileName == null || !fileName.contains(".")
+                    ? null
+                    : fileName.substring(fileName.lastIndexOf('.')).toLowerCase(Locale.ROOT);
+            if (extension == null || !MODEL_EXTENSIONS.contains(extension)) {
+                log.warn("알 수 없는 응답 파트 무시 - 파일명: {}", fileName);
+                extension = null;
+                return;
+            }
+            incoming = storageService.createIncomingFile(extension);
+            channel = FileChannel.open(incoming, StandardOpenOption.WRITE);
+            partBytes = 0;
+        }
+
+        @Override
+        public void body(ByteBuffer data) throws IOException {
+            if (channel == null) {
+                return;
+            }
+            partBytes += data.remaining();
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        }
+
+        @Override
+        public void endPart() throws IOException {
+            if (channel == null) {
+                return;
+            }
+            channel.close();
+            channel = null;
+
+            String url = storageService.publishFile(incoming, UUID.randomUUID() + extension);
+            incoming = null;
+            totalBytes += partBytes;
+            String replaced = savedFiles.put(extension, url);
+            if (replaced != null) {
+                deleteQuietly(replaced);
+            }
+            log.info("파일 저장 완료 - 확장자: {}, 크기: {} bytes, URL: {}", extension, partBytes, url);
+        }
+
+        long getTotalBytes() {
+            return totalBytes;
+        }
+
+        Map<String, String> getSavedFiles() {
+            return savedFiles;
+        }
+
+        // 실패 시 쓰던 임시 파일과 이미 게시한 파일 정리
+        void discard() {
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+                if (incoming != null) {
+                    Files.deleteIfExists(incoming);
+                }
+            } catch (IOException e) {
+                log.warn("모델 임시 파일 삭제 실패: {}", incoming);
+            }
+            savedFiles.values().forEach(Photo3DConversionClient.this::deleteQuietly);
+            savedFiles.clear();
+        }
+    }
+
+    /**
+     * 저장소의 원본 이미지 (요청 본문을 보낼 때 채널로 읽는다)
+     */
+    private UploadSource imageSource(String imageUrl) {
+        try {
+            return UploadSource.of(storageService, imageUrl);
+        } catch (Exception e) {
+            log.error("원본 이미지 읽기 실패: {}", e.getMessage());
+            throw new PhotoUploadFailedException();
+        }
+    }
+}
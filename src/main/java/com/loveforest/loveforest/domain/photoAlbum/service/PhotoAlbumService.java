@@ -2,33 +2,34 @@ package com.loveforest.loveforest.domain.photoAlbum.service;
 
 import com.loveforest.loveforest.domain.couple.entity.Couple;
 import com.loveforest.loveforest.domain.couple.exception.CoupleNotFoundException;
-import com.loveforest.loveforest.domain.photoAlbum.dto.AIServerRequest;
+import com.loveforest.loveforest.domain.photoAlbum.dto.ConversionJobResponseDTO;
 import com.loveforest.loveforest.domain.photoAlbum.dto.PhotoAlbumRequestDTO;
 import com.loveforest.loveforest.domain.photoAlbum.dto.PhotoAlbumResponseDTO;
+import com.loveforest.loveforest.domain.photoAlbum.entity.ConversionJob;
 import com.loveforest.loveforest.domain.photoAlbum.entity.PhotoAlbum;
-import com.loveforest.loveforest.domain.photoAlbum.exception.Photo3DConvertFailedException;
+import com.loveforest.loveforest.domain.photoAlbum.exception.ConversionJobNotFoundException;
 import com.loveforest.loveforest.domain.photoAlbum.exception.PhotoNotFoundException;
 import com.loveforest.loveforest.domain.photoAlbum.exception.PhotoUploadFailedException;
+import com.loveforest.loveforest.domain.photoAlbum.repository.ConversionJobRepository;
 import com.loveforest.loveforest.domain.photoAlbum.repository.PhotoAlbumRepository;
 import com.loveforest.loveforest.domain.user.entity.User;
 import com.loveforest.loveforest.domain.user.exception.UserNotFoundException;
 import com.loveforest.loveforest.domain.user.repository.UserRepository;
 import com.loveforest.loveforest.exception.common.InvalidInputException;
 import com.loveforest.loveforest.exception.common.UnauthorizedException;
-import com.loveforest.loveforest.s3.service.LocalStorageService;
-import com.loveforest.loveforest.s3.service.S3Service;
+import com.loveforest.loveforest.s3.service.BlobStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.util.*;
 
@@ -41,23 +42,14 @@ import java.util.stream.Collectors;
 @Transactional
 public class PhotoAlbumService {
     private final PhotoAlbumRepository photoAlbumRepository;
-//    private final S3Service s3Service;
-    private final LocalStorageService storageService;
-    private final WebClient.Builder webClientBuilder;
+    private final BlobStore storageService;
     private final UserRepository userRepository;
-
-    @Value("${ai.server.url}")
-    private String aiServerUrl;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucketName;
+    private final ConversionJobRepository conversionJobRepository;
+    private final ConversionJobQueue conversionJobQueue;
 
     @Value("${server.url}") // application.yml에서 서버 URL 가져오기
     private String serverUrl;
 
-    @Value("${file.storage.path}") // 저장소 경로 설정
-    private String storagePath;
-
     private final AtomicInteger counter = new AtomicInteger(0);
 
 
@@ -74,7 +66,8 @@ public class PhotoAlbumService {
         validateImage(request.getPhoto());
         validatePhotoDate(request.getPhotoDate());
 
-        String imageUrl = uploadOriginalImage(request.getPhoto());
+        UploadedImage uploaded = uploadOriginalImage(request.getPhoto());
+        String imageUrl = uploaded.url();
 
         User user = userRepository.findById(userId)
                 .orElseThrow(UserNotFoundException::new);
@@ -99,6 +92,7 @@ public class PhotoAlbumService {
                 couple
         );
 
+        photoAlbum.assignImageHash(uploaded.contentHash());
         photoAlbumRepository.save(photoAlbum);
         log.info("사진 저장 완료 - 제목: {}, 작성자: {}, 커플ID: {}",
                 request.getTitle(), user.getNickname(), couple.getId());
@@ -135,217 +129,61 @@ public class PhotoAlbumService {
     }
 
     /**
-     * 3D 모델 변환
+     * 3D 모델 변환 요청
+     * 변환 작업을 대기열에 등록하고 바로 반환한다. 실제 변환은 ConversionJobWorker가 처리한다.
+     * 같은 사진/이미지/위치의 변환이 진행 중이거나 이미 반영되어 있으면 그 작업을 반환한다 (ConversionJobQueue).
      *
      * @param photoId    변환할 사진 ID
      * @param userId     현재 사용자 ID
      * @param positionX  X 좌표
      * @param positionY  Y 좌표
-     * @return 변환된 3D 모델의 URL 리스트
+     * @return 등록된 변환 작업
      */
-    public List<String> convert3DModel(Long photoId, Long userId, Integer positionX, Integer positionY) {
-        PhotoAlbum photoAlbum = photoAlbumRepository.findById(photoId)
-                .orElseThrow(PhotoNotFoundException::new);
-
-//        if (!photoAlbum.getUser().getId().equals(userId)) {
-//            throw new UnauthorizedException();
-//        }
-
-        try {
-            // AI 서버에 변환 요청
-            Map<String, byte[]> fileParts = requestAIServerConversion(photoAlbum.getImageUrl(), positionX, positionY);
-
-            // S3에 파일 저장
-            List<String> modelUrls = saveModelFiles(fileParts);
-
-            photoAlbum.updateModelUrlsAndPosition(
-                    modelUrls.get(0), // obj
-                    modelUrls.get(1), // png
-                    modelUrls.get(2), // mtl
-                    positionX,
-                    positionY
-            );
-
-            photoAlbumRepository.save(photoAlbum);
-            return modelUrls;
-
-        } catch (Exception e) {
-            log.error("3D 변환 실패: {}", e.getMessage());
-            throw new Photo3DConvertFailedException();
+    public ConversionJobResponseDTO requestConversion(Long photoId, Long userId, Integer positionX, Integer positionY) {
+        if (positionX == null || positionY == null) {
+            throw new InvalidInputException();
         }
-    }
 
-    /**
-     * AI 서버에 변환 요청
-     *
-     * @param imageUrl  변환할 원본 이미지 URL
-     * @param positionX X 좌표
-     * @param positionY Y 좌표
-     * @return 변환된 3D 모델의 파일 데이터 리스트
-     */
-    public Map<String, byte[]> requestAIServerConversion(String imageUrl, int positionX, int positionY) {
-        WebClient webClient = webClientBuilder.baseUrl(aiServerUrl).build();
-
-        String base64Image = downloadAndEncodeImage(imageUrl);
-        AIServerRequest request = new AIServerRequest(base64Image, positionX, positionY);
-
-        try {
-            log.info("AI 서버 요청 시작: {}", request);
-            log.info("AI 서버 요청 데이터 - Image URL: {}, PositionX: {}, PositionY: {}", imageUrl, positionX, positionY);
-            log.info("AI 서버 요청 Base64 이미지 길이: {}", base64Image.length());
-
-            byte[] rawResponse = webClient.post()
-                    .uri("/convert_3d_model")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .accept(MediaType.MULTIPART_MIXED)  // multipart/mixed 형식 지정
-                    .retrieve()
-
-                    .onStatus(
-                            status -> !status.is2xxSuccessful(),
-                            clientResponse -> clientResponse.bodyToMono(String.class)
-                                    .doOnNext(body -> log.error("AI 서버 응답 오류: {}", body))
-                                    .then(Mono.error(new Photo3DConvertFailedException()))
-                    )
-                    .bodyToMono(byte[].class)  // byte[] 로 받기
-                    .block();
-
-            if (rawResponse == null) {
-                throw new Photo3DConvertFailedException();
-            }
-            log.info("AI 서버 응답 데이터 길이: {}", rawResponse.length);
-
-            return parseMultipartResponse(rawResponse);
+        User user = userRepository.findById(userId)
+                .orElseThrow(UserNotFoundException::new);
+        if (user.getCouple() == null) {
+            throw new CoupleNotFoundException();
+        }
 
-        } catch (Exception e) {
-            log.error("AI 서버 변환 실패: {}", e.getMessage());
-            throw new Photo3DConvertFailedException();
+        PhotoAlbum photoAlbum = photoAlbumRepository.findById(photoId)
+                .orElseThrow(PhotoNotFoundException::new);
+        if (!photoAlbum.getCouple().getId().equals(user.getCouple().getId())) {
+            throw new UnauthorizedException();
         }
-    }
 
-//    private Map<String, byte[]> parseMultipartResponse(byte[] responseData) {
-//        Map<String, byte[]> fileParts = new HashMap<>();
-//        String boundary = "myboundary";
-//        String responseStr = new String(responseData, StandardCharsets.ISO_8859_1);
-//        String[] parts = responseStr.split("--" + boundary);
-//
-//        for (String part : parts) {
-//            if (part.contains("Content-Disposition")) {
-//                String[] headerAndBody = part.split("\r\n\r\n", 2);
-//                if (headerAndBody.length < 2) continue;
-//
-//                String headers = headerAndBody[0];
-//                byte[] body = headerAndBody[1].getBytes(StandardCharsets.ISO_8859_1);
-//
-//                if (headers.contains("output_file.obj")) {
-//                    fileParts.put("output_file.obj", body);
-//                } else if (headers.contains("output_file.png")) {
-//                    fileParts.put("output_file.png", body);
-//                } else if (headers.contains("output_file.mtl")) {
-//                    fileParts.put("output_file.mtl", body);
-//                }
-//            }
-//        }
-//
-//        String objContent = new String(fileParts.get("output_file.obj"), StandardCharsets.UTF_8);
-//        log.info("obj 파일 내용 일부: {}", objContent.substring(0, Math.min(objContent.length(), 200))); // 일부만 출력
-//
-//        String pngContent = new String(fileParts.get("output_file.png"), StandardCharsets.UTF_8);
-//        log.info("png 파일 내용 일부: {}", pngContent.substring(0, Math.min(objContent.length(), 200))); // 일부만 출력
-//
-//        String mtlContent = new String(fileParts.get("output_file.mtl"), StandardCharsets.UTF_8);
-//        log.info("mtl 파일 내용 일부: {}", mtlContent.substring(0, Math.min(objContent.length(), 200))); // 일부만 출력
-//
-//
-//        if (!objContent.contains("v ")) {
-//            throw new Photo3DConvertFailedException();
-//        }
-//        return fileParts;
-//    }
-
-    private Map<String, byte[]> parseMultipartResponse(byte[] responseData) {
-        Map<String, byte[]> fileParts = new HashMap<>();
-        String boundary = "myboundary"; // 서버에서 설정한 boundary 값
-        String responseStr = new String(responseData, StandardCharsets.ISO_8859_1); // 원시 데이터를 문자열로 변환
-        String[] parts = responseStr.split("--" + boundary); // boundary를 기준으로 파트 분리
-
-        for (String part : parts) {
-            if (part.contains("Content-Disposition")) {
-                String[] headerAndBody = part.split("\r\n\r\n", 2);
-                if (headerAndBody.length < 2) continue; // 잘못된 형식 무시
-
-                String headers = headerAndBody[0];
-                byte[] body = headerAndBody[1].getBytes(StandardCharsets.ISO_8859_1);
-
-                // 파일 이름 추출
-                String fileName = null;
-                if (headers.contains("filename=\"")) {
-                    int startIdx = headers.indexOf("filename=\"") + 10;
-                    int endIdx = headers.indexOf("\"", startIdx);
-                    fileName = headers.substring(startIdx, endIdx);
-                }
-
-                if (fileName != null) {
-                    fileParts.put(fileName, body); // 파일 데이터를 바로 저장
-                }
-            }
+        if (photoAlbum.getImageHash() == null) {
+            photoAlbum.assignImageHash(storageService.contentHash(photoAlbum.getImageUrl()));
         }
 
-        return fileParts;
+        ConversionJob job = conversionJobQueue.enqueue(photoAlbum, userId, positionX, positionY);
+        return ConversionJobResponseDTO.from(job);
     }
 
-
-    private List<String> saveModelFiles(Map<String, byte[]> fileParts) {
-//        List<String> urls = new ArrayList<>();
-        List<String> fileNames = new ArrayList<>();
-        try {
-            fileParts.forEach((fileName, fileData) -> {
-                log.info("파일명: {}, 데이터 크기: {} bytes", fileName, fileData.length);
-
-                String extension = getFileExtension(fileName); // 파일 확장자 추출
-                String contentType = determineContentType(extension); // Content-Type 설정
-
-                // S3 업로드
-//                String url = s3Service.uploadFile(fileData, extension, contentType, fileData.length);
-//                urls.add(url);
-//                log.info("S3 업로드 완료 - URL: {}", url);
-
-                // 로컬 저장소에 저장
-                String savedFileName = storageService.uploadFile(
-                        fileData,
-                        extension,
-                        contentType,
-                        fileData.length
-                );
-                fileNames.add(savedFileName);
-                log.info("파일 저장 완료 - 파일명: {}", savedFileName);
-            });
-
-//            return urls;
-            return fileNames;
-        } catch (Exception e) {
-            log.error("모델 파일 저장 중 에러 발생: {}", e.getMessage());
-            throw new PhotoUploadFailedException();
+    /**
+     * 3D 변환 작업 상태 조회
+     *
+     * @param jobId  작업 ID
+     * @param userId 현재 사용자 ID
+     * @return 작업 상태 (완료 시 모델 URL 포함)
+     */
+    @Transactional(readOnly = true)
+    public ConversionJobResponseDTO getConversionJob(Long jobId, Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(UserNotFoundException::new);
+        if (user.getCouple() == null) {
+            throw new CoupleNotFoundException();
         }
-    }
-
-    private String getFileExtension(String fileName) {
-        return fileName.substring(fileName.lastIndexOf('.')); // 파일 확장자 추출
-    }
 
-    private String determineContentType(String extension) {
-        return switch (extension.toLowerCase()) {
-            case ".obj" -> "application/object";
-            case ".png" -> "image/png";
-            case ".mtl" -> "application/material";
-            default -> "application/octet-stream";
-        };
+        return conversionJobRepository.findByIdAndCoupleId(jobId, user.getCouple().getId())
+                .map(ConversionJobResponseDTO::from)
+                .orElseThrow(ConversionJobNotFoundException::new);
     }
 
-
-
-
-
     /**
      * Base64 문자열 여부를 확인하는 유틸리티 메서드
      *
@@ -364,21 +202,6 @@ public class PhotoAlbumService {
         return base64.matches(base64Pattern);
     }
 
-    /**
-     * S3에서 이미지 다운로드 및 Base64 인코딩
-     */
-    private String downloadAndEncodeImage(String fileName/*imageUrl*/) {
-        try {
-//            byte[] imageBytes = s3Service.downloadFile(imageUrl);
-            byte[] imageBytes = storageService.downloadFile(fileName);
-            return Base64.getEncoder().encodeToString(imageBytes);
-        } catch (Exception e) {
-            log.error("이미지 다운로드 및 Base64 인코딩 실패: {}", e.getMessage());
-            throw new PhotoUploadFailedException();
-        }
-    }
-
-
     /**
      * 사진 삭제
      *
@@ -400,17 +223,9 @@ public class PhotoAlbumService {
         }
 
         try {
-            // S3에서 이미지와 3D 모델 파일 삭제
-//            s3Service.deleteFile(photo.getImageUrl());
-//            if (photo.getObjectUrl() != null) {
-//                s3Service.deleteFile(photo.getObjectUrl());
-//            }
-
-            // 로컬 저장소에서 파일 삭제
+            // 저장소에서 이미지와 3D 모델 파일 삭제
             storageService.deleteFile(photo.getImageUrl());
-            if (photo.getObjectUrl() != null) {
-                storageService.deleteFile(photo.getObjectUrl());
-            }
+            photo.getModelUrls().forEach(storageService::deleteFile);
 
 
             // DB에서 데이터 삭제
@@ -426,24 +241,33 @@ public class PhotoAlbumService {
 
     /**
      * 원본 이미지 업로드
+     * 업로드 스트림을 지나가는 바이트로 SHA-256을 함께 계산하여, 저장한 파일을 다시 읽지 않는다.
      *
      * @param photo 업로드할 사진 파일
-     * @return 업로드된 이미지의 URL
+     * @return 업로드된 이미지의 URL과 내용 해시
      */
-    private String uploadOriginalImage(MultipartFile photo) {
-        try {
-            String extension = getExtension(photo.getOriginalFilename());
-            return storageService.uploadFile(
-                    photo.getBytes(),
-                    extension,
-                    photo.getContentType(),
-                    photo.getSize()
-            );
+    private UploadedImage uploadOriginalImage(MultipartFile photo) {
+        String extension = getExtension(photo.getOriginalFilename());
+        MessageDigest digest = sha256();
+        try (InputStream content = new DigestInputStream(photo.getInputStream(), digest)) {
+            String url = storageService.upload(content, photo.getSize(), extension, photo.getContentType());
+            return new UploadedImage(url, HexFormat.of().formatHex(digest.digest()));
         } catch (IOException e) {
             throw new PhotoUploadFailedException();
         }
     }
 
+    private record UploadedImage(String url, String contentHash) {
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
     /**
      * 파일명에서 확장자를 추출
      *
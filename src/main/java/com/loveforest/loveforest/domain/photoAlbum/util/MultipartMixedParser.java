@@ -0,0 +1,240 @@
+package com.loveforest.loveforest.domain.photoAlbum.util;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * multipart/mixed 스트리밍 파서
+ *
+ * 응답을 조각(ByteBuffer) 단위로 받아 구분자("\r\n--" + boundary)를 KMP로 찾고,
+ * 파트 본문은 받은 조각의 구간을 그대로 PartHandler에 넘긴다.
+ * 조각 경계에 걸친 구분자 후보는 구분자의 접두사와 같으므로 따로 보관하지 않고 구분자 배열에서 다시 내보낸다.
+ * 따라서 본문 크기와 관계없이 헤더 버퍼만큼의 메모리만 사용한다.
+ */
+public class MultipartMixedParser {
+
+    /**
+     * 파트 수신 콜백 - body에 넘어오는 버퍼는 호출 동안만 유효하다
+     */
+    public interface PartHandler {
+        void startPart(Map<String, String> headers) throws IOException;
+
+        void body(ByteBuffer data) throws IOException;
+
+        void endPart() throws IOException;
+    }
+
+    private enum State { PREAMBLE, DELIMITER_LINE, HEADERS, BODY, EPILOGUE }
+
+    private static final int MAX_HEADER_BYTES = 8 * 1024;
+    private static final int MAX_DELIMITER_LINE_BYTES = 256;
+
+    private final byte[] delimiter;
+    private final int[] failure;
+    private final PartHandler handler;
+    private final ByteArrayOutputStream lineBuffer = new ByteArrayOutputStream();
+    // lineBuffer의 마지막 4바이트 (CRLF 판별용)
+    private int tail;
+    private State state = State.PREAMBLE;
+    // 현재 끝부분이 구분자의 몇 바이트까지 일치하는지 - 첫 구분자는 CRLF 없이 오므로 CRLF를 읽은 상태로 시작
+    private int matched = 2;
+    private int partCount;
+
+    public MultipartMixedParser(String boundary, PartHandler handler) {
+        if (boundary == null || boundary.isEmpty()) {
+            throw new IllegalArgumentException("boundary가 비어 있습니다.");
+        }
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.failure = failureTable(delimiter);
+        this.handler = handler;
+    }
+
+    /**
+     * 응답 조각 처리 (조각은 모두 읽은 것으로 표시된다)
+     */
+    public void feed(ByteBuffer chunk) throws IOException {
+        int pos = chunk.position();
+        int limit = chunk.limit();
+        while (pos < limit && state != State.EPILOGUE) {
+            pos = switch (state) {
+                case PREAMBLE, BODY -> scanBody(chunk, pos, limit);
+                case DELIMITER_LINE -> readDelimiterLine(chunk, pos, limit);
+                case HEADERS -> readHeaders(chunk, pos, limit);
+                case EPILOGUE -> limit;
+            };
+        }
+        chunk.position(limit);
+    }
+
+    /**
+     * 응답 끝 - 닫는 구분자를 받지 못했으면 잘린 응답으로 본다
+     */
+    public void finish() throws IOException {
+        if (state == State.DELIMITER_LINE && isCloseDelimiter()) {
+            state = State.EPILOGUE;
+        }
+        if (state != State.EPILOGUE) {
+            throw new IOException("multipart 응답이 닫는 구분자 전에 끝났습니다. (상태: " + state + ")");
+        }
+    }
+
+    public int getPartCount() {
+        return partCount;
+    }
+
+    /**
+     * Content-Disposition 헤더의 파일명
+     */
+    public static String fileNameOf(Map<String, String> headers) {
+        String disposition = headers.get(HttpHeaders.CONTENT_DISPOSITION.toLowerCase(Locale.ROOT));
+        if (disposition == null) {
+            return null;
+        }
+        try {
+            return ContentDisposition.parse(disposition).getFilename();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // ===== 내부 구현 =====
+
+    private int scanBody(ByteBuffer chunk, int from, int limit) throws IOException {
+        int carry = matched;
+        for (int i = from; i < limit; i++) {
+            byte b = chunk.get(i);
+            while (matched > 0 && delimiter[matched] != b) {
+                matched = failure[matched - 1];
+            }
+            if (delimiter[matched] == b) {
+                matched++;
+            }
+            if (matched == delimiter.length) {
+                emitConfirmed(chunk, from, i + 1, carry);
+                if (state == State.BODY) {
+                    handler.endPart();
+                }
+                matched = 0;
+                resetLine();
+                state = State.DELIMITER_LINE;
+                return i + 1;
+            }
+        }
+        emitConfirmed(chunk, from, limit, carry);
+        return limit;
+    }
+
+    /**
+     * 앞 조각에서 넘어온 후보(carry) + 이번 조각 [from, end) 중 구분자 후보(matched)를 뺀 부분을 본문으로 내보낸다
+     */
+    private void emitConfirmed(ByteBuffer chunk, int from, int end, int carry) throws IOException {
+        int confirmed = carry + (end - from) - matched;
+        if (state != State.BODY || confirmed <= 0) {
+            return;
+        }
+        int fromCarry = Math.min(carry, confirmed);
+        if (fromCarry > 0) {
+            handler.body(ByteBuffer.wrap(delimiter, 0, fromCarry).asReadOnlyBuffer());
+        }
+        int fromChunk = confirmed - fromCarry;
+        if (fromChunk > 0) {
+            handler.body(chunk.duplicate().limit(from + fromChunk).position(from));
+        }
+    }
+
+    // 구분자 뒤 줄: "--"이면 닫는 구분자, 아니면 (공백 뒤) CRLF 후 헤더 시작
+    private int readDelimiterLine(ByteBuffer chunk, int from, int limit) throws IOException {
+        for (int i = from; i < limit; i++) {
+            append(chunk.get(i));
+            if (isCloseDelimiter()) {
+                state = State.EPILOGUE;
+                return limit;
+            }
+            if (endsWithCrlf()) {
+                resetLine();
+                state = State.HEADERS;
+                return i + 1;
+            }
+            if (lineBuffer.size() > MAX_DELIMITER_LINE_BYTES) {
+                throw new IOException("multipart 구분자 줄이 너무 깁니다.");
+            }
+        }
+        return limit;
+    }
+
+    private int readHeaders(ByteBuffer chunk, int from, int limit) throws IOException {
+        for (int i = from; i < limit; i++) {
+            append(chunk.get(i));
+            if (isHeaderEnd()) {
+                Map<String, String> headers = parseHeaders(lineBuffer.toString(StandardCharsets.ISO_8859_1));
+                resetLine();
+                partCount++;
+                handler.startPart(headers);
+                state = State.BODY;
+                return i + 1;
+            }
+            if (lineBuffer.size() > MAX_HEADER_BYTES) {
+                throw new IOException("multipart 파트 헤더가 너무 깁니다.");
+            }
+        }
+        return limit;
+    }
+
+    private void append(byte b) {
+        lineBuffer.write(b);
+        tail = (tail << 8) | (b & 0xFF);
+    }
+
+    private void resetLine() {
+        lineBuffer.reset();
+        tail = 0;
+    }
+
+    private boolean isCloseDelimiter() {
+        return lineBuffer.size() == 2 && (tail & 0xFFFF) == 0x2D2D;
+    }
+
+    private boolean endsWithCrlf() {
+        return lineBuffer.size() >= 2 && (tail & 0xFFFF) == 0x0D0A;
+    }
+
+    // 헤더 없는 파트("\r\n") 또는 빈 줄로 끝나는 헤더 블록
+    private boolean isHeaderEnd() {
+        int size = lineBuffer.size();
+        return (size == 2 && endsWithCrlf()) || (size >= 4 && tail == 0x0D0A0D0A);
+    }
+
+    private static Map<String, String> parseHeaders(String block) {
+        Map<String, String> headers = new HashMap<>();
+        for (String line : block.split("\r\n")) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+            }
+        }
+        return headers;
+    }
+
+    private static int[] failureTable(byte[] pattern) {
+        int[] table = new int[pattern.length];
+        int k = 0;
+        for (int i = 1; i < pattern.length; i++) {
+            while (k > 0 && pattern[i] != pattern[k]) {
+                k = table[k - 1];
+            }
+            if (pattern[i] == pattern[k]) {
+                k++;
+            }
+            table[i] = k;
+        }
+        return table;
+    }
+}
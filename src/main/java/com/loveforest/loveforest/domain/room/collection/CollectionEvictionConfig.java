@@ -0,0 +1,25 @@
+package com.loveforest.loveforest.domain.room.collection;
+
+import com.loveforest.loveforest.domain.room.repository.CollectionRoomRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 컬렉션 축출 정책 선택 (room.collection.eviction, 기본값 oldest)
+ */
+@Configuration
+public class CollectionEvictionConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "room.collection.eviction", havingValue = "oldest", matchIfMissing = true)
+    public CollectionEvictionPolicy oldestFirstEvictionPolicy(CollectionRoomRepository collectionRoomRepository) {
+        return new OldestFirstEvictionPolicy(collectionRoomRepository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "room.collection.eviction", havingValue = "least-recently-applied")
+    public CollectionEvictionPolicy leastRecentlyAppliedEvictionPolicy(CollectionRoomRepository collectionRoomRepository) {
+        return new LeastRecentlyAppliedEvictionPolicy(collectionRoomRepository);
+    }
+}
@@ -0,0 +1,18 @@
+package com.loveforest.loveforest.domain.room.collection;
+
+import com.loveforest.loveforest.domain.room.entity.CollectionRoom;
+
+import java.util.List;
+
+/**
+ * 컬렉션이 최대 개수를 넘었을 때 지울 저장된 방을 고르는 정책
+ * 구현은 room.collection.eviction 설정으로 선택한다.
+ */
+public interface CollectionEvictionPolicy {
+
+    /**
+     * @param count 지워야 하는 개수
+     * @return 지울 저장된 방 (먼저 지울 순서)
+     */
+    List<CollectionRoom> selectVictims(Long collectionId, int count);
+}
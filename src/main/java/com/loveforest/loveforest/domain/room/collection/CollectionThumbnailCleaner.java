@@ -0,0 +1,71 @@
+package com.loveforest.loveforest.domain.room.collection;
+
+import com.loveforest.loveforest.domain.room.enums.ThumbnailVariant;
+import com.loveforest.loveforest.domain.room.repository.CollectionRoomRepository;
+import com.loveforest.loveforest.domain.room.repository.RoomRepository;
+import com.loveforest.loveforest.s3.service.BlobStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 축출된 저장된 방의 썸네일 파일 정리
+ * 현재 방 저장과 공유 방 저장은 같은 썸네일 URL을 함께 쓰므로,
+ * 커밋 이후 방/컬렉션 어디에서도 참조하지 않는 로컬 파일만 변형까지 모두 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollectionThumbnailCleaner {
+    private final RoomRepository roomRepository;
+    private final CollectionRoomRepository collectionRoomRepository;
+    private final BlobStore storageService;
+
+    public void deleteUnreferencedAfterCommit(Collection<String> thumbnailUrls) {
+        Set<String> candidates = new LinkedHashSet<>();
+        thumbnailUrls.stream()
+                .filter(Objects::nonNull)
+                .filter(storageService::owns)
+                .forEach(candidates::add);
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    candidates.forEach(CollectionThumbnailCleaner.this::deleteIfUnreferenced);
+                }
+            });
+        } else {
+            candidates.forEach(this::deleteIfUnreferenced);
+        }
+    }
+
+    private void deleteIfUnreferenced(String thumbnailUrl) {
+        try {
+            if (roomRepository.existsByThumbnailUrl(thumbnailUrl)
+                    || collectionRoomRepository.existsByThumbnailUrl(thumbnailUrl)) {
+                return;
+            }
+            storageService.deleteFile(thumbnailUrl);
+            for (ThumbnailVariant variant : ThumbnailVariant.values()) {
+                String variantUrl = variant.urlOf(thumbnailUrl);
+                if (!variantUrl.equals(thumbnailUrl)) {
+                    storageService.deleteFile(variantUrl);
+                }
+            }
+        } catch (RuntimeException e) {
+            // 정리 실패는 저장된 방 축출에 영향을 주지 않는다
+            log.warn("축출된 썸네일 삭제 실패 - {}: {}", thumbnailUrl, e.getMessage());
+        }
+    }
+}
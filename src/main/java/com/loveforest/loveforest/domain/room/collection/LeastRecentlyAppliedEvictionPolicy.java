@@ -0,0 +1,21 @@
+package com.loveforest.loveforest.domain.room.collection;
+
+import com.loveforest.loveforest.domain.room.entity.CollectionRoom;
+import com.loveforest.loveforest.domain.room.repository.CollectionRoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+/**
+ * 현재 방에 적용한 지 가장 오래된 방부터 지운다 (적용한 적 없는 방은 저장 시각 기준).
+ */
+@RequiredArgsConstructor
+public class LeastRecentlyAppliedEvictionPolicy implements CollectionEvictionPolicy {
+    private final CollectionRoomRepository collectionRoomRepository;
+
+    @Override
+    public List<CollectionRoom> selectVictims(Long collectionId, int count) {
+        return collectionRoomRepository.findLeastRecentlyAppliedByCollectionId(collectionId, PageRequest.of(0, count));
+    }
+}
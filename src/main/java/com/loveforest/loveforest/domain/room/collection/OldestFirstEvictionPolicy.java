@@ -0,0 +1,21 @@
+package com.loveforest.loveforest.domain.room.collection;
+
+import com.loveforest.loveforest.domain.room.entity.CollectionRoom;
+import com.loveforest.loveforest.domain.room.repository.CollectionRoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+/**
+ * 가장 오래 전에 저장한 방부터 지운다.
+ */
+@RequiredArgsConstructor
+public class OldestFirstEvictionPolicy implements CollectionEvictionPolicy {
+    private final CollectionRoomRepository collectionRoomRepository;
+
+    @Override
+    public List<CollectionRoom> selectVictims(Long collectionId, int count) {
+        return collectionRoomRepository.findOldestByCollectionId(collectionId, PageRequest.of(0, count));
+    }
+}
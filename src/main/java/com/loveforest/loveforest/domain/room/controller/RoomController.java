@@ -2,14 +2,19 @@ package com.loveforest.loveforest.domain.room.controller;
 
 import com.loveforest.loveforest.domain.auth.dto.LoginInfo;
 import com.loveforest.loveforest.domain.room.dto.*;
-import com.loveforest.loveforest.domain.room.service.PresetRoomService;
+import com.loveforest.loveforest.domain.room.service.PresetRoomSnapshot;
+import com.loveforest.loveforest.domain.room.service.RoomETagService;
 import com.loveforest.loveforest.domain.room.service.RoomCollectionService;
+import com.loveforest.loveforest.domain.room.event.RoomChangeEvent;
 import com.loveforest.loveforest.domain.room.service.RoomServiceImpl;
+import com.loveforest.loveforest.domain.room.service.RoomStreamService;
 import com.loveforest.loveforest.domain.room.service.SharedRoomService;
 import com.loveforest.loveforest.domain.user.exception.LoginRequiredException;
 import com.loveforest.loveforest.exception.ErrorResponse;
+import com.loveforest.loveforest.exception.VersionConflictErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -23,12 +28,15 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -40,7 +48,9 @@ public class RoomController {
     private final RoomServiceImpl roomServiceImpl;
     private final RoomCollectionService collectionService;
     private final SharedRoomService sharedRoomService;
-    private final PresetRoomService presetRoomService;
+    private final RoomStreamService roomStreamService;
+    private final RoomETagService roomETagService;
+    private final PresetRoomSnapshot presetRoomSnapshot;
 
     /**
      * 방 가구 배치 API
@@ -121,24 +131,31 @@ public class RoomController {
                                             "positionY": 250,
                                             "rotation": 180,
                                             "width": 2,
-                                            "height": 3
+                                            "height": 3,
+                                            "version": 3
                                         }
                                     }
                                     """)
                             )
+                    ),
+                    @ApiResponse(
+                            responseCode = "409",
+                            description = "가구 배치 충돌 또는 다른 사용자가 먼저 수정함 (currentVersion 포함)",
+                            content = @Content(schema = @Schema(implementation = VersionConflictErrorResponse.class))
                     )
             }
     )
     @PutMapping("/furniture/{furnitureLayoutId}")
-    public ResponseEntity<SimpleApiResponseDTO> moveFurniture(@AuthenticationPrincipal LoginInfo loginInfo, @PathVariable("furnitureLayoutId") Long furnitureLayoutId,
+    public ResponseEntity<RoomDecorationApiResponseDTO> moveFurniture(@AuthenticationPrincipal LoginInfo loginInfo, @PathVariable("furnitureLayoutId") Long furnitureLayoutId,
             @Valid @RequestBody RoomFurnitureUpdateRequestDTO request) {
         validateLogin(loginInfo);
 
         log.info("가구 이동 요청 - 가구 레이아웃 ID: {}, 새 위치: ({}, {})",
                 furnitureLayoutId, request.getPositionX(), request.getPositionY());
-        roomServiceImpl.moveFurniture(furnitureLayoutId, request);
+        RoomDecorationResponseDTO response = roomServiceImpl.moveFurniture(furnitureLayoutId, request);
 
-        return ResponseEntity.ok(new SimpleApiResponseDTO("가구 이동이 완료되었습니다."));
+        // 다음 이동 요청에 사용할 버전을 함께 반환
+        return ResponseEntity.ok(new RoomDecorationApiResponseDTO("가구 이동이 완료되었습니다.", response));
     }
 
     /**
@@ -192,15 +209,109 @@ public class RoomController {
     @DeleteMapping("/furniture/{furnitureLayoutId}")
     public ResponseEntity<SimpleApiResponseDTO> removeFurniture(
             @AuthenticationPrincipal LoginInfo loginInfo,
-            @PathVariable("furnitureLayoutId") Long furnitureLayoutId) {
+            @PathVariable("furnitureLayoutId") Long furnitureLayoutId,
+            @RequestParam(value = "version", required = false) Long version) {
         validateLogin(loginInfo);
 
         log.info("가구 제거 요청 - 가구 레이아웃 ID: {}", furnitureLayoutId);
-        roomServiceImpl.removeFurniture(furnitureLayoutId);
+        roomServiceImpl.removeFurniture(furnitureLayoutId, version);
 
         return ResponseEntity.ok(new SimpleApiResponseDTO("가구가 성공적으로 제거되었습니다."));
     }
 
+    /**
+     * 가구 배치 일괄 변경 API
+     */
+    @Operation(
+            summary = "가구 배치 일괄 변경",
+            description = "가구 배치(PLACE), 이동(MOVE), 제거(REMOVE) 작업 목록을 요청 순서대로 한 번에 적용하고 변경된 방의 전체 상태를 반환합니다. " +
+                    "하나라도 실패하면 전체 작업이 취소됩니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "일괄 변경 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = RoomStatusApiResponseDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "잘못된 요청 (빈 작업 목록, 가구 미보유)",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "이 방에 없는 가구 배치",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    )
+            }
+    )
+    @PatchMapping("/layout")
+    public ResponseEntity<RoomStatusApiResponseDTO> applyLayoutOperations(
+            @AuthenticationPrincipal LoginInfo loginInfo,
+            @Valid @RequestBody RoomLayoutBatchRequestDTO request) {
+        validateLogin(loginInfo);
+
+        log.info("가구 배치 일괄 변경 요청 - 커플 ID: {}, 작업 수: {}",
+                loginInfo.getCoupleId(), request.getOperations().size());
+        RoomResponseDTO response = roomServiceImpl.applyLayoutOperations(loginInfo.getCoupleId(), request);
+
+        return ResponseEntity.ok(new RoomStatusApiResponseDTO("가구 배치 일괄 변경이 완료되었습니다.", response));
+    }
+
+    /**
+     * 가장 가까운 빈 위치 조회 API
+     */
+    @Operation(
+            summary = "가장 가까운 빈 위치 조회",
+            description = "가구를 원하는 위치에 둘 수 없을 때, 같은 회전 기준으로 다른 가구와 겹치지 않는 가장 가까운 위치를 반환합니다. " +
+                    "이미 배치된 가구를 옮기는 경우 layoutId를 함께 전달하면 해당 가구 자리는 비어 있는 것으로 계산합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "빈 위치 조회 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = FreePositionApiResponseDTO.class),
+                                    examples = @ExampleObject(value = """
+                                    {
+                                        "message": "빈 위치 조회가 완료되었습니다.",
+                                        "data": {
+                                            "furnitureId": 2,
+                                            "positionX": 4,
+                                            "positionY": 2,
+                                            "rotation": 90,
+                                            "width": 3,
+                                            "height": 2
+                                        }
+                                    }
+                                    """)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "배치할 빈 공간 없음",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    )
+            }
+    )
+    @GetMapping("/furniture/{furnitureId}/free-position")
+    public ResponseEntity<FreePositionApiResponseDTO> findNearestFreePosition(
+            @AuthenticationPrincipal LoginInfo loginInfo,
+            @PathVariable("furnitureId") Long furnitureId,
+            @RequestParam(value = "positionX", defaultValue = "0") int positionX,
+            @RequestParam(value = "positionY", defaultValue = "0") int positionY,
+            @RequestParam(value = "rotation", defaultValue = "0") int rotation,
+            @RequestParam(value = "layoutId", required = false) Long layoutId) {
+        validateLogin(loginInfo);
+
+        FreePositionResponseDTO response = roomServiceImpl.findNearestFreePosition(
+                loginInfo.getCoupleId(), furnitureId, layoutId, positionX, positionY, rotation);
+
+        return ResponseEntity.ok(new FreePositionApiResponseDTO(response));
+    }
+
 
     /**
      * 방 벽지 설정 API
@@ -253,11 +364,12 @@ public class RoomController {
     @PostMapping("/wallpaper/{wallpaperId}")
     public ResponseEntity<RoomStatusApiResponseDTO> setWallpaper(
             @AuthenticationPrincipal LoginInfo loginInfo,
-            @PathVariable("wallpaperId") Long wallpaperId) {
+            @PathVariable("wallpaperId") Long wallpaperId,
+            @RequestParam(value = "version", required = false) Long version) {
         validateLogin(loginInfo);
 
         log.info("벽지 설정 요청 - 커플 ID: {}, 벽지 ID: {}", loginInfo.getCoupleId(), wallpaperId);
-        RoomResponseDTO response = roomServiceImpl.setWallpaper(loginInfo.getCoupleId(), wallpaperId);
+        RoomResponseDTO response = roomServiceImpl.setWallpaper(loginInfo.getCoupleId(), wallpaperId, version);
 
         return ResponseEntity.ok(new RoomStatusApiResponseDTO("벽지 설정이 완료되었습니다.", response));
     }
@@ -310,11 +422,13 @@ public class RoomController {
             }
     )
     @DeleteMapping("/wallpaper")
-    public ResponseEntity<RoomStatusApiResponseDTO> removeWallpaper(@AuthenticationPrincipal LoginInfo loginInfo) {
+    public ResponseEntity<RoomStatusApiResponseDTO> removeWallpaper(
+            @AuthenticationPrincipal LoginInfo loginInfo,
+            @RequestParam(value = "version", required = false) Long version) {
         validateLogin(loginInfo);
 
         log.info("벽지 제거 요청 - 커플 ID: {}", loginInfo.getCoupleId());
-        RoomResponseDTO response = roomServiceImpl.removeWallpaper(loginInfo.getCoupleId());
+        RoomResponseDTO response = roomServiceImpl.removeWallpaper(loginInfo.getCoupleId(), version);
 
         return ResponseEntity.ok(new RoomStatusApiResponseDTO("벽지 제거가 완료되었습니다.", response));
     }
@@ -370,11 +484,12 @@ public class RoomController {
     @PostMapping("/floor/{floorId}")
     public ResponseEntity<RoomStatusApiResponseDTO> setFloor(
             @AuthenticationPrincipal LoginInfo loginInfo,
-            @PathVariable("floorId") Long floorId) {
+            @PathVariable("floorId") Long floorId,
+            @RequestParam(value = "version", required = false) Long version) {
         validateLogin(loginInfo);
 
         log.info("바닥 설정 요청 - 커플 ID: {}, 바닥 ID: {}", loginInfo.getCoupleId(), floorId);
-        RoomResponseDTO response = roomServiceImpl.setFloor(loginInfo.getCoupleId(), floorId);
+        RoomResponseDTO response = roomServiceImpl.setFloor(loginInfo.getCoupleId(), floorId, version);
 
         return ResponseEntity.ok(new RoomStatusApiResponseDTO("바닥 설정이 완료되었습니다.", response));
     }
@@ -429,11 +544,13 @@ public class RoomController {
             }
     )
     @DeleteMapping("/floor")
-    public ResponseEntity<RoomStatusApiResponseDTO> removeFloor(@AuthenticationPrincipal LoginInfo loginInfo) {
+    public ResponseEntity<RoomStatusApiResponseDTO> removeFloor(
+            @AuthenticationPrincipal LoginInfo loginInfo,
+            @RequestParam(value = "version", required = false) Long version) {
         validateLogin(loginInfo);
 
         log.info("바닥 제거 요청 - 커플 ID: {}", loginInfo.getCoupleId());
-        RoomResponseDTO response = roomServiceImpl.removeFloor(loginInfo.getCoupleId());
+        RoomResponseDTO response = roomServiceImpl.removeFloor(loginInfo.getCoupleId(), version);
 
         return ResponseEntity.ok(new RoomStatusApiResponseDTO("바닥 제거가 완료되었습니다.", response));
     }
@@ -503,13 +620,62 @@ public class RoomController {
             }
     )
     @GetMapping("/status")
-    public ResponseEntity<RoomStatusApiResponseDTO> getRoomStatus(@AuthenticationPrincipal LoginInfo loginInfo) {
+    public ResponseEntity<RoomStatusApiResponseDTO> getRoomStatus(@AuthenticationPrincipal LoginInfo loginInfo,
+                                                                  WebRequest webRequest) {
         validateLogin(loginInfo);
 
+        // 변경이 없으면 방을 로딩하지 않고 304 응답
+        Optional<String> etag = roomETagService.roomStatus(loginInfo.getCoupleId());
+        if (etag.isPresent() && roomETagService.checkNotModified(webRequest, "status", etag.get())) {
+            return null;
+        }
+
         log.info("방 상태 조회 요청 - 커플 ID: {}", loginInfo.getCoupleId());
         RoomResponseDTO response = roomServiceImpl.getRoomStatus(loginInfo.getCoupleId());
 
-        return ResponseEntity.ok(new RoomStatusApiResponseDTO(response));
+        return ResponseEntity.ok()
+                .cacheControl(RoomETagService.REVALIDATE)
+                .body(new RoomStatusApiResponseDTO(response));
+    }
+
+    /**
+     * 내 방 변경 실시간 구독 API
+     */
+    @Operation(
+            summary = "내 방 변경 실시간 구독 (SSE)",
+            description = """
+                커플 방의 변경 사항을 Server-Sent Events로 받습니다.
+                - 연결 직후 CONNECTED 이벤트(방 ID)가 전송되며, 이때 방 상태를 한 번 조회합니다.
+                - 이후에는 이벤트 이름이 변경 종류(LAYOUT_PLACED, LAYOUT_MOVED, LAYOUT_REMOVED,
+                  WALLPAPER_CHANGED, FLOOR_CHANGED, SHARING_CHANGED, ROOM_REPLACED)인 변경분만 전송됩니다.
+                - ROOM_REPLACED를 받거나 연결이 끊긴 뒤 다시 연결하면 방 상태를 다시 조회합니다.
+                """,
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "구독 시작",
+                            content = @Content(
+                                    mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                    schema = @Schema(implementation = RoomChangeEvent.class),
+                                    examples = @ExampleObject(value = """
+                                    event:LAYOUT_MOVED
+                                    data:{"roomId":1,"type":"LAYOUT_MOVED","version":3,"layoutId":10,"furnitureId":2,"positionX":5,"positionY":3,"rotation":90,"occurredAt":1735689600000}
+                                    """)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "방을 찾을 수 없음",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    )
+            }
+    )
+    @GetMapping("/stream")  // 에러 시 JSON 응답을 위해 produces는 지정하지 않음 (SseEmitter가 text/event-stream 설정)
+    public SseEmitter streamRoomChanges(@AuthenticationPrincipal LoginInfo loginInfo) {
+        validateLogin(loginInfo);
+
+        log.info("방 변경 구독 요청 - 커플 ID: {}", loginInfo.getCoupleId());
+        return roomStreamService.subscribe(loginInfo.getCoupleId());
     }
 
     private void validateLogin(LoginInfo loginInfo) {
@@ -585,16 +751,72 @@ public class RoomController {
     public ResponseEntity<PublicRoomApiResponseDTO> getPublicRoomInfo(
             @AuthenticationPrincipal LoginInfo loginInfo,
             @Parameter(description = "조회할 커플의 ID", example = "1")
-            @PathVariable("coupleId") Long coupleId) {
+            @PathVariable("coupleId") Long coupleId,
+            WebRequest webRequest) {
         validateLogin(loginInfo);
 
+        // 자신의 방은 서비스에서 거부하므로 다른 커플의 방만 조회 기록과 304 대상
+        if (!coupleId.equals(loginInfo.getCoupleId())) {
+            // 캐시된 응답을 재검증하는 조회도 인기 순위에 반영되도록 304 판단 전에 기록
+            roomServiceImpl.recordPublicRoomView(coupleId);
+            Optional<String> etag = roomETagService.publicRoom(coupleId);
+            if (etag.isPresent() && roomETagService.checkNotModified(webRequest, "public", etag.get())) {
+                return null;
+            }
+        }
+
         log.info("다른 커플의 방 조회 요청 - 요청자: {}, 대상 커플: {}",
                 loginInfo.getUserId(), coupleId);
 
         PublicRoomResponseDTO response = roomServiceImpl.getPublicRoomInfo(coupleId, loginInfo.getUserId());
 
         log.info("다른 커플의 방 조회 완료 - 커플: {}", coupleId);
-        return ResponseEntity.ok(new PublicRoomApiResponseDTO(response));
+        return ResponseEntity.ok()
+                .cacheControl(RoomETagService.REVALIDATE)
+                .body(new PublicRoomApiResponseDTO(response));
+    }
+
+    /**
+     * 다른 커플의 공유된 방 변경 실시간 구독 API
+     */
+    @Operation(
+            summary = "다른 커플의 방 변경 실시간 구독 (SSE)",
+            description = """
+                공유된 다른 커플 방의 변경 사항을 Server-Sent Events로 받습니다.
+                - 이벤트 형식은 내 방 구독과 같습니다.
+                - 방 공유가 해제되면 SHARING_CHANGED 이벤트 전송 후 연결이 종료됩니다.
+                """,
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "구독 시작",
+                            content = @Content(
+                                    mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                    schema = @Schema(implementation = RoomChangeEvent.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "자신의 방을 구독하려 하거나 공유되지 않은 방인 경우",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "방을 찾을 수 없음",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    )
+            }
+    )
+    @GetMapping("/public/{coupleId}/stream")
+    public SseEmitter streamPublicRoomChanges(
+            @AuthenticationPrincipal LoginInfo loginInfo,
+            @Parameter(description = "구독할 커플의 ID", example = "1")
+            @PathVariable("coupleId") Long coupleId) {
+        validateLogin(loginInfo);
+
+        log.info("다른 커플의 방 변경 구독 요청 - 요청자: {}, 대상 커플: {}",
+                loginInfo.getUserId(), coupleId);
+        return roomStreamService.subscribePublic(coupleId, loginInfo.getCoupleId());
     }
 
     /**
@@ -865,14 +1087,15 @@ public class RoomController {
     @PostMapping("/collection/apply/{collectionRoomId}")
     public ResponseEntity<RoomOperationResponseDTO> applyRoomState(
             @AuthenticationPrincipal LoginInfo loginInfo,
-            @PathVariable("collectionRoomId") Long collectionRoomId) {
+            @PathVariable("collectionRoomId") Long collectionRoomId,
+            @RequestParam(value = "version", required = false) Long version) {
         if (loginInfo == null) {
             throw new LoginRequiredException();
         }
 
         log.info("저장된 방 상태 적용 요청 - 커플 ID: {}, 컬렉션룸 ID: {}",
                 loginInfo.getCoupleId(), collectionRoomId);
-        collectionService.applyRoomState(loginInfo.getCoupleId(), collectionRoomId);
+        collectionService.applyRoomState(loginInfo.getCoupleId(), collectionRoomId, version);
 
         return ResponseEntity.ok(RoomOperationResponseDTO.builder("저장된 방 상태가 성공적으로 적용되었습니다.")
                 .addData("collectionRoomId", collectionRoomId)
@@ -885,9 +1108,11 @@ public class RoomController {
     @Operation(
             summary = "저장된 방 목록 조회",
             description = """
-        컬렉션에 저장된 모든 방 상태를 조회합니다.
+        컬렉션에 저장된 방 상태를 최신 저장 순으로 조회합니다.
         - 각 방의 ID, 소스(프리셋/공유/현재 방), 저장 날짜
         - 간략한 방 정보(벽지, 바닥, 썸네일 URL 등)
+        - 커서 기반 페이지네이션: 응답의 nextCursor를 다음 요청의 cursor로 전달
+        - 컬렉션은 커플당 최대 개수가 있으며, 초과 시 설정된 정책에 따라 오래된 방부터 삭제됩니다.
     """,
             responses = {
                     @ApiResponse(
@@ -895,9 +1120,10 @@ public class RoomController {
                             description = "저장된 방 목록 조회 성공",
                             content = @Content(
                                     mediaType = "application/json",
-                                    schema = @Schema(implementation = CollectionRoomResponseDTO.class),
+                                    schema = @Schema(implementation = CursorPageResponseDTO.class),
                                     examples = @ExampleObject(value = """
-                [
+                {
+                  "items": [
                     {
                         "id": 1,
                         "source": "PRESET",
@@ -918,37 +1144,57 @@ public class RoomController {
                             "thumbnailUrl": "https://example.com/thumbnails/room2.jpg"
                         }
                     }
-                ]
+                  ],
+                  "hasNext": true,
+                  "nextCursor": "MjAyNC0wMy0yMFQxMjowMHwy"
+                }
                 """)
                             )
                     )
             }
     )
     @GetMapping("/collection")
-    public ResponseEntity<List<CollectionRoomResponseDTO>> getSavedRooms(
-            @AuthenticationPrincipal LoginInfo loginInfo) {
+    public ResponseEntity<CursorPageResponseDTO<CollectionRoomResponseDTO>> getSavedRooms(
+            @AuthenticationPrincipal LoginInfo loginInfo,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 50)")
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
         if (loginInfo == null) {
             throw new LoginRequiredException();
         }
 
-        log.info("저장된 방 목록 조회 요청 - 커플 ID: {}", loginInfo.getCoupleId());
-        List<CollectionRoomResponseDTO> rooms =
-                collectionService.getSavedRooms(loginInfo.getCoupleId());
+        // 커서/크기는 URL에 포함되므로 ETag는 컬렉션 전체의 변경 여부만 나타낸다
+        String etag = roomETagService.collection(loginInfo.getCoupleId());
+        if (roomETagService.checkNotModified(webRequest, "collection", etag)) {
+            return null;
+        }
+
+        log.info("저장된 방 목록 조회 요청 - 커플 ID: {}, 커서: {}, 크기: {}", loginInfo.getCoupleId(), cursor, size);
+        CursorPageResponseDTO<CollectionRoomResponseDTO> rooms =
+                collectionService.getSavedRooms(loginInfo.getCoupleId(), cursor, size);
 
-        return ResponseEntity.ok(rooms);
+        return ResponseEntity.ok()
+                .cacheControl(RoomETagService.REVALIDATE)
+                .body(rooms);
     }
 
     /**
      *  공유된 방 목록 조회
      * @param loginInfo
+     * @param cursor
+     * @param size
      * @return
      */
     @Operation(
             summary = "공유된 방 목록 조회",
             description = """
-        다른 커플들이 공유한 방 목록을 조회합니다.
+        다른 커플들이 공유한 방 목록을 최신 공유 순으로 조회합니다.
         - 각 방의 ID, 커플 이름, 방의 간단한 미리보기 정보
         - 공유된 시간과 썸네일 URL 포함
+        - 커서 기반 페이지네이션: 응답의 nextCursor 값을 다음 요청의 cursor 파라미터로 전달
+        - size는 한 페이지 크기 (기본 20, 최대 50)
     """,
             responses = {
                     @ApiResponse(
@@ -956,9 +1202,10 @@ public class RoomController {
                             description = "공유된 방 목록 조회 성공",
                             content = @Content(
                                     mediaType = "application/json",
-                                    schema = @Schema(implementation = SharedRoomResponseDTO.class),
+                                    schema = @Schema(implementation = CursorPageResponseDTO.class),
                                     examples = @ExampleObject(value = """
-                [
+                {
+                  "items": [
                     {
                         "roomId": 1,
                         "coupleName": "철수♥영희",
@@ -979,7 +1226,10 @@ public class RoomController {
                         },
                         "sharedAt": "2024-03-20T12:00:00"
                     }
-                ]
+                  ],
+                  "hasNext": true,
+                  "nextCursor": "MjAyNC0wMy0yMFQxMjowMDowMHwy"
+                }
                 """)
                             )
                     ),
@@ -996,16 +1246,30 @@ public class RoomController {
             }
     )
     @GetMapping("/shared")
-    public ResponseEntity<List<SharedRoomResponseDTO>> getSharedRooms(@AuthenticationPrincipal LoginInfo loginInfo) {
+    public ResponseEntity<CursorPageResponseDTO<SharedRoomResponseDTO>> getSharedRooms(
+            @AuthenticationPrincipal LoginInfo loginInfo,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 50)")
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
         if (loginInfo == null) {
             throw new LoginRequiredException();
         }
 
-        log.info("공유된 방 목록 조회 요청 - 커플 ID: {}", loginInfo.getCoupleId());
-        List<SharedRoomResponseDTO> rooms =
-                sharedRoomService.getSharedRooms(loginInfo.getCoupleId());
+        // 커서/크기는 URL에 포함되므로 ETag는 공유 방 전체의 변경 여부만 나타낸다
+        String etag = roomETagService.sharedRooms(loginInfo.getCoupleId());
+        if (roomETagService.checkNotModified(webRequest, "shared", etag)) {
+            return null;
+        }
 
-        return ResponseEntity.ok(rooms);
+        log.info("공유된 방 목록 조회 요청 - 커플 ID: {}, 커서: {}, 크기: {}", loginInfo.getCoupleId(), cursor, size);
+        CursorPageResponseDTO<SharedRoomResponseDTO> rooms =
+                sharedRoomService.getSharedRooms(loginInfo.getCoupleId(), cursor, size);
+
+        return ResponseEntity.ok()
+                .cacheControl(RoomETagService.REVALIDATE)
+                .body(rooms);
     }
 
     /**
@@ -1080,16 +1344,24 @@ public class RoomController {
             }
     )
     @GetMapping("/presets")
-    public ResponseEntity<List<PresetRoomResponseDTO>> getPresetRooms(
-            @AuthenticationPrincipal LoginInfo loginInfo) {
+    public ResponseEntity<byte[]> getPresetRooms(
+            @AuthenticationPrincipal LoginInfo loginInfo,
+            WebRequest webRequest) {
         if (loginInfo == null) {
             throw new LoginRequiredException();
         }
 
-        log.info("프리셋 방 목록 조회 요청 - 사용자 ID: {}", loginInfo.getUserId());
-        List<PresetRoomResponseDTO> presetRooms = presetRoomService.getAllPresetRooms();
+        // 미리 직렬화된 스냅샷을 그대로 전송 (DB 접근 없음)
+        PresetRoomSnapshot.Snapshot presets = presetRoomSnapshot.current();
+        if (roomETagService.checkNotModified(webRequest, "presets", presets.getEtag())) {
+            return null;
+        }
 
-        return ResponseEntity.ok(presetRooms);
+        log.debug("프리셋 방 목록 조회 요청 - 사용자 ID: {}", loginInfo.getUserId());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(RoomETagService.REVALIDATE)
+                .body(presets.getBody());
     }
 
     /**
@@ -1177,9 +1449,52 @@ public class RoomController {
             throw new LoginRequiredException();
         }
 
-        log.info("랜덤 커플방 조회 요청 - 요청자: {}", loginInfo.getUserId());
-        PublicRoomResponseDTO response = roomServiceImpl.getRandomRoom(loginInfo.getUserId());
+        log.info("랜덤 커플방 조회 요청 - 요청자: {}, 커플 ID: {}", loginInfo.getUserId(), loginInfo.getCoupleId());
+        PublicRoomResponseDTO response = roomServiceImpl.getRandomRoom(loginInfo.getCoupleId());
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 인기 공유 방 목록 조회
+     * @param loginInfo
+     * @param size
+     * @return
+     */
+    @GetMapping("/trending")
+    @Operation(
+            summary = "인기 공유 방 목록 조회",
+            description = """
+        최근 조회/저장 수를 바탕으로 계산한 인기 점수 순으로 공유 방 목록을 조회합니다.
+        - 점수는 시간이 지날수록 감쇠하며 주기적으로 갱신됩니다 (실시간 반영 아님).
+        - 자신의 방은 제외됩니다.
+        """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "인기 공유 방 목록 조회 성공 (순위가 없으면 빈 목록)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = SharedRoomResponseDTO.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "로그인 필요",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<List<SharedRoomResponseDTO>> getTrendingRooms(
+            @AuthenticationPrincipal LoginInfo loginInfo,
+            @Parameter(description = "조회 개수 (기본 10)")
+            @RequestParam(defaultValue = "10") int size) {
+        if (loginInfo == null) {
+            throw new LoginRequiredException();
+        }
+
+        log.info("인기 공유 방 목록 조회 요청 - 커플 ID: {}, 크기: {}", loginInfo.getCoupleId(), size);
+        List<SharedRoomResponseDTO> rooms = sharedRoomService.getTrendingRooms(loginInfo.getCoupleId(), size);
+        return ResponseEntity.ok(rooms);
+    }
+
 }
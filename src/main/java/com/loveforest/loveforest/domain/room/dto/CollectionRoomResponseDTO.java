@@ -1,6 +1,9 @@
 package com.loveforest.loveforest.domain.room.dto;
 
+import com.loveforest.loveforest.domain.room.entity.RoomPreview;
 import com.loveforest.loveforest.domain.room.enums.RoomStateSource;
+import com.loveforest.loveforest.domain.room.enums.ThumbnailVariant;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,10 +11,23 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class CollectionRoomResponseDTO {
     private Long id;
     private RoomStateSource source;
     private LocalDateTime savedAt;
     private RoomPreviewDTO roomPreview;
     private String thumbnailUrl;
+
+    // JPQL 생성자 표현식에서 사용 (미리보기가 아직 계산되지 않았으면 roomPreview는 null, 썸네일은 목록용 변형)
+    public CollectionRoomResponseDTO(Long id, RoomStateSource source, LocalDateTime savedAt,
+                                     String thumbnailUrl, RoomPreview preview) {
+        this(id, source, savedAt,
+                preview != null && preview.isComputed() ? preview.toDTO() : null,
+                ThumbnailVariant.LIST.urlOf(thumbnailUrl));
+    }
+
+    public CollectionRoomResponseDTO withRoomPreview(RoomPreviewDTO roomPreview) {
+        return new CollectionRoomResponseDTO(id, source, savedAt, roomPreview, thumbnailUrl);
+    }
 }
@@ -0,0 +1,25 @@
+package com.loveforest.loveforest.domain.room.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "커서 기반 페이지 응답")
+public class CursorPageResponseDTO<T> {
+
+    @Schema(description = "현재 페이지 항목 목록")
+    private List<T> items;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MjAyNC0wMy0xOVQxNTozMDowMHw0Mg")
+    private String nextCursor;
+}
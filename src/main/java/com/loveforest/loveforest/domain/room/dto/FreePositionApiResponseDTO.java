@@ -0,0 +1,13 @@
+package com.loveforest.loveforest.domain.room.dto;
+
+import lombok.Getter;
+
+/**
+ * 가장 가까운 빈 위치 조회 응답 DTO
+ */
+@Getter
+public class FreePositionApiResponseDTO extends ApiResponseDTO<FreePositionResponseDTO> {
+    public FreePositionApiResponseDTO(FreePositionResponseDTO data) {
+        super("빈 위치 조회가 완료되었습니다.", data);
+    }
+}
@@ -0,0 +1,32 @@
+package com.loveforest.loveforest.domain.room.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@Schema(description = "가장 가까운 빈 위치 응답 DTO")
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreePositionResponseDTO {
+    @Schema(description = "가구 ID", example = "1")
+    private Long furnitureId;
+
+    @Schema(description = "X 좌표", example = "4")
+    private int positionX;
+
+    @Schema(description = "Y 좌표", example = "2")
+    private int positionY;
+
+    @Schema(description = "회전 각도", example = "90")
+    private int rotation;
+
+    @Schema(description = "회전이 반영된 점유 너비", example = "3")
+    private int width;
+
+    @Schema(description = "회전이 반영된 점유 높이", example = "2")
+    private int height;
+}
@@ -0,0 +1,37 @@
+package com.loveforest.loveforest.domain.room.dto;
+
+import com.loveforest.loveforest.domain.room.enums.LayoutOperationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "가구 배치 일괄 변경의 개별 작업")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LayoutOperationDTO {
+
+    @Schema(description = "작업 종류 (PLACE, MOVE, REMOVE)", example = "MOVE", required = true)
+    @NotNull
+    private LayoutOperationType type;
+
+    @Schema(description = "대상 가구 배치 ID (MOVE, REMOVE)", example = "1")
+    private Long layoutId;
+
+    @Schema(description = "배치할 가구 ID (PLACE)", example = "2")
+    private Long furnitureId;
+
+    @Schema(description = "X 좌표 (PLACE, MOVE)", example = "100")
+    private int positionX;
+
+    @Schema(description = "Y 좌표 (PLACE, MOVE)", example = "200")
+    private int positionY;
+
+    @Schema(description = "회전 각도 (PLACE, MOVE)", example = "90")
+    private int rotation;
+
+    @Schema(description = "클라이언트가 알고 있는 가구 배치 버전 (MOVE, REMOVE / 다르면 409)", example = "2")
+    private Long version;
+}
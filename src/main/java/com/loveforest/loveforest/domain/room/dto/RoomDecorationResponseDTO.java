@@ -35,5 +35,8 @@ public class RoomDecorationResponseDTO {
 
     @Schema(description = "가구 높이", example = "3")
     private int height;
+
+    @Schema(description = "가구 배치 버전 (이동/제거 시 전달)", example = "0")
+    private Long version;
 }
 
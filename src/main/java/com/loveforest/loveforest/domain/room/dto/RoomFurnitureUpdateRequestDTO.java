@@ -19,4 +19,7 @@ public class RoomFurnitureUpdateRequestDTO {
 
     @Schema(description = "새로운 회전 각도", example = "180", required = true)
     private int rotation;
+
+    @Schema(description = "클라이언트가 알고 있는 가구 배치 버전 (다르면 409)", example = "2")
+    private Long version;
 }
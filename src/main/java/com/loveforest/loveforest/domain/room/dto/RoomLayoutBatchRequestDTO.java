@@ -0,0 +1,22 @@
+package com.loveforest.loveforest.domain.room.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "가구 배치 일괄 변경 요청 정보 (요청 순서대로 적용)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomLayoutBatchRequestDTO {
+
+    @Schema(description = "순서대로 적용할 작업 목록", required = true)
+    @NotEmpty
+    @Valid
+    private List<LayoutOperationDTO> operations;
+}
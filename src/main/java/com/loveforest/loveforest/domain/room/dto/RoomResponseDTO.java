@@ -29,6 +29,9 @@ public class RoomResponseDTO {
     @Schema(description = "방 썸네일 이미지 URL")
     private String thumbnailUrl;
 
+    @Schema(description = "방 버전 (벽지/바닥 변경, 상태 적용 시 전달)", example = "3")
+    private Long version;
+
     @Getter
     @AllArgsConstructor
     public static class FurnitureLayoutDTO {
@@ -57,6 +60,9 @@ public class RoomResponseDTO {
 
         @Schema(description = "가구의 높이", example = "30")
         private int height;
+
+        @Schema(description = "가구 배치 버전 (이동/제거 시 전달)", example = "2")
+        private Long version;
     }
 
     @Getter
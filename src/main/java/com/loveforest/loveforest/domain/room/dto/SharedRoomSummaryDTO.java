@@ -0,0 +1,60 @@
+package com.loveforest.loveforest.domain.room.dto;
+
+import com.loveforest.loveforest.domain.couple.entity.CoupleProfile;
+import com.loveforest.loveforest.domain.room.enums.ThumbnailVariant;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 공유 방 피드용 DTO 프로젝션
+ * 커플 표시 이름(비정규화 컬럼), 벽지/바닥 이름을 방 한 건당 한 행으로 받는다.
+ * 가구 이름 목록은 페이지의 방 ID로 따로 조회하여 응답 변환 시 넘긴다.
+ */
+@Getter
+public class SharedRoomSummaryDTO {
+    private final Long roomId;
+    private final Long coupleId;
+    private final LocalDateTime sharedAt;
+    private final String thumbnailUrl;
+    private final String wallpaperName;
+    private final String floorName;
+    private final String coupleName;
+
+    // JPQL 생성자 표현식에서 사용
+    public SharedRoomSummaryDTO(Long roomId, Long coupleId, LocalDateTime sharedAt, String thumbnailUrl,
+                                String wallpaperName, String floorName,
+                                String coupleName) {
+        this.roomId = roomId;
+        this.coupleId = coupleId;
+        this.sharedAt = sharedAt;
+        this.thumbnailUrl = thumbnailUrl;
+        this.wallpaperName = wallpaperName;
+        this.floorName = floorName;
+        this.coupleName = coupleName;
+    }
+
+    public String getCoupleName() {
+        return coupleName != null ? coupleName : CoupleProfile.DEFAULT_NAME;
+    }
+
+    /**
+     * @param furnitureNames 이 방의 가구 이름 (배치 순서)
+     */
+    public SharedRoomResponseDTO toResponse(List<String> furnitureNames) {
+        List<String> names = furnitureNames != null ? furnitureNames : List.of();
+        return SharedRoomResponseDTO.builder()
+                .roomId(roomId)
+                .coupleName(getCoupleName())
+                .roomPreview(RoomPreviewDTO.builder()
+                        .wallpaperName(wallpaperName)
+                        .floorName(floorName)
+                        .furnitureNames(names)
+                        .totalFurniture(names.size())
+                        .build())
+                .sharedAt(sharedAt)
+                .thumbnailUrl(ThumbnailVariant.LIST.urlOf(thumbnailUrl))
+                .build();
+    }
+}
@@ -1,17 +1,20 @@
 package com.loveforest.loveforest.domain.room.entity;
 
+import com.loveforest.loveforest.domain.room.dto.RoomStateDTO;
 import com.loveforest.loveforest.domain.room.enums.RoomStateSource;
+import com.loveforest.loveforest.domain.room.util.RoomStateCodec;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tbl_collection_room")
+@Table(name = "tbl_collection_room", indexes = {
+        // 축출된 썸네일 정리 시 참조 여부 확인용
+        @Index(name = "idx_collection_room_thumbnail_url", columnList = "thumbnail_url")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Builder
-@AllArgsConstructor
 public class CollectionRoom {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,33 +28,68 @@ public class CollectionRoom {
     @Column(nullable = false)
     private RoomStateSource source;
 
-    @Column(columnDefinition = "JSON", nullable = false)
+    // 바이너리 코덱 도입 이전에 저장된 JSON 방 상태 (신규 행은 null)
+    @Column(columnDefinition = "JSON", nullable = true)
     private String roomData;
 
+    // 같은 방 상태를 저장한 행들이 공유하는 내용 주소 방 상태
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "state_blob_id")
+    private RoomStateBlob stateBlob;
+
     @Column(name = "thumbnail_url")
     private String thumbnailUrl;
 
-    @Column(nullable = true)
+    // 목록 커서와 축출 순서의 기준 - 삽입 시 항상 채운다
+    @Column(nullable = false)
     private LocalDateTime savedAt;
 
+    // 마지막으로 현재 방에 적용한 시각 (LRU 축출 기준, 적용한 적 없으면 null)
+    @Column(name = "last_applied_at")
+    private LocalDateTime lastAppliedAt;
+
+    @Embedded
+    private RoomPreview preview;  // 저장 시 계산된 미리보기
+
+    /**
+     * 빌더는 이 생성자를 거치므로 미리보기가 항상 채워진다 (저장 시각은 삽입 시 채운다)
+     *
+     * @param stateBlob 참조 수가 이미 증가된 방 상태 (미리보기도 함께 가져온다)
+     */
     @Builder
-    public CollectionRoom(RoomCollection collection, String roomData, RoomStateSource source, String thumbnailUrl) {
+    public CollectionRoom(RoomCollection collection, RoomStateBlob stateBlob, RoomStateSource source, String thumbnailUrl) {
         this.collection = collection;
-        this.roomData = roomData;
+        this.stateBlob = stateBlob;
+        this.preview = stateBlob.getPreview();
         this.source = source;
         this.thumbnailUrl = thumbnailUrl;
-        this.savedAt = LocalDateTime.now(); // 초기화
     }
 
-    public CollectionRoom(RoomCollection collection, String roomData, RoomStateSource source) {
-        this.collection = collection;
-        this.roomData = roomData;
-        this.source = source;
-        this.savedAt = LocalDateTime.now(); // 기본값 설정
+    /**
+     * 저장된 방 상태 읽기 - 공유 상태가 없으면 기존 JSON으로 대체
+     * (행별 바이너리 room_state는 시작 시 공유 상태로 옮긴다 - CollectionRoomStateMigration)
+     */
+    public RoomStateDTO readState() {
+        if (stateBlob != null) {
+            return stateBlob.readState();
+        }
+        return RoomStateCodec.fromLegacyJson(roomData);
+    }
+
+    @PrePersist
+    void fillSavedAt() {
+        savedAt = LocalDateTime.now();
+    }
+
+    public void markApplied() {
+        this.lastAppliedAt = LocalDateTime.now();
+    }
+
+    public void updatePreview(RoomPreview preview) {
+        this.preview = preview;
     }
 
-    public void updateRoomData(String newRoomData) {
-        this.roomData = newRoomData;
-        this.savedAt = LocalDateTime.now();
+    public boolean hasPreview() {
+        return preview != null && preview.isComputed();
     }
 }
\ No newline at end of file
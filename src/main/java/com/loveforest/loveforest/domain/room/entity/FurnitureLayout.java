@@ -15,11 +15,11 @@ public class FurnitureLayout {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "furniture_id", nullable = false)
     private Furniture furniture; // 배치된 가구
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id", nullable = false)
     private Room room; // 가구가 배치된 방
 
@@ -32,6 +32,10 @@ public class FurnitureLayout {
     @Column(name = "rotation", nullable = false)
     private int rotation; // 가구의 회전 각도
 
+    @Version  // 가구 배치 단위 낙관적 락 (기존 행은 0으로 시작)
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     // 생성자
     public FurnitureLayout(Furniture furniture, int positionX, int positionY, int rotation) {
         this.furniture = furniture;
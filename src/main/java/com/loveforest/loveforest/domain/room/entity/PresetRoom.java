@@ -40,6 +40,10 @@ public class PresetRoom extends BaseTimeEntity {
     @Column(nullable = true)
     private String thumbnailUrl;
 
+    @Version  // 프리셋 목록 ETag 계산에 사용 (기존 행은 0으로 시작)
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     @Builder
     public PresetRoom(String name, Wallpaper wallpaper, Floor floor, String thumbnailUrl) {
         this.name = name;
@@ -1,29 +1,29 @@
 package com.loveforest.loveforest.domain.room.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loveforest.loveforest.domain.couple.entity.Couple;
 import com.loveforest.loveforest.domain.room.dto.FurnitureLayoutDTO;
 import com.loveforest.loveforest.domain.room.dto.RoomStateDTO;
 import com.loveforest.loveforest.domain.room.exception.FurnitureNotFoundException;
 import com.loveforest.loveforest.domain.room.exception.RoomSerializationException;
-import com.loveforest.loveforest.domain.room.repository.FloorRepository;
-import com.loveforest.loveforest.domain.room.repository.FurnitureRepository;
-import com.loveforest.loveforest.domain.room.repository.WallpaperRepository;
+import com.loveforest.loveforest.domain.room.util.FurnitureLayoutDiffer;
+import com.loveforest.loveforest.domain.shop.catalog.CatalogCache;
 import jakarta.persistence.*;
+import org.hibernate.annotations.OptimisticLock;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "tbl_room")
+@Table(name = "tbl_room", indexes = {
+        // 축출된 썸네일 정리 시 참조 여부 확인용
+        @Index(name = "idx_room_thumbnail_url", columnList = "thumbnail_url")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -34,10 +34,12 @@ public class Room {
     private Long id;
 
     @Getter
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "couple_id", nullable = false)
     private Couple couple;  // 커플과 연결된 방
 
+    // 가구 배치는 배치별 버전으로 관리하므로 목록 변경이 방 버전을 올리지 않도록 제외
+    @OptimisticLock(excluded = true)
     @OneToMany(mappedBy = "room", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<FurnitureLayout> furnitureLayouts = new ArrayList<>(); // 방 안의 가구 배치 정보
 
@@ -58,6 +60,14 @@ public class Room {
     @Column(name = "thumbnail_url")
     private String thumbnailUrl;  // S3에 저장된 방 썸네일 이미지 URL
 
+    @Version  // 벽지/바닥 등 방 단위 변경의 낙관적 락 (기존 행은 0으로 시작)
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
+    // 조건부 조회(ETag)용 변경 카운터 - 가구 배치를 포함한 모든 변경 시 원자적 UPDATE로만 증가
+    @Column(name = "revision", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long revision;
+
     public void updateThumbnail(String thumbnailUrl) {
         this.thumbnailUrl = thumbnailUrl;
     }
@@ -71,57 +81,54 @@ public class Room {
         this.sharing.updateSharingStatus(isShared);
     }
 
-    // JSON으로 현재 상태 직렬화
+    // 현재 상태를 RoomStateDTO로 변환 (가구 이름은 카탈로그에서 조회 가능하므로 ID만 사용)
     @JsonIgnore
-    public String serializeState() {
-        RoomStateDTO state = new RoomStateDTO(
+    public RoomStateDTO toStateDTO() {
+        return new RoomStateDTO(
                 this.wallpaper != null ? this.wallpaper.getId() : null, // Wallpaper ID
                 this.floor != null ? this.floor.getId() : null,         // Floor ID
                 this.furnitureLayouts.stream()
-                        .map(FurnitureLayoutDTO::from)
+                        .map(layout -> FurnitureLayoutDTO.builder()
+                                .furnitureId(layout.getFurniture().getId())
+                                .positionX(layout.getPositionX())
+                                .positionY(layout.getPositionY())
+                                .rotation(layout.getRotation())
+                                .build())
                         .collect(Collectors.toList())
         );
-        try {
-            return new ObjectMapper().writeValueAsString(state);
-        } catch (JsonProcessingException e) {
-            throw new RoomSerializationException();
-        }
     }
 
+    /**
+     * 저장된 상태 복원 - 가구 배치는 기존 배치와 비교하여 바뀐 항목만 반영한다.
+     */
+    public FurnitureLayoutDiffer.LayoutDiffResult restoreState(RoomStateDTO state, CatalogCache catalogCache,
+                                                              FurnitureLayoutDiffer layoutDiffer) {
+        // Wallpaper 복원 (카탈로그 캐시로 존재 확인 후 참조만 설정)
+        if (state.getWallpaperId() != null) {
+            this.wallpaper = catalogCache.findWallpaperReference(state.getWallpaperId())
+                    .orElseThrow(RoomSerializationException::new);
+        } else {
+            this.wallpaper = null;
+        }
 
-
-    @Transactional
-    public void restoreState(String roomData, FurnitureRepository furnitureRepository,
-                             WallpaperRepository wallpaperRepository, FloorRepository floorRepository) {
-        try {
-            RoomStateDTO state = new ObjectMapper().readValue(roomData, RoomStateDTO.class);
-
-            // Wallpaper 복원
-            if (state.getWallpaperId() != null) {
-                this.wallpaper = wallpaperRepository.findById(state.getWallpaperId())
-                        .orElseThrow(RoomSerializationException::new);
-            } else {
-                this.wallpaper = null;
-            }
-
-            // Floor 복원
-            if (state.getFloorId() != null) {
-                this.floor = floorRepository.findById(state.getFloorId())
-                        .orElseThrow(RoomSerializationException::new);
-            } else {
-                this.floor = null;
-            }
-
-            // FurnitureLayouts 복원
-            this.furnitureLayouts.clear();
-            state.getFurnitureLayouts().forEach(layoutDTO -> {
-                Furniture furniture = furnitureRepository.findById(layoutDTO.getFurnitureId())
-                        .orElseThrow(FurnitureNotFoundException::new);
-                this.furnitureLayouts.add(layoutDTO.toEntity(this, furniture));
-            });
-        } catch (JsonProcessingException e) {
-            throw new RoomSerializationException();
+        // Floor 복원
+        if (state.getFloorId() != null) {
+            this.floor = catalogCache.findFloorReference(state.getFloorId())
+                    .orElseThrow(RoomSerializationException::new);
+        } else {
+            this.floor = null;
         }
+
+        // FurnitureLayouts 복원
+        List<FurnitureLayoutDiffer.LayoutTarget> targets = state.getFurnitureLayouts().stream()
+                .map(layoutDTO -> new FurnitureLayoutDiffer.LayoutTarget(
+                        catalogCache.findFurnitureReference(layoutDTO.getFurnitureId())
+                                .orElseThrow(FurnitureNotFoundException::new),
+                        layoutDTO.getPositionX(),
+                        layoutDTO.getPositionY(),
+                        layoutDTO.getRotation()))
+                .collect(Collectors.toList());
+        return layoutDiffer.apply(this, targets, "collection");
     }
 
 
@@ -1,7 +1,6 @@
 package com.loveforest.loveforest.domain.room.entity;
 
 import com.loveforest.loveforest.domain.couple.entity.Couple;
-import com.loveforest.loveforest.domain.room.enums.RoomStateSource;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -26,12 +25,11 @@ public class RoomCollection {
     @OneToMany(mappedBy = "collection", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CollectionRoom> savedRooms = new ArrayList<>();
 
+    // 조건부 조회(ETag)용 변경 카운터 - 저장된 방이 추가/삭제될 때 원자적 UPDATE로만 증가
+    @Column(name = "revision", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long revision;
+
     public RoomCollection(Couple couple) {
         this.couple = couple;
     }
-
-    public void addRoom(Room room, RoomStateSource source) {
-        CollectionRoom collectionRoom = new CollectionRoom(this, room.serializeState(), source);
-        this.savedRooms.add(collectionRoom);
-    }
 }
\ No newline at end of file
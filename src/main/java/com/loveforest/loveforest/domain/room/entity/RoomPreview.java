@@ -0,0 +1,66 @@
+package com.loveforest.loveforest.domain.room.entity;
+
+import com.loveforest.loveforest.domain.room.dto.RoomPreviewDTO;
+import com.loveforest.loveforest.domain.room.util.StringListConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 저장 시점에 계산해 두는 방 미리보기 정보
+ * 컬렉션 목록 조회 시 방 상태 JSON을 파싱하지 않도록 CollectionRoom에 함께 저장한다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RoomPreview {
+
+    @Column(name = "preview_wallpaper_name")
+    private String wallpaperName;
+
+    @Column(name = "preview_floor_name")
+    private String floorName;
+
+    @Convert(converter = StringListConverter.class)
+    @Column(name = "preview_furniture_names", columnDefinition = "TEXT")
+    private List<String> furnitureNames;
+
+    // null이면 아직 계산되지 않은 행 (백필 대상)
+    @Column(name = "preview_total_furniture")
+    private Integer totalFurniture;
+
+    private RoomPreview(String wallpaperName, String floorName, List<String> furnitureNames) {
+        this.wallpaperName = wallpaperName;
+        this.floorName = floorName;
+        this.furnitureNames = new ArrayList<>(furnitureNames);
+        this.totalFurniture = furnitureNames.size();
+    }
+
+    public static RoomPreview from(RoomPreviewDTO dto) {
+        return new RoomPreview(dto.getWallpaperName(), dto.getFloorName(),
+                dto.getFurnitureNames() != null ? dto.getFurnitureNames() : List.of());
+    }
+
+    public static RoomPreview empty() {
+        return new RoomPreview(null, null, List.of());
+    }
+
+    public boolean isComputed() {
+        return totalFurniture != null;
+    }
+
+    public RoomPreviewDTO toDTO() {
+        return RoomPreviewDTO.builder()
+                .wallpaperName(wallpaperName)
+                .floorName(floorName)
+                .furnitureNames(furnitureNames != null ? furnitureNames : List.of())
+                .totalFurniture(totalFurniture != null ? totalFurniture : 0)
+                .build();
+    }
+}
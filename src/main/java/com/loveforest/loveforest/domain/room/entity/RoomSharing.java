@@ -8,7 +8,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tbl_room_sharing")
+@Table(name = "tbl_room_sharing", indexes = {
+        @Index(name = "idx_room_sharing_shared_modified", columnList = "is_shared, last_modified")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RoomSharing {
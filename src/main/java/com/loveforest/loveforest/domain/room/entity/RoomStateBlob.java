@@ -0,0 +1,55 @@
+package com.loveforest.loveforest.domain.room.entity;
+
+import com.loveforest.loveforest.domain.room.dto.RoomStateDTO;
+import com.loveforest.loveforest.domain.room.util.RoomStateCodec;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소 방 상태 저장소
+ * 정규 인코딩한 방 상태의 SHA-256 해시로 식별하며, 같은 방을 저장한 CollectionRoom 행들이 한 행을 공유한다.
+ * 미리보기도 서로 다른 상태마다 한 번만 계산해 둔다.
+ */
+@Entity
+@Table(name = "tbl_room_state_blob",
+        uniqueConstraints = @UniqueConstraint(name = "uk_room_state_blob_hash", columnNames = "content_hash"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RoomStateBlob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 정규 인코딩의 SHA-256 (16진수)
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Lob
+    @Column(name = "room_state", nullable = false)
+    private byte[] roomState;
+
+    @Embedded
+    private RoomPreview preview;
+
+    // 이 상태를 참조하는 CollectionRoom 수 - 원자적 UPDATE로만 변경
+    @Column(name = "ref_count", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long refCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public RoomStateBlob(String contentHash, byte[] roomState, RoomPreview preview) {
+        this.contentHash = contentHash;
+        this.roomState = roomState;
+        this.preview = preview;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public RoomStateDTO readState() {
+        return RoomStateCodec.decode(roomState);
+    }
+}
@@ -0,0 +1,18 @@
+package com.loveforest.loveforest.domain.room.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum LayoutOperationType {
+    PLACE("배치", "보유한 가구를 새로 배치합니다."),
+    MOVE("이동", "배치된 가구의 위치와 회전을 변경합니다."),
+    REMOVE("제거", "배치된 가구를 제거합니다.");
+
+    private final String title;
+    private final String description;
+
+    LayoutOperationType(String title, String description) {
+        this.title = title;
+        this.description = description;
+    }
+}
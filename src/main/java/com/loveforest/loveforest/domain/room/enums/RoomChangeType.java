@@ -0,0 +1,22 @@
+package com.loveforest.loveforest.domain.room.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum RoomChangeType {
+    LAYOUT_PLACED("가구 배치", "새 가구가 배치되었습니다."),
+    LAYOUT_MOVED("가구 이동", "배치된 가구의 위치나 회전이 바뀌었습니다."),
+    LAYOUT_REMOVED("가구 제거", "배치된 가구가 제거되었습니다."),
+    WALLPAPER_CHANGED("벽지 변경", "벽지가 변경되거나 제거되었습니다."),
+    FLOOR_CHANGED("바닥 변경", "바닥이 변경되거나 제거되었습니다."),
+    SHARING_CHANGED("공유 변경", "방 공유 상태가 바뀌었습니다."),
+    ROOM_REPLACED("방 전체 변경", "저장된 방이나 프리셋이 적용되어 방 상태를 다시 조회해야 합니다.");
+
+    private final String title;
+    private final String description;
+
+    RoomChangeType(String title, String description) {
+        this.title = title;
+        this.description = description;
+    }
+}
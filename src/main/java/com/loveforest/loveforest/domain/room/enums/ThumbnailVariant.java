@@ -0,0 +1,49 @@
+package com.loveforest.loveforest.domain.room.enums;
+
+import lombok.Getter;
+
+/**
+ * 방 썸네일 크기별 변형
+ * 방/컬렉션에는 DETAIL 변형 URL을 저장하고, 목록 응답에서는 같은 이름의 LIST 변형 URL로 바꿔 내려준다.
+ */
+@Getter
+public enum ThumbnailVariant {
+    LIST("_list", 320, 240),
+    DETAIL("_detail", 960, 720);
+
+    private final String suffix;
+    private final int maxWidth;
+    private final int maxHeight;
+
+    ThumbnailVariant(String suffix, int maxWidth, int maxHeight) {
+        this.suffix = suffix;
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+    }
+
+    /**
+     * 변형 파일 이름 - 확장자는 원본 이미지 형식을 따른다 (.jpg, .png 등)
+     */
+    public String fileNameOf(String baseName, String extension) {
+        return baseName + suffix + extension;
+    }
+
+    /**
+     * 저장된 썸네일 URL을 이 변형의 URL로 변환
+     * 파이프라인 도입 이전 썸네일, 프리셋 썸네일처럼 변형이 없는 URL은 그대로 반환한다.
+     */
+    public String urlOf(String storedUrl) {
+        if (storedUrl == null) {
+            return null;
+        }
+        int dot = storedUrl.lastIndexOf('.');
+        if (dot < 0 || storedUrl.indexOf('/', dot) >= 0) {
+            return storedUrl;
+        }
+        String stem = storedUrl.substring(0, dot);
+        if (!stem.endsWith(DETAIL.suffix)) {
+            return storedUrl;
+        }
+        return stem.substring(0, stem.length() - DETAIL.suffix.length()) + suffix + storedUrl.substring(dot);
+    }
+}
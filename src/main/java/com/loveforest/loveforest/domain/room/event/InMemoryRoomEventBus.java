@@ -0,0 +1,28 @@
+package com.loveforest.loveforest.domain.room.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * 같은 프로세스의 리스너에게 바로 전달 (단일 서버용)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class InMemoryRoomEventBus implements RoomEventBus {
+
+    private final List<RoomChangeListener> listeners;
+
+    @Override
+    public void publish(RoomChangeEvent event) {
+        for (RoomChangeListener listener : listeners) {
+            try {
+                listener.onRoomChange(event);
+            } catch (RuntimeException e) {
+                // 한 리스너의 실패가 다른 리스너 전달을 막지 않도록 한다
+                log.warn("방 변경 이벤트 처리 실패 - roomId: {}, type: {}", event.getRoomId(), event.getType(), e);
+            }
+        }
+    }
+}
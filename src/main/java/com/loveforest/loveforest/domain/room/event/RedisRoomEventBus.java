@@ -0,0 +1,54 @@
+package com.loveforest.loveforest.domain.room.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.loveforest.loveforest.config.JsonMappers;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Redis pub/sub으로 모든 서버에 전달 (여러 서버 운영용)
+ * 발행한 서버도 채널 메시지를 받아 전달하므로 로컬 리스너에게 직접 보내지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisRoomEventBus implements RoomEventBus, MessageListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final List<RoomChangeListener> listeners;
+    private final String channel;
+
+    @Override
+    public void publish(RoomChangeEvent event) {
+        try {
+            redisTemplate.convertAndSend(channel, JsonMappers.ROOM_CHANGE_EVENT_WRITER.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            log.error("방 변경 이벤트 직렬화 실패 - roomId: {}, type: {}", event.getRoomId(), event.getType(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RoomChangeEvent event;
+        try {
+            event = JsonMappers.ROOM_CHANGE_EVENT_READER.readValue(message.getBody());
+        } catch (IOException e) {
+            log.warn("방 변경 이벤트 메시지 해석 실패 - channel: {}", channel, e);
+            return;
+        }
+
+        for (RoomChangeListener listener : listeners) {
+            try {
+                listener.onRoomChange(event);
+            } catch (RuntimeException e) {
+                // 한 리스너의 실패가 다른 리스너 전달을 막지 않도록 한다
+                log.warn("방 변경 이벤트 처리 실패 - roomId: {}, type: {}", event.getRoomId(), event.getType(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.loveforest.loveforest.domain.room.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.loveforest.loveforest.domain.room.entity.FurnitureLayout;
+import com.loveforest.loveforest.domain.room.entity.Room;
+import com.loveforest.loveforest.domain.room.enums.RoomChangeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 방 변경 이벤트 (실시간 스트림으로 전달되는 변경분)
+ * 바뀐 항목만 담으며, 값이 없는 필드는 직렬화하지 않는다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "방 변경 이벤트")
+public class RoomChangeEvent {
+
+    @Schema(description = "방 ID", example = "1")
+    private Long roomId;
+
+    @Schema(description = "변경 종류", example = "LAYOUT_MOVED")
+    private RoomChangeType type;
+
+    @Schema(description = "변경 후 버전 (가구 변경은 가구 배치 버전, 그 외는 방 버전)", example = "3")
+    private Long version;
+
+    @Schema(description = "가구 배치 ID", example = "10")
+    private Long layoutId;
+
+    @Schema(description = "가구 ID", example = "2")
+    private Long furnitureId;
+
+    @Schema(description = "X 좌표", example = "5")
+    private Integer positionX;
+
+    @Schema(description = "Y 좌표", example = "3")
+    private Integer positionY;
+
+    @Schema(description = "회전 각도", example = "90")
+    private Integer rotation;
+
+    @Schema(description = "벽지 ID (제거되면 null)", example = "1")
+    private Long wallpaperId;
+
+    @Schema(description = "바닥 ID (제거되면 null)", example = "1")
+    private Long floorId;
+
+    @Schema(description = "공유 여부", example = "true")
+    private Boolean isShared;
+
+    @Schema(description = "이벤트 발생 시각 (epoch millis)", example = "1735689600000")
+    private long occurredAt;
+
+    public static RoomChangeEvent layoutPlaced(FurnitureLayout layout) {
+        return layoutEvent(RoomChangeType.LAYOUT_PLACED, layout);
+    }
+
+    public static RoomChangeEvent layoutMoved(FurnitureLayout layout) {
+        return layoutEvent(RoomChangeType.LAYOUT_MOVED, layout);
+    }
+
+    public static RoomChangeEvent layoutRemoved(Long roomId, Long layoutId) {
+        return RoomChangeEvent.builder()
+                .roomId(roomId)
+                .type(RoomChangeType.LAYOUT_REMOVED)
+                .layoutId(layoutId)
+                .occurredAt(System.currentTimeMillis())
+                .build();
+    }
+
+    // 벽지/바닥 연관은 프록시일 수 있으나 ID 조회는 초기화를 일으키지 않는다
+    public static RoomChangeEvent wallpaperChanged(Room room) {
+        return roomEvent(RoomChangeType.WALLPAPER_CHANGED, room)
+                .wallpaperId(room.getWallpaper() != null ? room.getWallpaper().getId() : null)
+                .build();
+    }
+
+    public static RoomChangeEvent floorChanged(Room room) {
+        return roomEvent(RoomChangeType.FLOOR_CHANGED, room)
+                .floorId(room.getFloor() != null ? room.getFloor().getId() : null)
+                .build();
+    }
+
+    public static RoomChangeEvent sharingChanged(Room room, boolean isShared) {
+        return roomEvent(RoomChangeType.SHARING_CHANGED, room)
+                .isShared(isShared)
+                .build();
+    }
+
+    public static RoomChangeEvent roomReplaced(Room room) {
+        return roomEvent(RoomChangeType.ROOM_REPLACED, room).build();
+    }
+
+    private static RoomChangeEvent layoutEvent(RoomChangeType type, FurnitureLayout layout) {
+        return RoomChangeEvent.builder()
+                .roomId(layout.getRoom().getId())
+                .type(type)
+                .version(layout.getVersion())
+                .layoutId(layout.getId())
+                .furnitureId(layout.getFurniture().getId())
+                .positionX(layout.getPositionX())
+                .positionY(layout.getPositionY())
+                .rotation(layout.getRotation())
+                .occurredAt(System.currentTimeMillis())
+                .build();
+    }
+
+    private static RoomChangeEventBuilder roomEvent(RoomChangeType type, Room room) {
+        return RoomChangeEvent.builder()
+                .roomId(room.getId())
+                .type(type)
+                .version(room.getVersion())
+                .occurredAt(System.currentTimeMillis());
+    }
+}
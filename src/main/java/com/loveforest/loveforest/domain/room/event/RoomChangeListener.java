@@ -0,0 +1,10 @@
+package com.loveforest.loveforest.domain.room.event;
+
+/**
+ * 이벤트 버스가 전달한 방 변경을 받는 쪽 (스트림 구독자 전송, 서버별 인메모리 인덱스 갱신)
+ * redis 버스에서는 다른 서버에서 발행한 변경도 전달되므로 서버마다 같은 상태로 수렴한다.
+ */
+public interface RoomChangeListener {
+
+    void onRoomChange(RoomChangeEvent event);
+}
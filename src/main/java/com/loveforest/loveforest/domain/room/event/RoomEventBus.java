@@ -0,0 +1,12 @@
+package com.loveforest.loveforest.domain.room.event;
+
+/**
+ * 방 변경 이벤트 전파 경로
+ * 단일 서버에서는 같은 프로세스의 구독자에게 바로 전달하고,
+ * 여러 서버로 운영할 때는 Redis pub/sub으로 모든 서버의 구독자에게 전달한다.
+ * (room.events.bus: memory | redis)
+ */
+public interface RoomEventBus {
+
+    void publish(RoomChangeEvent event);
+}
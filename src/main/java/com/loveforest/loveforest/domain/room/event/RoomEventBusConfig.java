@@ -0,0 +1,44 @@
+package com.loveforest.loveforest.domain.room.event;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+/**
+ * 방 변경 이벤트 버스 선택 (room.events.bus, 기본값 memory)
+ */
+@Configuration
+public class RoomEventBusConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "room.events.bus", havingValue = "memory", matchIfMissing = true)
+    public RoomEventBus inMemoryRoomEventBus(List<RoomChangeListener> listeners) {
+        return new InMemoryRoomEventBus(listeners);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "room.events.bus", havingValue = "redis")
+    public RedisRoomEventBus redisRoomEventBus(StringRedisTemplate redisTemplate,
+                                               List<RoomChangeListener> listeners,
+                                               @Value("${room.events.channel:room-events}") String channel) {
+        return new RedisRoomEventBus(redisTemplate, listeners, channel);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "room.events.bus", havingValue = "redis")
+    public RedisMessageListenerContainer roomEventListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                   RedisRoomEventBus redisRoomEventBus,
+                                                                   @Value("${room.events.channel:room-events}") String channel) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisRoomEventBus, new ChannelTopic(channel));
+        return container;
+    }
+}
@@ -0,0 +1,89 @@
+package com.loveforest.loveforest.domain.room.event;
+
+import com.loveforest.loveforest.domain.room.repository.RoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 방 변경 기록 및 이벤트 발행
+ * 방 리비전(조건부 조회 ETag 기준)과 이벤트 모두 커밋 이후에 반영하므로 롤백된 변경은 전달되지 않고,
+ * flush 시 증가한 버전이 이벤트에 담긴다.
+ * 리비전은 편집 트랜잭션 밖의 짧은 트랜잭션에서 올려, 같은 방의 서로 다른 가구 편집이 방 행에서 기다리지 않는다.
+ * (커밋 직후 리비전이 오르기 전까지의 짧은 사이에는 이전 ETag로 304가 나갈 수 있다)
+ * 발행 실패는 요청 결과에 영향을 주지 않는다. (클라이언트는 재연결 시 전체 상태를 다시 조회)
+ */
+@Slf4j
+@Component
+public class RoomEventPublisher {
+
+    private final RoomEventBus roomEventBus;
+    private final RoomRepository roomRepository;
+    private final TransactionTemplate revisionTx;
+
+    public RoomEventPublisher(RoomEventBus roomEventBus,
+                              RoomRepository roomRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.roomEventBus = roomEventBus;
+        this.roomRepository = roomRepository;
+        this.revisionTx = new TransactionTemplate(transactionManager);
+        // afterCommit 콜백에서 호출되므로 항상 새 트랜잭션에서 올린다
+        this.revisionTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 방 변경 기록 - 커밋 이후 리비전 증가와 이벤트 발행
+     */
+    public void roomChanged(Long roomId, Supplier<RoomChangeEvent> event) {
+        touch(roomId);
+        publishAfterCommit(event);
+    }
+
+    /**
+     * 커밋 이후 리비전만 증가 (썸네일 변경, 여러 이벤트를 묶어 발행하는 경우)
+     * 원자적 UPDATE이므로 동시 편집에서도 증가분이 유실되지 않는다.
+     */
+    public void touch(Long roomId) {
+        afterCommit(() -> incrementRevision(roomId));
+    }
+
+    public void publishAfterCommit(Supplier<RoomChangeEvent> event) {
+        afterCommit(() -> publish(event));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void incrementRevision(Long roomId) {
+        try {
+            revisionTx.executeWithoutResult(status -> roomRepository.incrementRevision(roomId));
+        } catch (RuntimeException e) {
+            // 변경은 이미 커밋되었으므로 요청은 성공으로 두고, 다음 변경에서 리비전이 다시 오른다
+            log.warn("방 리비전 증가 실패 - roomId: {}", roomId, e);
+        }
+    }
+
+    private void publish(Supplier<RoomChangeEvent> event) {
+        try {
+            roomEventBus.publish(event.get());
+        } catch (RuntimeException e) {
+            log.warn("방 변경 이벤트 발행 실패", e);
+        }
+    }
+}
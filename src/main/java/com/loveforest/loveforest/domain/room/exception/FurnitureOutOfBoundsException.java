@@ -0,0 +1,10 @@
+package com.loveforest.loveforest.domain.room.exception;
+
+import com.loveforest.loveforest.exception.CustomException;
+import com.loveforest.loveforest.exception.ErrorCode;
+
+public class FurnitureOutOfBoundsException extends CustomException {
+    public FurnitureOutOfBoundsException() {
+        super(ErrorCode.FURNITURE_OUT_OF_BOUNDS);
+    }
+}
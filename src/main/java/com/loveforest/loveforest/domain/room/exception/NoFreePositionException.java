@@ -0,0 +1,10 @@
+package com.loveforest.loveforest.domain.room.exception;
+
+import com.loveforest.loveforest.exception.CustomException;
+import com.loveforest.loveforest.exception.ErrorCode;
+
+public class NoFreePositionException extends CustomException {
+    public NoFreePositionException() {
+        super(ErrorCode.NO_FREE_POSITION);
+    }
+}
@@ -0,0 +1,18 @@
+package com.loveforest.loveforest.domain.room.exception;
+
+import com.loveforest.loveforest.exception.CustomException;
+import com.loveforest.loveforest.exception.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 클라이언트가 보낸 버전이 현재 버전과 다른 경우 (다른 사용자가 먼저 수정함)
+ */
+@Getter
+public class RoomVersionConflictException extends CustomException {
+    private final Long currentVersion;
+
+    public RoomVersionConflictException(Long currentVersion) {
+        super(ErrorCode.ROOM_VERSION_CONFLICT);
+        this.currentVersion = currentVersion;
+    }
+}
@@ -1,11 +1,15 @@
 package com.loveforest.loveforest.domain.room.repository;
 
+import com.loveforest.loveforest.domain.room.dto.CollectionRoomResponseDTO;
 import com.loveforest.loveforest.domain.room.entity.CollectionRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -15,5 +19,60 @@ public interface CollectionRoomRepository extends JpaRepository<CollectionRoom,
     @Query("SELECT cr FROM CollectionRoom cr WHERE cr.collection.couple.id = :coupleId")
     List<CollectionRoom> findByCollectionCoupleId(@Param("coupleId") Long coupleId);
 
+    // 컬렉션 목록 조회용 - 방 상태 JSON 없이 저장된 미리보기 컬럼만 조회 (최신 저장 순)
+    String COLLECTION_RESPONSE_SELECT =
+            "SELECT new com.loveforest.loveforest.domain.room.dto.CollectionRoomResponseDTO(" +
+            "cr.id, cr.source, cr.savedAt, cr.thumbnailUrl, cr.preview) " +
+            "FROM CollectionRoom cr WHERE cr.collection.couple.id = :coupleId ";
 
+    @Query(COLLECTION_RESPONSE_SELECT + "ORDER BY cr.savedAt DESC, cr.id DESC")
+    List<CollectionRoomResponseDTO> findResponsesByCoupleId(@Param("coupleId") Long coupleId, Pageable pageable);
+
+    // 컬렉션 목록 다음 페이지 (커서 이후)
+    @Query(COLLECTION_RESPONSE_SELECT +
+            "AND (cr.savedAt < :cursorSavedAt OR (cr.savedAt = :cursorSavedAt AND cr.id < :cursorId)) " +
+            "ORDER BY cr.savedAt DESC, cr.id DESC")
+    List<CollectionRoomResponseDTO> findResponsesByCoupleIdAfter(@Param("coupleId") Long coupleId,
+                                                                 @Param("cursorSavedAt") LocalDateTime cursorSavedAt,
+                                                                 @Param("cursorId") Long cursorId,
+                                                                 Pageable pageable);
+
+    long countByCollectionId(Long collectionId);
+
+    // 축출 대상 - 오래 저장된 순
+    @Query("SELECT cr FROM CollectionRoom cr WHERE cr.collection.id = :collectionId " +
+            "ORDER BY cr.savedAt ASC, cr.id ASC")
+    List<CollectionRoom> findOldestByCollectionId(@Param("collectionId") Long collectionId, Pageable pageable);
+
+    // 축출 대상 - 마지막으로 적용한 지 오래된 순 (적용한 적 없으면 저장 시각 기준)
+    @Query("SELECT cr FROM CollectionRoom cr WHERE cr.collection.id = :collectionId " +
+            "ORDER BY COALESCE(cr.lastAppliedAt, cr.savedAt) ASC, cr.id ASC")
+    List<CollectionRoom> findLeastRecentlyAppliedByCollectionId(@Param("collectionId") Long collectionId,
+                                                                Pageable pageable);
+
+    boolean existsByThumbnailUrl(String thumbnailUrl);
+
+    // 저장 시각이 NOT NULL이 되기 전에 저장된 이전 행 - 페이지 커서가 null 시각을 다루지 않도록 채운다
+    @Modifying
+    @Query("UPDATE CollectionRoom cr SET cr.savedAt = :now WHERE cr.savedAt IS NULL")
+    int fillMissingSavedAt(@Param("now") LocalDateTime now);
+
+    // 미리보기 백필 대상 ID (ID 순 keyset)
+    @Query("SELECT cr.id FROM CollectionRoom cr " +
+            "WHERE cr.preview.totalFurniture IS NULL AND cr.id > :lastId ORDER BY cr.id")
+    List<Long> findIdsWithoutPreview(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 내용 주소 저장소 이전에 행마다 저장한 바이너리 방 상태 (ID, room_state) - 엔티티에서 제거된 컬럼이므로 네이티브 쿼리
+    @Query(value = "SELECT id, room_state FROM tbl_collection_room " +
+            "WHERE room_state IS NOT NULL AND id > :lastId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Object[]> findLegacyRoomStates(@Param("lastId") Long lastId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE tbl_collection_room SET state_blob_id = :blobId, room_state = NULL WHERE id = :id",
+            nativeQuery = true)
+    int moveLegacyRoomState(@Param("id") Long id, @Param("blobId") Long blobId);
+
+    @Modifying
+    @Query(value = "ALTER TABLE tbl_collection_room DROP COLUMN room_state", nativeQuery = true)
+    void dropLegacyRoomStateColumn();
 }
@@ -2,6 +2,21 @@ package com.loveforest.loveforest.domain.room.repository;
 
 import com.loveforest.loveforest.domain.room.entity.FurnitureLayout;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface FurnitureLayoutRepository extends JpaRepository<FurnitureLayout, Long> {
-}
\ No newline at end of file
+
+    // 공유 방 피드용 가구 이름 (방 ID, 가구 이름) - 페이지의 방들을 IN 쿼리 한 번으로, 방별 배치 순서대로
+    @Query("SELECT fl.room.id, fu.name FROM FurnitureLayout fl JOIN fl.furniture fu " +
+            "WHERE fl.room.id IN :roomIds ORDER BY fl.room.id, fl.id")
+    List<Object[]> findFurnitureNamesByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    // 점유 격자 생성용 배치 좌표 (배치 ID, 가구 ID, X, Y, 회전) - 엔티티를 로딩하지 않는다
+    @Query("SELECT fl.id, fl.furniture.id, fl.positionX, fl.positionY, fl.rotation " +
+            "FROM FurnitureLayout fl WHERE fl.room.id = :roomId")
+    List<Object[]> findPlacementsByRoomId(@Param("roomId") Long roomId);
+}
@@ -1,12 +1,30 @@
 package com.loveforest.loveforest.domain.room.repository;
 
 import com.loveforest.loveforest.domain.room.entity.PresetRoom;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PresetRoomRepository extends JpaRepository<PresetRoom, Long> {
     List<PresetRoom> findAllByOrderByCreatedAtDesc();
+
+    // 프리셋 목록 조회용 - 벽지, 바닥, 가구 배치를 한 번에 로딩
+    @Override
+    @EntityGraph(attributePaths = {"wallpaper", "floor", "furnitureLayouts", "furnitureLayouts.furniture"})
+    List<PresetRoom> findAll();
+
+    // 프리셋 목록 조건부 조회용 (프리셋 수, 최대 ID, 버전 합)
+    @Query("SELECT COUNT(p), COALESCE(MAX(p.id), 0), COALESCE(SUM(p.version), 0) FROM PresetRoom p")
+    List<Object[]> findFingerprint();
+
+    // 프리셋 적용용
+    @EntityGraph(attributePaths = {"wallpaper", "floor", "furnitureLayouts", "furnitureLayouts.furniture"})
+    @Query("SELECT p FROM PresetRoom p WHERE p.id = :presetId")
+    Optional<PresetRoom> findWithLayoutsById(@Param("presetId") Long presetId);
 }
\ No newline at end of file
@@ -2,6 +2,9 @@ package com.loveforest.loveforest.domain.room.repository;
 
 import com.loveforest.loveforest.domain.room.entity.RoomCollection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,4 +12,13 @@ import java.util.Optional;
 @Repository
 public interface RoomCollectionRepository extends JpaRepository<RoomCollection, Long> {
     Optional<RoomCollection> findByCoupleId(Long coupleId);
+
+    // 저장된 방 추가/삭제 시 변경 카운터 증가
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RoomCollection c SET c.revision = c.revision + 1 WHERE c.id = :collectionId")
+    int incrementRevision(@Param("collectionId") Long collectionId);
+
+    // 조건부 조회용 변경 카운터
+    @Query("SELECT c.revision FROM RoomCollection c WHERE c.couple.id = :coupleId")
+    Optional<Long> findRevisionByCoupleId(@Param("coupleId") Long coupleId);
 }
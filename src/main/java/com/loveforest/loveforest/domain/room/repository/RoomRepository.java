@@ -1,16 +1,89 @@
 package com.loveforest.loveforest.domain.room.repository;
 
+import com.loveforest.loveforest.domain.room.dto.SharedRoomSummaryDTO;
 import com.loveforest.loveforest.domain.room.entity.Room;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface RoomRepository extends JpaRepository<Room, Long> {
+
+    // 방 한 건당 한 행만 반환한다 (가구 이름은 페이지의 방 ID로 따로 조회 - FurnitureLayoutRepository)
+    String SHARED_ROOM_SUMMARY_SELECT =
+            "SELECT new com.loveforest.loveforest.domain.room.dto.SharedRoomSummaryDTO(" +
+            "r.id, c.id, s.lastModified, r.thumbnailUrl, w.name, f.name, c.profile.displayName) " +
+            "FROM Room r JOIN r.sharing s JOIN r.couple c LEFT JOIN r.wallpaper w LEFT JOIN r.floor f ";
+
     Optional<Room> findByCoupleId(Long coupleId); // 커플 ID로 방 조회
 
+    boolean existsByThumbnailUrl(String thumbnailUrl);
+
     @Query("SELECT r FROM Room r JOIN r.sharing s WHERE s.isShared = true")
     List<Room> findBySharing_IsSharedTrue();
 
+    // 공유 방 인덱스 구성용 (방 ID, 커플 ID)
+    @Query("SELECT r.id, r.couple.id FROM Room r JOIN r.sharing s WHERE s.isShared = true")
+    List<Object[]> findSharedRoomKeys();
+
+    // 방 하나의 공유 인덱스 키 (공유되지 않았으면 빈 목록)
+    @Query("SELECT r.id, r.couple.id FROM Room r JOIN r.sharing s WHERE r.id = :roomId AND s.isShared = true")
+    List<Object[]> findSharedRoomKeyById(@Param("roomId") Long roomId);
+
+    // 방 변경 카운터 증가 (벽지/바닥 @Version과 별개로 가구 배치 변경까지 포함)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Room r SET r.revision = r.revision + 1 WHERE r.id = :roomId")
+    int incrementRevision(@Param("roomId") Long roomId);
+
+    // 조건부 조회용 - 방 엔티티와 가구 배치를 로딩하지 않고 변경 카운터만 조회
+    @Query("SELECT r.revision FROM Room r WHERE r.couple.id = :coupleId")
+    Optional<Long> findRevisionByCoupleId(@Param("coupleId") Long coupleId);
+
+    // 공유 방 피드 조건부 조회용 (방 수, 마지막 공유 변경 시각, 변경 카운터 합, 커플 표시 정보 마지막 변경 시각)
+    @Query("SELECT COUNT(r), MAX(s.lastModified), COALESCE(SUM(r.revision), 0), MAX(c.profileUpdatedAt) " +
+            "FROM Room r JOIN r.sharing s JOIN r.couple c WHERE s.isShared = true AND c.id <> :coupleId")
+    List<Object[]> findSharedRoomsFingerprint(@Param("coupleId") Long coupleId);
+
+    // 실시간 스트림 구독용 (방 ID, 공유 여부) - 방 엔티티를 로딩하지 않는다
+    @Query("SELECT r.id, s.isShared FROM Room r LEFT JOIN r.sharing s WHERE r.couple.id = :coupleId")
+    List<Object[]> findStreamKeyByCoupleId(@Param("coupleId") Long coupleId);
+
+    // 방 상태 조회/수정용 - 벽지, 바닥, 가구 배치를 한 번에 로딩
+    @EntityGraph(attributePaths = {"sharing", "wallpaper", "floor",
+            "furnitureLayouts", "furnitureLayouts.furniture"})
+    @Query("SELECT r FROM Room r WHERE r.couple.id = :coupleId")
+    Optional<Room> findWithLayoutsByCoupleId(@Param("coupleId") Long coupleId);
+
+    // 랜덤 방 조회용 - 방 하나를 커플, 가구 배치와 함께 한 번에 로딩
+    @EntityGraph(attributePaths = {"couple", "sharing", "wallpaper", "floor",
+            "furnitureLayouts", "furnitureLayouts.furniture"})
+    @Query("SELECT r FROM Room r WHERE r.id = :roomId")
+    Optional<Room> findWithLayoutsById(@Param("roomId") Long roomId);
+
+    // 공유 방 피드 첫 페이지 (공유 시각, 방 ID 내림차순)
+    @Query(SHARED_ROOM_SUMMARY_SELECT +
+            "WHERE s.isShared = true AND c.id <> :coupleId " +
+            "ORDER BY s.lastModified DESC, r.id DESC")
+    List<SharedRoomSummaryDTO> findSharedRoomSummaries(@Param("coupleId") Long coupleId, Pageable pageable);
+
+    // 인기 방 목록 - 순위 인덱스가 고른 방만 기본 키로 조회
+    @Query(SHARED_ROOM_SUMMARY_SELECT + "WHERE s.isShared = true AND r.id IN :roomIds")
+    List<SharedRoomSummaryDTO> findSharedRoomSummariesByIds(@Param("roomIds") Collection<Long> roomIds);
+
+    // 공유 방 피드 다음 페이지 (커서 이후)
+    @Query(SHARED_ROOM_SUMMARY_SELECT +
+            "WHERE s.isShared = true AND c.id <> :coupleId " +
+            "AND (s.lastModified < :cursorSharedAt OR (s.lastModified = :cursorSharedAt AND r.id < :cursorRoomId)) " +
+            "ORDER BY s.lastModified DESC, r.id DESC")
+    List<SharedRoomSummaryDTO> findSharedRoomSummariesAfter(@Param("coupleId") Long coupleId,
+                                                            @Param("cursorSharedAt") LocalDateTime cursorSharedAt,
+                                                            @Param("cursorRoomId") Long cursorRoomId,
+                                                            Pageable pageable);
 }
@@ -0,0 +1,32 @@
+package com.loveforest.loveforest.domain.room.repository;
+
+import com.loveforest.loveforest.domain.room.entity.RoomStateBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface RoomStateBlobRepository extends JpaRepository<RoomStateBlob, Long> {
+
+    Optional<RoomStateBlob> findByContentHash(String contentHash);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RoomStateBlob b SET b.refCount = b.refCount + 1 WHERE b.id = :blobId")
+    int incrementRefCount(@Param("blobId") Long blobId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RoomStateBlob b SET b.refCount = b.refCount - 1 WHERE b.id IN :blobIds AND b.refCount > 0")
+    int decrementRefCounts(@Param("blobIds") Collection<Long> blobIds);
+
+    // 참조가 없는 상태 정리 - 생성 직후(참조 증가 전)의 행은 유예 시간 동안 남겨 둔다
+    @Modifying
+    @Query("DELETE FROM RoomStateBlob b WHERE b.refCount <= 0 AND b.createdAt < :cutoff " +
+            "AND NOT EXISTS (SELECT cr.id FROM CollectionRoom cr WHERE cr.stateBlob = b)")
+    int deleteUnreferenced(@Param("cutoff") LocalDateTime cutoff);
+}
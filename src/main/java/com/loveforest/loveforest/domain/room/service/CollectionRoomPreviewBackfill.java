@@ -0,0 +1,103 @@
+package com.loveforest.loveforest.domain.room.service;
+
+import com.loveforest.loveforest.domain.room.dto.RoomPreviewDTO;
+import com.loveforest.loveforest.domain.room.dto.RoomStateDTO;
+import com.loveforest.loveforest.domain.room.entity.CollectionRoom;
+import com.loveforest.loveforest.domain.room.entity.RoomPreview;
+import com.loveforest.loveforest.domain.room.exception.RoomSerializationException;
+import com.loveforest.loveforest.domain.room.repository.CollectionRoomRepository;
+import com.loveforest.loveforest.domain.room.util.RoomPreviewMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 저장된 미리보기가 없는 CollectionRoom 행을 채우는 백필 작업
+ * 미리보기 컬럼 도입 이전에 저장된 행을 시작 시 배치 단위로 계산해 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollectionRoomPreviewBackfill {
+    private static final int BATCH_SIZE = 100;
+
+    private final CollectionRoomRepository collectionRoomRepository;
+    private final RoomPreviewMapper roomPreviewMapper;
+    private final CollectionRoomStateMigration stateMigration;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        // 미리보기 계산이 공유 상태를 읽도록 행별 바이너리 상태를 먼저 옮긴다
+        stateMigration.migrate();
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        // 신규 행은 항상 저장 시각을 가지며, NOT NULL 이전에 저장된 행만 목록 커서(저장 시각, ID)에 쓰일 수 있도록 채운다
+        Integer filled = tx.execute(status -> collectionRoomRepository.fillMissingSavedAt(LocalDateTime.now()));
+        if (filled != null && filled > 0) {
+            log.info("컬렉션 방 저장 시각 백필 완료 - {}건", filled);
+        }
+
+        long lastId = 0L;
+        int total = 0;
+
+        while (true) {
+            List<Long> ids = collectionRoomRepository.findIdsWithoutPreview(lastId, PageRequest.of(0, BATCH_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            tx.executeWithoutResult(status -> backfill(ids));
+            lastId = ids.get(ids.size() - 1);
+            total += ids.size();
+        }
+
+        if (total > 0) {
+            log.info("컬렉션 방 미리보기 백필 완료 - {}건", total);
+        }
+    }
+
+    /**
+     * 주어진 컬렉션 방들의 미리보기를 계산하여 저장 (호출자의 트랜잭션 안에서 실행)
+     *
+     * @return 컬렉션 방 ID별 계산된 미리보기
+     */
+    public Map<Long, RoomPreview> backfill(List<Long> collectionRoomIds) {
+        List<CollectionRoom> rooms = collectionRoomRepository.findAllById(collectionRoomIds);
+        Map<Long, RoomPreview> result = new HashMap<>();
+
+        // 손상된 행은 빈 상태로 대체하여 백필이 반복되지 않도록 한다
+        List<RoomStateDTO> states = rooms.stream()
+                .map(this::readStateOrEmpty)
+                .collect(Collectors.toList());
+        List<RoomPreviewDTO> previews = roomPreviewMapper.createFromStates(states);
+
+        for (int i = 0; i < rooms.size(); i++) {
+            RoomPreview preview = RoomPreview.from(previews.get(i));
+            rooms.get(i).updatePreview(preview);
+            result.put(rooms.get(i).getId(), preview);
+        }
+        return result;
+    }
+
+    private RoomStateDTO readStateOrEmpty(CollectionRoom room) {
+        try {
+            return room.readState();
+        } catch (RoomSerializationException e) {
+            log.warn("컬렉션 방 상태 읽기 실패 - 빈 미리보기로 저장. ID: {}", room.getId());
+            return new RoomStateDTO(null, null, new ArrayList<>());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.loveforest.loveforest.domain.room.service;
+
+import com.loveforest.loveforest.domain.room.dto.RoomStateDTO;
+import com.loveforest.loveforest.domain.room.entity.RoomStateBlob;
+import com.loveforest.loveforest.domain.room.exception.RoomSerializationException;
+import com.loveforest.loveforest.domain.room.repository.CollectionRoomRepository;
+import com.loveforest.loveforest.domain.room.util.RoomStateCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 행마다 바이너리로 저장된 방 상태(tbl_collection_room.room_state)를 내용 주소 저장소로 옮기는 일회성 이전 작업
+ * 모든 행을 옮긴 뒤 컬럼을 삭제하여 저장 형식을 공유 상태와 기존 JSON 두 가지로 줄인다.
+ * 컬럼이 이미 없으면 아무 작업도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollectionRoomStateMigration {
+    private static final int BATCH_SIZE = 100;
+
+    private final CollectionRoomRepository collectionRoomRepository;
+    private final RoomStateStore stateStore;
+    private final PlatformTransactionManager transactionManager;
+
+    public void migrate() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long lastId = 0L;
+        int total = 0;
+
+        try {
+            while (true) {
+                long cursor = lastId;
+                List<Object[]> rows = tx.execute(status -> migrateBatch(cursor));
+                if (rows == null || rows.isEmpty()) {
+                    break;
+                }
+                lastId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+                total += rows.size();
+            }
+        } catch (InvalidDataAccessResourceUsageException e) {
+            // 컬럼이 이미 삭제된 스키마 - 옮길 행이 없다
+            log.debug("room_state 컬럼 없음 - 방 상태 이전 생략");
+            return;
+        }
+
+        if (total > 0) {
+            log.info("컬렉션 방 상태 이전 완료 - {}건", total);
+        }
+
+        try {
+            tx.executeWithoutResult(status -> collectionRoomRepository.dropLegacyRoomStateColumn());
+            log.info("room_state 컬럼 삭제 완료");
+        } catch (DataAccessException e) {
+            log.warn("room_state 컬럼 삭제 실패 - 다음 시작 시 다시 시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 커서 이후의 한 배치를 공유 상태로 옮긴다 (호출자의 트랜잭션 안에서 실행)
+     *
+     * @return 처리한 (ID, room_state) 행
+     */
+    private List<Object[]> migrateBatch(long lastId) {
+        List<Object[]> rows = collectionRoomRepository.findLegacyRoomStates(lastId, BATCH_SIZE);
+        for (Object[] row : rows) {
+            Long id = ((Number) row[0]).longValue();
+            RoomStateBlob blob = stateStore.acquire(decodeOrEmpty(id, bytesOf(row[1])));
+            collectionRoomRepository.moveLegacyRoomState(id, blob.getId());
+        }
+        return rows;
+    }
+
+    // 손상된 행은 빈 상태로 대체하여 이전이 반복되지 않도록 한다
+    private RoomStateDTO decodeOrEmpty(Long id, byte[] encoded) {
+        try {
+            return RoomStateCodec.decode(encoded);
+        } catch (RoomSerializationException e) {
+            log.warn("컬렉션 방 상태 읽기 실패 - 빈 상태로 이전. ID: {}", id);
+            return new RoomStateDTO(null, null, new ArrayList<>());
+        }
+    }
+
+    // 드라이버에 따라 LOB 컬럼이 byte[] 또는 Blob으로 조회된다
+    private byte[] bytesOf(Object value) {
+        if (value instanceof byte[] bytes) {
+            return bytes;
+        }
+        try {
+            Blob blob = (Blob) value;
+            return blob.getBytes(1, (int) blob.length());
+        } catch (SQLException e) {
+            throw new RoomSerializationException();
+        }
+    }
+}
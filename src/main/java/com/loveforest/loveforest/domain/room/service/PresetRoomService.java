@@ -1,14 +1,17 @@
 package com.loveforest.loveforest.domain.room.service;
 
 import com.loveforest.loveforest.domain.room.dto.PresetRoomResponseDTO;
-import com.loveforest.loveforest.domain.room.entity.FurnitureLayout;
 import com.loveforest.loveforest.domain.room.entity.PresetFurnitureLayout;
 import com.loveforest.loveforest.domain.room.entity.PresetRoom;
 import com.loveforest.loveforest.domain.room.entity.Room;
+import com.loveforest.loveforest.domain.room.event.RoomChangeEvent;
+import com.loveforest.loveforest.domain.room.event.RoomEventPublisher;
 import com.loveforest.loveforest.domain.room.exception.PresetSaveFailedException;
 import com.loveforest.loveforest.domain.room.exception.RoomNotFoundException;
 import com.loveforest.loveforest.domain.room.repository.PresetRoomRepository;
 import com.loveforest.loveforest.domain.room.repository.RoomRepository;
+import com.loveforest.loveforest.domain.room.util.FurnitureLayoutDiffer;
+import com.loveforest.loveforest.domain.room.util.RoomOccupancyIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,6 +28,10 @@ public class PresetRoomService {
     private final RoomRepository roomRepository;
     private final PresetRoomRepository presetRoomRepository;
     private final RoomService roomService;
+    private final FurnitureLayoutDiffer layoutDiffer;
+    private final RoomOccupancyIndex occupancyIndex;
+    private final RoomEventPublisher roomEventPublisher;
+    private final PresetRoomSnapshot presetRoomSnapshot;
 
     @Transactional
     public PresetRoomResponseDTO saveRoomAsPreset(Long roomId, String presetName) {
@@ -53,6 +60,7 @@ public class PresetRoomService {
 
             // 저장
             PresetRoom savedPreset = presetRoomRepository.save(presetRoom);
+            presetRoomSnapshot.rebuildAfterCommit();
 
             // DTO 변환 및 반환
             return PresetRoomResponseDTO.from(savedPreset);
@@ -65,45 +73,30 @@ public class PresetRoomService {
 
     // 프리셋을 실제 방에 적용하는 메서드
     public void applyPresetToRoom(Long roomId, Long presetId) {
-        Room room = roomRepository.findById(roomId)
+        Room room = roomRepository.findWithLayoutsById(roomId)
                 .orElseThrow(RoomNotFoundException::new);
 
-        PresetRoom preset = presetRoomRepository.findById(presetId)
+        PresetRoom preset = presetRoomRepository.findWithLayoutsById(presetId)
                 .orElseThrow(() -> new IllegalArgumentException("Preset not found"));
 
         // 방 상태 업데이트
         room.setWallpaper(preset.getWallpaper());
         room.setFloor(preset.getFloor());
 
-        // 기존 가구 배치 제거
-        room.getFurnitureLayouts().clear();
-
-        // 프리셋의 가구 배치 적용
-        for (PresetFurnitureLayout presetLayout : preset.getFurnitureLayouts()) {
-            FurnitureLayout newLayout = new FurnitureLayout(
-                    presetLayout.getFurniture(),
-                    presetLayout.getPositionX(),
-                    presetLayout.getPositionY(),
-                    presetLayout.getRotation()
-            );
-            room.addFurnitureLayout(newLayout);
-        }
-
-        roomRepository.save(room);
-    }
-
-    /**
-     * 모든 프리셋 방 목록 조회
-     */
-    public List<PresetRoomResponseDTO> getAllPresetRooms() {
-        List<PresetRoom> presetRooms = presetRoomRepository.findAll();
-
-        // 엔티티를 DTO로 변환
-        List<PresetRoomResponseDTO> responseDTOs = presetRooms.stream()
-                .map(PresetRoomResponseDTO::from)
+        // 프리셋의 가구 배치 적용 (기존 배치와 비교하여 바뀐 항목만 반영)
+        List<FurnitureLayoutDiffer.LayoutTarget> targets = preset.getFurnitureLayouts().stream()
+                .map(presetLayout -> new FurnitureLayoutDiffer.LayoutTarget(
+                        presetLayout.getFurniture(),
+                        presetLayout.getPositionX(),
+                        presetLayout.getPositionY(),
+                        presetLayout.getRotation()))
                 .toList();
+        FurnitureLayoutDiffer.LayoutDiffResult diff = layoutDiffer.apply(room, targets, "preset");
 
-        log.info("총 {}개의 프리셋 방을 조회했습니다.", responseDTOs.size());
-        return responseDTOs;
+        roomRepository.save(room);
+        occupancyIndex.invalidate(roomId);
+        roomEventPublisher.roomChanged(roomId, () -> RoomChangeEvent.roomReplaced(room));
+        log.info("프리셋 적용 완료 - roomId: {}, presetId: {}, 추가: {}, 수정: {}, 삭제: {}, 유지: {}",
+                roomId, presetId, diff.getInserted(), diff.getUpdated(), diff.getDeleted(), diff.getUnchanged());
     }
 }
@@ -0,0 +1,139 @@
+package com.loveforest.loveforest.domain.room.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.loveforest.loveforest.config.JsonMappers;
+import com.loveforest.loveforest.domain.room.dto.PresetRoomResponseDTO;
+import com.loveforest.loveforest.domain.room.repository.PresetRoomRepository;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 프리셋 목록 스냅샷 (직렬화된 JSON 바이트 + ETag)
+ * 프리셋은 거의 추가되지 않고 모든 사용자가 조회하므로, 목록을 한 번 직렬화해 메모리에 두고
+ * 조회 시에는 DB 접근 없이 바이트 배열만 내려준다.
+ *
+ * - 프리셋 저장이 커밋되면 다시 만든다.
+ * - 다른 서버에서 추가된 프리셋은 주기적인 변경 확인(프리셋 수, 최대 ID, 버전 합)으로 반영한다.
+ */
+@Slf4j
+@Component
+public class PresetRoomSnapshot {
+
+    private final PresetRoomRepository presetRoomRepository;
+    private final TransactionTemplate readOnlyTx;
+
+    private volatile Snapshot snapshot;
+
+    public PresetRoomSnapshot(PresetRoomRepository presetRoomRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.presetRoomRepository = presetRoomRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        // afterCommit 콜백에서도 호출되므로 항상 새 트랜잭션에서 읽는다
+        // (커밋이 끝난 트랜잭션에 참여하면 이미 커밋된 연결을 재사용하여 읽기 전용 설정과 조회가 보장되지 않는다)
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : rebuild();
+    }
+
+    /**
+     * 프리셋 변경 후 호출 - 커밋 이후에 다시 만들어 롤백된 프리셋이 노출되지 않도록 한다.
+     */
+    public void rebuildAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rebuild();
+                }
+            });
+        } else {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${room.preset.snapshot.check-ms:60000}")
+    public void rebuildIfChanged() {
+        Snapshot current = snapshot;
+        if (current == null || !current.fingerprint.equals(readFingerprint())) {
+            rebuild();
+        }
+    }
+
+    public synchronized Snapshot rebuild() {
+        Snapshot rebuilt = readOnlyTx.execute(status -> {
+            String fingerprint = readFingerprint();
+            List<PresetRoomResponseDTO> presets = presetRoomRepository.findAll().stream()
+                    .map(PresetRoomResponseDTO::from)
+                    .toList();
+            byte[] body = serialize(presets);
+            return new Snapshot(body, etagOf(body), presets.size(), fingerprint);
+        });
+        snapshot = rebuilt;
+        log.info("프리셋 목록 스냅샷 생성 - 프리셋 수: {}, 크기: {} bytes", rebuilt.size, rebuilt.body.length);
+        return rebuilt;
+    }
+
+    private String readFingerprint() {
+        List<Object[]> rows = presetRoomRepository.findFingerprint();
+        if (rows.isEmpty()) {
+            return "0";
+        }
+        Object[] row = rows.get(0);
+        return row[0] + "-" + row[1] + "-" + row[2];
+    }
+
+    private static byte[] serialize(List<PresetRoomResponseDTO> presets) {
+        try {
+            return JsonMappers.PRESET_LIST_WRITER.writeValueAsBytes(presets);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("프리셋 목록 직렬화 실패", e);
+        }
+    }
+
+    // 본문 해시 기반의 강한 ETag - 서버가 여러 대여도 같은 내용이면 같은 값
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"presets-" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 불변 스냅샷 (body 배열은 응답 전송에만 사용하고 수정하지 않는다)
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Snapshot {
+        private final byte[] body;
+        private final String etag;
+        private final int size;
+        private final String fingerprint;
+    }
+}
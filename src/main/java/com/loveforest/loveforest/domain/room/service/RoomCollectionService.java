@@ -1,28 +1,38 @@
 package com.loveforest.loveforest.domain.room.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loveforest.loveforest.domain.couple.entity.Couple;
 import com.loveforest.loveforest.domain.couple.exception.CoupleNotFoundException;
 import com.loveforest.loveforest.domain.couple.repository.CoupleRepository;
+import com.loveforest.loveforest.domain.room.collection.CollectionEvictionPolicy;
+import com.loveforest.loveforest.domain.room.collection.CollectionThumbnailCleaner;
 import com.loveforest.loveforest.domain.room.dto.CollectionRoomResponseDTO;
+import com.loveforest.loveforest.domain.room.dto.CursorPageResponseDTO;
+import com.loveforest.loveforest.domain.room.dto.FurnitureLayoutDTO;
 import com.loveforest.loveforest.domain.room.dto.RoomOperationResponseDTO;
+import com.loveforest.loveforest.domain.room.dto.RoomStateDTO;
 import com.loveforest.loveforest.domain.room.entity.CollectionRoom;
 import com.loveforest.loveforest.domain.room.entity.PresetRoom;
 import com.loveforest.loveforest.domain.room.entity.Room;
 import com.loveforest.loveforest.domain.room.entity.RoomCollection;
+import com.loveforest.loveforest.domain.room.entity.RoomPreview;
 import com.loveforest.loveforest.domain.room.enums.RoomStateSource;
+import com.loveforest.loveforest.domain.room.event.RoomChangeEvent;
+import com.loveforest.loveforest.domain.room.event.RoomEventPublisher;
 import com.loveforest.loveforest.domain.room.exception.*;
 import com.loveforest.loveforest.domain.room.repository.*;
-import com.loveforest.loveforest.domain.room.util.RoomPreviewMapper;
+import com.loveforest.loveforest.domain.room.util.FurnitureLayoutDiffer;
+import com.loveforest.loveforest.domain.room.util.KeysetCursor;
+import com.loveforest.loveforest.domain.room.util.RoomOccupancyIndex;
+import com.loveforest.loveforest.domain.room.util.RoomTrendingIndex;
+import com.loveforest.loveforest.domain.shop.catalog.CatalogCache;
 import com.loveforest.loveforest.exception.CustomException;
 import com.loveforest.loveforest.exception.ErrorCode;
 import com.loveforest.loveforest.exception.common.UnauthorizedException;
-import com.loveforest.loveforest.s3.service.LocalStorageService;
-import com.loveforest.loveforest.s3.service.S3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -42,24 +52,30 @@ public class RoomCollectionService {
     private final RoomRepository roomRepository;
     private final PresetRoomRepository presetRoomRepository;
     private final CoupleRepository coupleRepository;
-    private final RoomPreviewMapper roomPreviewMapper;
-    private final FurnitureRepository furnitureRepository;
-    private final WallpaperRepository wallpaperRepository;
-    private final FloorRepository floorRepository;
-//    private final S3Service s3Service;
-    private final LocalStorageService storageService;
+    private final RoomStateStore stateStore;
+    private final RoomTrendingIndex trendingIndex;
+    private final CollectionRoomPreviewBackfill previewBackfill;
+    private final CatalogCache catalogCache;
+    private final FurnitureLayoutDiffer layoutDiffer;
+    private final RoomOccupancyIndex occupancyIndex;
+    private final RoomEventPublisher roomEventPublisher;
+    private final RoomThumbnailPipeline thumbnailPipeline;
+    private final CollectionEvictionPolicy evictionPolicy;
+    private final CollectionThumbnailCleaner thumbnailCleaner;
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    @Value("${room.collection.max-size:100}")
+    private int maxCollectionSize;
 
     @Value("${server.url}")
     private String serverUrl;
 
-    @Value("${file.storage.path}")
-    private String storagePath;
-
     /**
      * 컬렉션에 현재 방 상태 저장
      */
     public RoomOperationResponseDTO saveCurrentRoom(Long coupleId, MultipartFile thumbnail) {
-        Room currentRoom = roomRepository.findByCoupleId(coupleId)
+        Room currentRoom = roomRepository.findWithLayoutsByCoupleId(coupleId)
                 .orElseThrow(RoomNotFoundException::new);
 
         RoomCollection collection = getOrCreateCollection(coupleId);
@@ -71,6 +87,8 @@ public class RoomCollectionService {
                 validateImage(thumbnail);
 //                imageUrl = uploadImage(thumbnail);
                 fileUrl = uploadImage(thumbnail);
+            } catch (CustomException e) {
+                throw e;
             } catch (Exception e) {
                 log.error("이미지 업로드 실패: {}", e.getMessage());
                 throw new CustomException(ErrorCode.ROOM_IMAGE_UPLOAD_FAILED);
@@ -78,19 +96,23 @@ public class RoomCollectionService {
         }
 
 //        currentRoom.updateThumbnail(imageUrl);
+        String previousThumbnail = currentRoom.getThumbnailUrl();
         currentRoom.updateThumbnail(fileUrl);
         roomRepository.save(currentRoom);
+        roomEventPublisher.touch(currentRoom.getId());
 
+        RoomStateDTO state = currentRoom.toStateDTO();
         CollectionRoom collectionRoom = CollectionRoom.builder()
                 .collection(collection)
-                .roomData(currentRoom.serializeState())
+                .stateBlob(stateStore.acquire(state))  // 같은 방 상태는 한 행을 공유
                 .source(RoomStateSource.CURRENT)
 //                .thumbnailUrl(imageUrl)
                 .thumbnailUrl(fileUrl)
                 .build();
 
         collection.getSavedRooms().add(collectionRoom);
-        collectionRepository.save(collection);
+        saveCollection(collection);
+        thumbnailCleaner.deleteUnreferencedAfterCommit(Collections.singletonList(previousThumbnail));
 
         log.info("현재 방 상태 저장 완료 - 커플 ID: {}, 이미지: {}",
                 coupleId, /*imageUrl*/fileUrl != null ? fileUrl : "없음");
@@ -103,21 +125,22 @@ public class RoomCollectionService {
      */
     @Transactional
     public RoomOperationResponseDTO savePresetRoom(Long coupleId, Long presetId) {
-        PresetRoom preset = presetRoomRepository.findById(presetId)
+        PresetRoom preset = presetRoomRepository.findWithLayoutsById(presetId)
                 .orElseThrow(PresetNotFoundException::new);
         String imageUrl = preset.getThumbnailUrl();
 
         RoomCollection collection = getOrCreateCollection(coupleId);
 
+        RoomStateDTO state = createRoomState(preset);
         CollectionRoom collectionRoom = CollectionRoom.builder()
                 .collection(collection)
-                .roomData(createRoomStateJson(preset))
+                .stateBlob(stateStore.acquire(state))
                 .source(RoomStateSource.PRESET)
                 .thumbnailUrl(imageUrl)
                 .build();
 
         collection.getSavedRooms().add(collectionRoom);
-        collectionRepository.save(collection);
+        saveCollection(collection);
 
         log.info("프리셋 방 상태 저장 완료 - 커플 ID: {}, 프리셋 ID: {}, 이미지: {}",
                 coupleId, presetId, imageUrl != null ? "저장됨" : "없음");
@@ -129,7 +152,7 @@ public class RoomCollectionService {
      * 공유된 방 상태 저장
      */
     public RoomOperationResponseDTO saveSharedRoom(Long coupleId, Long sharedRoomId/*, MultipartFile thumbnail*/) {
-        Room sharedRoom = roomRepository.findById(sharedRoomId)
+        Room sharedRoom = roomRepository.findWithLayoutsById(sharedRoomId)
                 .orElseThrow(RoomNotFoundException::new);
 
         if (!sharedRoom.isShared()) {
@@ -143,15 +166,17 @@ public class RoomCollectionService {
 
         RoomCollection collection = getOrCreateCollection(coupleId);
 
+        RoomStateDTO state = sharedRoom.toStateDTO();
         CollectionRoom collectionRoom = CollectionRoom.builder()
                 .collection(collection)
-                .roomData(sharedRoom.serializeState())
+                .stateBlob(stateStore.acquire(state))
                 .source(RoomStateSource.SHARED)
                 .thumbnailUrl(imageUrl)
                 .build();
 
         collection.getSavedRooms().add(collectionRoom);
-        collectionRepository.save(collection);
+        saveCollection(collection);
+        trendingIndex.recordSave(sharedRoomId);
 
         return RoomOperationResponseDTO.builder("공유된 방이 성공적으로 저장되었습니다.")
                 .addData("sharedRoomId", sharedRoomId)
@@ -160,49 +185,32 @@ public class RoomCollectionService {
     }
 
     /**
-     * PresetRoom의 상태를 JSON으로 변환하는 헬퍼 메서드
+     * PresetRoom의 상태를 RoomStateDTO로 변환하는 헬퍼 메서드
      */
-    private String createRoomStateJson(PresetRoom preset) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            Map<String, Object> roomState = new HashMap<>();
-
-            // 벽지 정보
-            if (preset.getWallpaper() != null) {
-                roomState.put("wallpaperId", preset.getWallpaper().getId());
-            }
-
-            // 바닥 정보
-            if (preset.getFloor() != null) {
-                roomState.put("floorId", preset.getFloor().getId());
-            }
+    private RoomStateDTO createRoomState(PresetRoom preset) {
+        List<FurnitureLayoutDTO> furnitureLayouts = preset.getFurnitureLayouts().stream()
+                .map(layout -> FurnitureLayoutDTO.builder()
+                        .furnitureId(layout.getFurniture().getId())
+                        .positionX(layout.getPositionX())
+                        .positionY(layout.getPositionY())
+                        .rotation(layout.getRotation())
+                        .build())
+                .collect(Collectors.toList());
 
-            // 가구 배치 정보
-            List<Map<String, Object>> furnitureLayouts = preset.getFurnitureLayouts().stream()
-                    .map(layout -> {
-                        Map<String, Object> layoutInfo = new HashMap<>();
-                        layoutInfo.put("furnitureId", layout.getFurniture().getId());
-                        layoutInfo.put("positionX", layout.getPositionX());
-                        layoutInfo.put("positionY", layout.getPositionY());
-                        layoutInfo.put("rotation", layout.getRotation());
-                        return layoutInfo;
-                    })
-                    .collect(Collectors.toList());
-
-            roomState.put("furnitureLayouts", furnitureLayouts);
-
-            return objectMapper.writeValueAsString(roomState);
-        } catch (JsonProcessingException e) {
-            log.error("방 상태 JSON 변환 실패", e);
-            throw new InvalidOperationException();
-        }
+        return new RoomStateDTO(
+                preset.getWallpaper() != null ? preset.getWallpaper().getId() : null,
+                preset.getFloor() != null ? preset.getFloor().getId() : null,
+                furnitureLayouts
+        );
     }
 
 
     /**
      * 저장된 방 상태를 현재 방에 적용
+     *
+     * @param expectedVersion 클라이언트가 알고 있는 방 버전 (다르면 409, null이면 비교하지 않음)
      */
-    public void applyRoomState(Long coupleId, Long collectionRoomId) {
+    public void applyRoomState(Long coupleId, Long collectionRoomId, Long expectedVersion) {
         CollectionRoom savedRoom = collectionRoomRepository.findById(collectionRoomId)
                 .orElseThrow(CollectionRoomNotFoundException::new);
 
@@ -210,34 +218,100 @@ public class RoomCollectionService {
         validateCoupleAccess(coupleId, savedRoom);
 
         // 현재 커플의 방 가져오기
-        Room currentRoom = roomRepository.findByCoupleId(coupleId)
+        Room currentRoom = roomRepository.findWithLayoutsByCoupleId(coupleId)
                 .orElseThrow(RoomNotFoundException::new);
+        if (expectedVersion != null && !expectedVersion.equals(currentRoom.getVersion())) {
+            throw new RoomVersionConflictException(currentRoom.getVersion());
+        }
 
-        // 저장된 방 상태를 현재 방으로 복원
-        currentRoom.restoreState(
-                savedRoom.getRoomData(),
-                furnitureRepository,
-                wallpaperRepository, // 추가된 wallpaperRepository 전달
-                floorRepository      // 추가된 floorRepository 전달
-        );
+        // 저장된 방 상태를 현재 방으로 복원 (바뀐 가구 배치만 반영)
+        FurnitureLayoutDiffer.LayoutDiffResult diff =
+                currentRoom.restoreState(savedRoom.readState(), catalogCache, layoutDiffer);
+        log.info("저장된 방 적용 - coupleId: {}, 추가: {}, 수정: {}, 삭제: {}, 유지: {}", coupleId,
+                diff.getInserted(), diff.getUpdated(), diff.getDeleted(), diff.getUnchanged());
 
-        // 복원된 방 상태 저장
+        // 복원된 방 상태 저장 (최근 적용 시각은 LRU 축출 기준)
+        savedRoom.markApplied();
         roomRepository.save(currentRoom);
+        occupancyIndex.invalidate(currentRoom.getId());
+        roomEventPublisher.roomChanged(currentRoom.getId(), () -> RoomChangeEvent.roomReplaced(currentRoom));
     }
 
 
     /**
-     * 저장된 방 상태 조회
+     * 저장된 방 상태 조회 (최신 저장 순, 커서 기반 페이지네이션)
      */
-    public List<CollectionRoomResponseDTO> getSavedRooms(Long coupleId) {
-        List<CollectionRoom> savedRooms = collectionRoomRepository
-                .findByCollectionCoupleId(coupleId);
+    public CursorPageResponseDTO<CollectionRoomResponseDTO> getSavedRooms(Long coupleId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+
+        // 저장된 미리보기 컬럼만 조회 (방 상태 JSON 파싱 없음), 다음 페이지 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<CollectionRoomResponseDTO> rows = keyset == null
+                ? collectionRoomRepository.findResponsesByCoupleId(coupleId, limit)
+                : collectionRoomRepository.findResponsesByCoupleIdAfter(
+                        coupleId, keyset.getTimestamp(), keyset.getId(), limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<CollectionRoomResponseDTO> savedRooms = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CollectionRoomResponseDTO last = savedRooms.get(savedRooms.size() - 1);
+            nextCursor = KeysetCursor.of(last.getSavedAt(), last.getId()).encode();
+        }
+
+        return new CursorPageResponseDTO<>(withPreviews(savedRooms), hasNext, nextCursor);
+    }
+
+    // 아직 백필되지 않은 행은 이 자리에서 계산하여 저장
+    private List<CollectionRoomResponseDTO> withPreviews(List<CollectionRoomResponseDTO> savedRooms) {
+        List<Long> missing = savedRooms.stream()
+                .filter(room -> room.getRoomPreview() == null)
+                .map(CollectionRoomResponseDTO::getId)
+                .collect(Collectors.toList());
+        if (missing.isEmpty()) {
+            return savedRooms;
+        }
 
+        Map<Long, RoomPreview> computed = previewBackfill.backfill(missing);
         return savedRooms.stream()
-                .map(this::convertToDTO)
+                .map(room -> room.getRoomPreview() != null ? room
+                        : room.withRoomPreview(computed.getOrDefault(room.getId(), RoomPreview.empty()).toDTO()))
                 .collect(Collectors.toList());
     }
 
+    // 저장 후 최대 개수 초과분 축출, 변경 카운터 증가 (목록 조회 ETag 갱신)
+    private void saveCollection(RoomCollection collection) {
+        RoomCollection saved = collectionRepository.save(collection);
+        collectionRepository.incrementRevision(saved.getId());
+        evictOverflow(saved);
+    }
+
+    /**
+     * 최대 개수를 넘은 만큼 축출 정책으로 골라 ID로 삭제
+     * 컬렉션의 저장된 방 목록(지연 로딩)을 읽지 않도록 고른 행만 한 번의 DELETE로 지운다.
+     * 썸네일 파일은 커밋 이후 더 이상 참조되지 않을 때만 지운다.
+     */
+    private void evictOverflow(RoomCollection collection) {
+        // incrementRevision이 먼저 flush하므로 방금 추가한 행까지 센다
+        long overflow = collectionRoomRepository.countByCollectionId(collection.getId()) - maxCollectionSize;
+        if (overflow <= 0) {
+            return;
+        }
+
+        List<CollectionRoom> victims = evictionPolicy.selectVictims(collection.getId(), (int) overflow);
+        collectionRoomRepository.deleteAllByIdInBatch(victims.stream()
+                .map(CollectionRoom::getId)
+                .collect(Collectors.toList()));
+        stateStore.release(victims.stream().map(CollectionRoom::getStateBlob).collect(Collectors.toList()));
+        thumbnailCleaner.deleteUnreferencedAfterCommit(victims.stream()
+                .map(CollectionRoom::getThumbnailUrl)
+                .collect(Collectors.toList()));
+
+        log.info("컬렉션 최대 개수 초과로 저장된 방 축출 - 컬렉션 ID: {}, 축출: {}건", collection.getId(), victims.size());
+    }
+
     private RoomCollection getOrCreateCollection(Long coupleId) {
         return collectionRepository.findByCoupleId(coupleId)
                 .orElseGet(() -> {
@@ -253,16 +327,6 @@ public class RoomCollectionService {
         }
     }
 
-    private CollectionRoomResponseDTO convertToDTO(CollectionRoom room) {
-        return CollectionRoomResponseDTO.builder()
-                .id(room.getId())
-                .source(room.getSource())
-                .savedAt(room.getSavedAt())
-                .roomPreview(roomPreviewMapper.createFromJson(room.getRoomData()))
-                .thumbnailUrl(room.getThumbnailUrl())
-                .build();
-    }
-
     // 이미지 처리를 위한 유틸리티 메서드들
     private void validateImage(MultipartFile file) {
         if (file == null || file.isEmpty()) {
@@ -287,20 +351,8 @@ public class RoomCollectionService {
 //                file.getContentType(),
 //                file.getSize()
 //        );
-        // 전체 URL 생성 및 반환
-        return storageService.uploadFile(
-                file.getBytes(),
-                getFileExtension(file.getOriginalFilename()),
-                file.getContentType(),
-                file.getSize()
-        );
-    }
-
-    private String getFileExtension(String filename) {
-        return Optional.ofNullable(filename)
-                .filter(f -> f.contains("."))
-                .map(f -> f.substring(f.lastIndexOf(".")))
-                .orElse(".jpg");
+        // 임시 파일로만 받고 변형 생성/게시는 커밋 이후 작업 풀에서 처리 (상세용 변형 URL 반환)
+        return thumbnailPipeline.submit(file);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.loveforest.loveforest.domain.room.service;
+
+import com.loveforest.loveforest.domain.couple.profile.CoupleProfileCache;
+import com.loveforest.loveforest.domain.couple.profile.CoupleProfileInfo;
+import com.loveforest.loveforest.domain.room.repository.RoomCollectionRepository;
+import com.loveforest.loveforest.domain.room.repository.RoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 방 관련 조회 API의 조건부 조회(ETag / If-None-Match) 지원
+ * ETag는 애그리거트의 변경 카운터만 조회하여 만들며, 일치하면 DTO 생성과 가구 배치 로딩 없이 304로 응답한다.
+ * 방 리비전은 편집 커밋 직후에 오르므로 (RoomEventPublisher 참고) 커밋 직후 잠깐은 이전 ETag가 유지될 수 있다.
+ *
+ * - 방 상태 / 다른 커플 방: Room.revision
+ * - 저장된 방 목록: RoomCollection.revision
+ * - 프리셋 목록: {@link PresetRoomSnapshot}의 본문 해시
+ * - 공유 방 피드: 공유 방 수, 마지막 공유 변경 시각, Room.revision 합, 커플 표시 정보 마지막 변경 시각
+ *
+ * 적중/미적중은 room.etag.requests 지표(endpoint, result 태그)로 기록한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RoomETagService {
+    private static final String METRIC_ETAG_REQUESTS = "room.etag.requests";
+
+    // 매번 서버에 재검증하도록 하고, 인증된 사용자별 응답이므로 공유 캐시에는 저장하지 않는다
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final RoomRepository roomRepository;
+    private final RoomCollectionRepository collectionRepository;
+    private final CoupleProfileCache coupleProfileCache;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @return 방이 없으면 빈 값 - 304 없이 본문 조회로 넘겨 404로 응답하도록 한다
+     */
+    public Optional<String> roomStatus(Long coupleId) {
+        return roomRepository.findRevisionByCoupleId(coupleId)
+                .map(revision -> etag("room", coupleId, revision));
+    }
+
+    /**
+     * @return 방이 없으면 빈 값 - 304 없이 본문 조회로 넘겨 404로 응답하도록 한다
+     */
+    public Optional<String> publicRoom(Long coupleId) {
+        return roomRepository.findRevisionByCoupleId(coupleId).map(revision -> {
+            // 커플 이름/기념일은 방 변경 카운터와 별개로 바뀌므로 표시 정보 해시를 함께 넣는다
+            int profileHash = coupleProfileCache.find(coupleId).map(CoupleProfileInfo::contentHash).orElse(0);
+            return etag("public", coupleId, revision, profileHash);
+        });
+    }
+
+    public String collection(Long coupleId) {
+        return etag("collection", coupleId, collectionRepository.findRevisionByCoupleId(coupleId).orElse(0L));
+    }
+
+    public String sharedRooms(Long coupleId) {
+        Object[] fingerprint = first(roomRepository.findSharedRoomsFingerprint(coupleId != null ? coupleId : -1L));
+        // 피드에 커플 이름이 포함되므로 표시 정보 변경도 ETag에 반영한다
+        return etag("shared", coupleId, fingerprint[0], epochMillis(fingerprint[1]), fingerprint[2],
+                epochMillis(fingerprint[3]));
+    }
+
+    /**
+     * If-None-Match와 비교하여 변경이 없으면 304 상태와 ETag 헤더를 설정
+     * (변경된 경우에도 응답에 ETag 헤더가 설정된다)
+     *
+     * @return true이면 컨트롤러는 본문 없이 바로 반환하면 된다
+     */
+    public boolean checkNotModified(WebRequest request, String endpoint, String etag) {
+        boolean notModified = request.checkNotModified(etag);
+        counter(endpoint, notModified ? "hit" : "miss").increment();
+        return notModified;
+    }
+
+    private Counter counter(String endpoint, String result) {
+        return Counter.builder(METRIC_ETAG_REQUESTS)
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .description("방 조회 API 조건부 요청 결과 (hit: 304 응답)")
+                .register(meterRegistry);
+    }
+
+    private static Object[] first(List<Object[]> rows) {
+        return rows.isEmpty() ? new Object[]{0L, null, 0L, null} : rows.get(0);
+    }
+
+    private static long epochMillis(Object value) {
+        return value != null ? ((LocalDateTime) value).toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+
+    private static String etag(String prefix, Object... parts) {
+        StringBuilder value = new StringBuilder("\"").append(prefix);
+        for (Object part : parts) {
+            value.append('-').append(part);
+        }
+        return value.append('"').toString();
+    }
+}
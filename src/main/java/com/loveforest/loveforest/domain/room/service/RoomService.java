@@ -13,15 +13,17 @@ public interface RoomService {
     // 가구 관련 메서드
     RoomDecorationResponseDTO placeFurniture(Long coupleId, RoomDecorationRequestDTO request);
     RoomDecorationResponseDTO moveFurniture(Long furnitureLayoutId, RoomFurnitureUpdateRequestDTO request);
-    RoomResponseDTO removeFurniture(Long furnitureLayoutId);
+    RoomResponseDTO removeFurniture(Long furnitureLayoutId, Long expectedVersion);
+    RoomResponseDTO applyLayoutOperations(Long coupleId, RoomLayoutBatchRequestDTO request);
 
+    // 방 단위 변경은 expectedVersion(방 버전)이 있으면 현재 버전과 비교한다
     // 벽지 관련 메서드
-    RoomResponseDTO setWallpaper(Long coupleId, Long wallpaperId);
-    RoomResponseDTO removeWallpaper(Long coupleId);
+    RoomResponseDTO setWallpaper(Long coupleId, Long wallpaperId, Long expectedVersion);
+    RoomResponseDTO removeWallpaper(Long coupleId, Long expectedVersion);
 
     // 바닥 관련 메서드
-    RoomResponseDTO setFloor(Long coupleId, Long floorId);
-    RoomResponseDTO removeFloor(Long coupleId);
+    RoomResponseDTO setFloor(Long coupleId, Long floorId, Long expectedVersion);
+    RoomResponseDTO removeFloor(Long coupleId, Long expectedVersion);
 
     // 방 전체 상태 조회
     RoomResponseDTO getRoomStatus(Long coupleId);
@@ -30,5 +32,5 @@ public interface RoomService {
 
     Optional<Room> findById(Long roomId);
 
-    PublicRoomResponseDTO getRandomRoom(Long requesterId);
+    PublicRoomResponseDTO getRandomRoom(Long requesterCoupleId);
 }
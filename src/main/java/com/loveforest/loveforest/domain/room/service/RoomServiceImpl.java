@@ -3,18 +3,26 @@ package com.loveforest.loveforest.domain.room.service;
 
 import com.loveforest.loveforest.domain.couple.entity.Couple;
 import com.loveforest.loveforest.domain.couple.exception.CoupleNotFoundException;
-import com.loveforest.loveforest.domain.couple.repository.CoupleRepository;
+import com.loveforest.loveforest.domain.couple.profile.CoupleProfileCache;
+import com.loveforest.loveforest.domain.couple.profile.CoupleProfileInfo;
 import com.loveforest.loveforest.domain.room.dto.*;
 import com.loveforest.loveforest.domain.room.entity.*;
+import com.loveforest.loveforest.domain.room.enums.LayoutOperationType;
+import com.loveforest.loveforest.domain.room.event.RoomChangeEvent;
+import com.loveforest.loveforest.domain.room.event.RoomEventPublisher;
 import com.loveforest.loveforest.domain.room.exception.*;
 import com.loveforest.loveforest.domain.room.repository.*;
-import com.loveforest.loveforest.domain.user.entity.User;
+import com.loveforest.loveforest.domain.room.util.RoomOccupancyGrid;
+import com.loveforest.loveforest.domain.room.util.RoomOccupancyIndex;
+import com.loveforest.loveforest.domain.room.util.RoomTrendingIndex;
+import com.loveforest.loveforest.domain.room.util.SharedRoomIndex;
+import com.loveforest.loveforest.domain.shop.catalog.CatalogCache;
+import com.loveforest.loveforest.domain.shop.catalog.FurnitureInfo;
 import com.loveforest.loveforest.domain.user.repository.UserInventoryRepository;
 import com.loveforest.loveforest.exception.CustomException;
 import com.loveforest.loveforest.exception.ErrorCode;
 import com.loveforest.loveforest.exception.common.InvalidInputException;
-import com.loveforest.loveforest.s3.service.LocalStorageService;
-import com.loveforest.loveforest.s3.service.S3Service;
+import com.loveforest.loveforest.s3.service.BlobStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,11 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.time.LocalDate;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
-import java.util.Random;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -39,15 +43,18 @@ import java.util.stream.Collectors;
 public class RoomServiceImpl implements RoomService {
 
     private final RoomRepository roomRepository;
-    private final FurnitureRepository furnitureRepository;
-    private final WallpaperRepository wallpaperRepository;
-    private final FloorRepository floorRepository;
     private final UserInventoryRepository userInventoryRepository;
     private final FurnitureLayoutRepository furnitureLayoutRepository;
-    private final CoupleRepository coupleRepository;
-//    private final S3Service s3Service;
-    private final LocalStorageService storageService;
-
+    private final CoupleProfileCache coupleProfileCache;
+    private final SharedRoomIndex sharedRoomIndex;
+    private final RoomTrendingIndex trendingIndex;
+    private final RoomOccupancyIndex occupancyIndex;
+    private final CatalogCache catalogCache;
+    private final RoomEventPublisher roomEventPublisher;
+    private final BlobStore storageService;
+
+    private static final int RANDOM_ROOM_MAX_ATTEMPTS = 3;
+    private static final int MAX_LAYOUT_OPERATIONS = 200;
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
     private static final List<String> ALLOWED_CONTENT_TYPES = Arrays.asList(
             "image/jpeg", "image/png", "image/jpg"
@@ -59,25 +66,30 @@ public class RoomServiceImpl implements RoomService {
     public RoomDecorationResponseDTO placeFurniture(Long coupleId, RoomDecorationRequestDTO request) {
         Room room = findRoomByCouple(coupleId);
         Furniture furniture = validateAndGetFurniture(coupleId, request.getFurnitureId());
+        occupancyIndex.validatePlacement(room.getId(), null, request.getFurnitureId(),
+                request.getPositionX(), request.getPositionY(), request.getRotation());
 
-        // 1. FurnitureLayout을 먼저 저장하여 ID 생성
+        // 가구 배치 행만 INSERT (방 행은 수정하지 않으므로 다른 편집과 충돌하지 않음)
         FurnitureLayout newLayout = createFurnitureLayout(room, furniture, request);
         FurnitureLayout savedLayout = furnitureLayoutRepository.save(newLayout);
-
-        // 2. 저장된 Layout을 Room에 추가
         room.addFurnitureLayout(savedLayout);
-        Room savedRoom = roomRepository.save(room);
-        return createDecorationResponse(savedRoom, newLayout);
+
+        occupancyIndex.onLayoutPlaced(room.getId(), savedLayout.getId(), request.getFurnitureId(),
+                request.getPositionX(), request.getPositionY(), request.getRotation());
+        roomEventPublisher.roomChanged(room.getId(), () -> RoomChangeEvent.layoutPlaced(savedLayout));
+        return createDecorationResponse(room, savedLayout);
     }
 
     @Override
     @Transactional
-    public RoomResponseDTO setWallpaper(Long coupleId, Long wallpaperId) {
+    public RoomResponseDTO setWallpaper(Long coupleId, Long wallpaperId, Long expectedVersion) {
         Room room = findRoomByCouple(coupleId);
+        checkVersion(expectedVersion, room.getVersion());
         Wallpaper wallpaper = validateAndGetWallpaper(coupleId, wallpaperId);
 
         room.setWallpaper(wallpaper);
-        Room savedRoom = roomRepository.save(room);
+        Room savedRoom = roomRepository.saveAndFlush(room);  // 응답에 증가된 버전을 담기 위해 flush
+        roomEventPublisher.roomChanged(savedRoom.getId(), () -> RoomChangeEvent.wallpaperChanged(savedRoom));
         log.info("벽지 설정 완료 - coupleId: {}, wallpaperId: {}", coupleId, wallpaperId);
         return createRoomResponse(savedRoom);
     }
@@ -85,12 +97,14 @@ public class RoomServiceImpl implements RoomService {
 
     @Override
     @Transactional
-    public RoomResponseDTO setFloor(Long coupleId, Long floorId) {
+    public RoomResponseDTO setFloor(Long coupleId, Long floorId, Long expectedVersion) {
         Room room = findRoomByCouple(coupleId);
+        checkVersion(expectedVersion, room.getVersion());
         Floor floor = validateAndGetFloor(coupleId, floorId);
 
         room.setFloor(floor);
-        Room savedRoom = roomRepository.save(room);
+        Room savedRoom = roomRepository.saveAndFlush(room);
+        roomEventPublisher.roomChanged(savedRoom.getId(), () -> RoomChangeEvent.floorChanged(savedRoom));
 
         log.info("바닥 설정 완료 - coupleId: {}, floorId: {}", coupleId, floorId);
 
@@ -105,7 +119,7 @@ public class RoomServiceImpl implements RoomService {
     }
 
     private Room findRoomByCouple(Long coupleId) {
-        return roomRepository.findByCoupleId(coupleId)
+        return roomRepository.findWithLayoutsByCoupleId(coupleId)
                 .orElseThrow(RoomNotFoundException::new);
     }
 
@@ -113,87 +127,254 @@ public class RoomServiceImpl implements RoomService {
         if (!userInventoryRepository.existsByUser_Couple_IdAndShopItem_Furniture_Id(coupleId, furnitureId)) {
             throw new FurnitureNotInInventoryException();
         }
-        return furnitureRepository.findById(furnitureId)
+        return catalogCache.findFurnitureReference(furnitureId)
                 .orElseThrow(FurnitureNotFoundException::new);
     }
 
     private RoomDecorationResponseDTO createDecorationResponse(Room room, FurnitureLayout layout) {
+        FurnitureInfo furniture = getFurnitureInfo(layout);
         return RoomDecorationResponseDTO.builder()
                 .layoutId(layout.getId())
-                .furnitureId(layout.getFurniture().getId())
-                .furnitureName(layout.getFurniture().getName())
+                .furnitureId(furniture.getId())
+                .furnitureName(furniture.getName())
                 .positionX(layout.getPositionX())
                 .positionY(layout.getPositionY())
                 .rotation(layout.getRotation())
-                .width(layout.getFurniture().getWidth())
-                .height(layout.getFurniture().getHeight())
+                .width(furniture.getWidth())
+                .height(furniture.getHeight())
+                .version(layout.getVersion())
                 .build();
     }
 
+    /**
+     * 클라이언트가 보낸 버전이 있으면 현재 버전과 비교 - 다르면 잠금 없이 즉시 409
+     * 비교 이후의 동시 수정은 @Version 조건부 UPDATE가 막는다.
+     */
+    private void checkVersion(Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new RoomVersionConflictException(currentVersion);
+        }
+    }
+
+    // 가구 상세 정보는 카탈로그 캐시에서 조회 (프록시 초기화 없이 ID만 사용)
+    private FurnitureInfo getFurnitureInfo(FurnitureLayout layout) {
+        return catalogCache.findFurniture(layout.getFurniture().getId())
+                .orElseThrow(FurnitureNotFoundException::new);
+    }
+
     @Override
     @Transactional
     public RoomDecorationResponseDTO moveFurniture(Long furnitureLayoutId, RoomFurnitureUpdateRequestDTO request) {
         FurnitureLayout layout = furnitureLayoutRepository.findById(furnitureLayoutId)
                 .orElseThrow(FurnitureLayoutNotFoundException::new);
+        checkVersion(request.getVersion(), layout.getVersion());
+
+        Long furnitureId = layout.getFurniture().getId();
+        occupancyIndex.validatePlacement(layout.getRoom().getId(), furnitureLayoutId, furnitureId,
+                request.getPositionX(), request.getPositionY(), request.getRotation());
 
         layout.setPosition(request.getPositionX(), request.getPositionY(), request.getRotation());
-        furnitureLayoutRepository.save(layout);
+        furnitureLayoutRepository.saveAndFlush(layout);  // 해당 가구 배치 행만 UPDATE (버전 조건 포함)
+        occupancyIndex.onLayoutPlaced(layout.getRoom().getId(), furnitureLayoutId, furnitureId,
+                request.getPositionX(), request.getPositionY(), request.getRotation());
+        roomEventPublisher.roomChanged(layout.getRoom().getId(), () -> RoomChangeEvent.layoutMoved(layout));
         log.info("가구 위치 이동 완료 - layoutId: {}, 새 위치: ({}, {})",
                 furnitureLayoutId, request.getPositionX(), request.getPositionY());
-        return new RoomDecorationResponseDTO(
-                layout.getId(),
-                layout.getFurniture().getId(),
-                layout.getFurniture().getName(),
-                layout.getPositionX(),
-                layout.getPositionY(),
-                layout.getRotation(),
-                layout.getFurniture().getWidth(),
-                layout.getFurniture().getHeight()
-        );
+        return createDecorationResponse(layout.getRoom(), layout);
     }
 
     @Override
     @Transactional
-    public RoomResponseDTO removeFurniture(Long furnitureLayoutId) {
+    public RoomResponseDTO removeFurniture(Long furnitureLayoutId, Long expectedVersion) {
         FurnitureLayout layout = furnitureLayoutRepository.findById(furnitureLayoutId)
                 .orElseThrow(FurnitureLayoutNotFoundException::new);
+        checkVersion(expectedVersion, layout.getVersion());
 
-        Room room = layout.getRoom();
-        room.removeFurnitureLayout(layout);
-        Room savedRoom = roomRepository.save(room);
+        // 응답 생성에 필요한 가구 배치를 한 번에 로딩 (같은 영속성 컨텍스트이므로 layout과 동일 인스턴스)
+        Room room = roomRepository.findWithLayoutsById(layout.getRoom().getId())
+                .orElseThrow(RoomNotFoundException::new);
 
-        // 가구 레이아웃 삭제
+        // 가구 배치 행만 DELETE (방 행과 다른 가구 배치는 건드리지 않음)
+        room.removeFurnitureLayout(layout);
         furnitureLayoutRepository.delete(layout);
+        occupancyIndex.onLayoutRemoved(room.getId(), furnitureLayoutId);
+        roomEventPublisher.roomChanged(room.getId(), () -> RoomChangeEvent.layoutRemoved(room.getId(), furnitureLayoutId));
         log.info("가구 제거 완료 - layoutId: {}", furnitureLayoutId);
-        return createRoomResponse(savedRoom);
+        return createRoomResponse(room);
     }
 
+    /**
+     * 가구 배치/이동/제거 작업을 요청 순서대로 한 트랜잭션에서 적용
+     * 보유 여부는 배치할 가구 전체를 한 번의 쿼리로 확인하고, 변경 사항은 마지막에 한 번만 flush 한다.
+     */
     @Override
     @Transactional
-    public RoomResponseDTO removeWallpaper(Long coupleId) {
+    public RoomResponseDTO applyLayoutOperations(Long coupleId, RoomLayoutBatchRequestDTO request) {
+        List<LayoutOperationDTO> operations = request.getOperations();
+        if (operations == null || operations.isEmpty() || operations.size() > MAX_LAYOUT_OPERATIONS) {
+            throw new InvalidOperationException();
+        }
+
         Room room = findRoomByCouple(coupleId);
+        Map<Long, Furniture> furnitureById = validateAndGetFurnitures(coupleId, operations);
+
+        // 이 방에 배치된 가구만 이동/제거할 수 있다
+        Map<Long, FurnitureLayout> layoutById = new HashMap<>();
+        room.getFurnitureLayouts().forEach(layout -> layoutById.put(layout.getId(), layout));
+
+        // 충돌 검증은 격자 사본에 순서대로 반영하며 수행 (신규 배치는 아직 ID가 없어 음수 키 사용)
+        RoomOccupancyGrid grid = occupancyIndex.copyOf(room.getId());
+        long placeKey = 0;
+
+        // 변경 이벤트는 flush 이후의 ID/버전으로 만들기 위해 대상만 모아 둔다
+        List<FurnitureLayout> placed = new ArrayList<>();
+        List<FurnitureLayout> moved = new ArrayList<>();
+        List<Long> removedIds = new ArrayList<>();
+
+        for (LayoutOperationDTO operation : operations) {
+            switch (operation.getType()) {
+                case PLACE -> {
+                    occupancyIndex.validateAndPut(grid, --placeKey, operation.getFurnitureId(),
+                            operation.getPositionX(), operation.getPositionY(), operation.getRotation());
+                    FurnitureLayout layout = new FurnitureLayout(
+                            furnitureById.get(operation.getFurnitureId()),
+                            operation.getPositionX(),
+                            operation.getPositionY(),
+                            operation.getRotation());
+                    room.addFurnitureLayout(layout);
+                    placed.add(layout);
+                }
+                case MOVE -> {
+                    FurnitureLayout layout = getLayout(layoutById, operation.getLayoutId());
+                    checkVersion(operation.getVersion(), layout.getVersion());
+                    occupancyIndex.validateAndPut(grid, layout.getId(), layout.getFurniture().getId(),
+                            operation.getPositionX(), operation.getPositionY(), operation.getRotation());
+                    layout.setPosition(operation.getPositionX(), operation.getPositionY(), operation.getRotation());
+                    moved.add(layout);
+                }
+                case REMOVE -> {
+                    FurnitureLayout layout = getLayout(layoutById, operation.getLayoutId());
+                    checkVersion(operation.getVersion(), layout.getVersion());
+                    layoutById.remove(layout.getId());
+                    grid.remove(layout.getId());
+                    room.removeFurnitureLayout(layout);  // orphanRemoval로 삭제
+                    moved.removeIf(movedLayout -> movedLayout == layout);
+                    removedIds.add(layout.getId());
+                }
+            }
+        }
+
+        // 신규 배치 ID가 응답에 필요하므로 여기서 flush
+        roomRepository.flush();
+        occupancyIndex.invalidate(room.getId());
+        publishLayoutChanges(room.getId(), placed, moved, removedIds);
+        log.info("가구 배치 일괄 변경 완료 - coupleId: {}, 작업 수: {}", coupleId, operations.size());
+        return createRoomResponse(room);
+    }
+
+    // 일괄 변경도 개별 변경분으로 전달 (같은 가구를 여러 번 옮긴 경우 최종 위치만)
+    private void publishLayoutChanges(Long roomId, List<FurnitureLayout> placed,
+                                      List<FurnitureLayout> moved, List<Long> removedIds) {
+        roomEventPublisher.touch(roomId);
+        placed.forEach(layout -> roomEventPublisher.publishAfterCommit(() -> RoomChangeEvent.layoutPlaced(layout)));
+        moved.stream()
+                .distinct()
+                .forEach(layout -> roomEventPublisher.publishAfterCommit(() -> RoomChangeEvent.layoutMoved(layout)));
+        removedIds.forEach(layoutId ->
+                roomEventPublisher.publishAfterCommit(() -> RoomChangeEvent.layoutRemoved(roomId, layoutId)));
+    }
+
+    /**
+     * 원하는 위치에서 가장 가까운 빈 위치 조회
+     *
+     * @param layoutId 이동하려는 가구 배치 ID (새로 배치하면 null)
+     */
+    @Transactional(readOnly = true)
+    public FreePositionResponseDTO findNearestFreePosition(Long coupleId, Long furnitureId, Long layoutId,
+                                                           int positionX, int positionY, int rotation) {
+        Room room = findRoomByCouple(coupleId);
+        RoomOccupancyGrid.Footprint footprint = occupancyIndex
+                .findNearestFree(room.getId(), layoutId, furnitureId, positionX, positionY, rotation)
+                .orElseThrow(NoFreePositionException::new);
+
+        return FreePositionResponseDTO.builder()
+                .furnitureId(furnitureId)
+                .positionX(footprint.getX())
+                .positionY(footprint.getY())
+                .rotation(footprint.getRotation())
+                .width(footprint.getWidth())
+                .height(footprint.getHeight())
+                .build();
+    }
+
+    private Map<Long, Furniture> validateAndGetFurnitures(Long coupleId, List<LayoutOperationDTO> operations) {
+        Set<Long> furnitureIds = new HashSet<>();
+        for (LayoutOperationDTO operation : operations) {
+            if (operation.getType() == null) {
+                throw new InvalidOperationException();
+            }
+            if (operation.getType() == LayoutOperationType.PLACE) {
+                if (operation.getFurnitureId() == null) {
+                    throw new FurnitureNotFoundException();
+                }
+                furnitureIds.add(operation.getFurnitureId());
+            }
+        }
+        if (furnitureIds.isEmpty()) {
+            return Map.of();
+        }
+
+        if (!new HashSet<>(userInventoryRepository.findOwnedFurnitureIds(coupleId, furnitureIds))
+                .containsAll(furnitureIds)) {
+            throw new FurnitureNotInInventoryException();
+        }
+
+        Map<Long, Furniture> furnitureById = new HashMap<>();
+        for (Long furnitureId : furnitureIds) {
+            furnitureById.put(furnitureId, catalogCache.findFurnitureReference(furnitureId)
+                    .orElseThrow(FurnitureNotFoundException::new));
+        }
+        return furnitureById;
+    }
+
+    private FurnitureLayout getLayout(Map<Long, FurnitureLayout> layoutById, Long layoutId) {
+        FurnitureLayout layout = layoutId != null ? layoutById.get(layoutId) : null;
+        if (layout == null) {
+            throw new FurnitureLayoutNotFoundException();
+        }
+        return layout;
+    }
+
+    @Override
+    @Transactional
+    public RoomResponseDTO removeWallpaper(Long coupleId, Long expectedVersion) {
+        Room room = findRoomByCouple(coupleId);
+        checkVersion(expectedVersion, room.getVersion());
 
         // 이전 벽지 정보 로깅
         String previousWallpaper = room.getWallpaper() != null ?
                 room.getWallpaper().getName() : "없음";
 
         room.setWallpaper(null);
-        Room savedRoom = roomRepository.save(room);
+        Room savedRoom = roomRepository.saveAndFlush(room);
+        roomEventPublisher.roomChanged(savedRoom.getId(), () -> RoomChangeEvent.wallpaperChanged(savedRoom));
         log.info("벽지 제거 완료 - coupleId: {}, 이전 벽지: {}", coupleId, previousWallpaper);
         return createRoomResponse(savedRoom);
     }
 
     @Override
     @Transactional
-    public RoomResponseDTO removeFloor(Long coupleId) {
+    public RoomResponseDTO removeFloor(Long coupleId, Long expectedVersion) {
         Room room = findRoomByCouple(coupleId);
+        checkVersion(expectedVersion, room.getVersion());
 
         // 이전 바닥 정보 로깅
         String previousFloor = room.getFloor() != null ?
                 room.getFloor().getName() : "없음";
 
         room.setFloor(null);
-        Room savedRoom = roomRepository.save(room);
+        Room savedRoom = roomRepository.saveAndFlush(room);
+        roomEventPublisher.roomChanged(savedRoom.getId(), () -> RoomChangeEvent.floorChanged(savedRoom));
         log.info("바닥 제거 완료 - coupleId: {}, 이전 바닥: {}", coupleId, previousFloor);
         return createRoomResponse(savedRoom);
     }
@@ -202,36 +383,44 @@ public class RoomServiceImpl implements RoomService {
         // 가구 레이아웃 변환
         List<RoomResponseDTO.FurnitureLayoutDTO> furnitureLayouts = room.getFurnitureLayouts()
                 .stream()
-                .map(layout -> new RoomResponseDTO.FurnitureLayoutDTO(
-                        layout.getId(),
-                        layout.getFurniture().getId(),
-                        layout.getFurniture().getName(),
-                        layout.getPositionX(),
-                        layout.getPositionY(),
-                        layout.getRotation(),
-                        layout.getFurniture().getWidth(),
-                        layout.getFurniture().getHeight()
-                ))
+                .map(layout -> {
+                    FurnitureInfo furniture = getFurnitureInfo(layout);
+                    return new RoomResponseDTO.FurnitureLayoutDTO(
+                            layout.getId(),
+                            furniture.getId(),
+                            furniture.getName(),
+                            layout.getPositionX(),
+                            layout.getPositionY(),
+                            layout.getRotation(),
+                            furniture.getWidth(),
+                            furniture.getHeight(),
+                            layout.getVersion()
+                    );
+                })
                 .toList();
 
-        // 벽지 정보 변환
+        // 벽지 정보 변환 (카탈로그 캐시 사용)
         RoomResponseDTO.WallpaperDTO wallpaperDTO = null;
         if (room.getWallpaper() != null) {
-            wallpaperDTO = new RoomResponseDTO.WallpaperDTO(
-                    room.getWallpaper().getId(),
-                    room.getWallpaper().getName(),
-                    room.getWallpaper().getWallpaperNumber()
-            );
+            wallpaperDTO = catalogCache.findWallpaper(room.getWallpaper().getId())
+                    .map(wallpaper -> new RoomResponseDTO.WallpaperDTO(
+                            wallpaper.getId(),
+                            wallpaper.getName(),
+                            wallpaper.getWallpaperNumber()
+                    ))
+                    .orElse(null);
         }
 
-        // 바닥 정보 변환
+        // 바닥 정보 변환 (카탈로그 캐시 사용)
         RoomResponseDTO.FloorDTO floorDTO = null;
         if (room.getFloor() != null) {
-            floorDTO = new RoomResponseDTO.FloorDTO(
-                    room.getFloor().getId(),
-                    room.getFloor().getName(),
-                    room.getFloor().getFloorNumber()
-            );
+            floorDTO = catalogCache.findFloor(room.getFloor().getId())
+                    .map(floor -> new RoomResponseDTO.FloorDTO(
+                            floor.getId(),
+                            floor.getName(),
+                            floor.getFloorNumber()
+                    ))
+                    .orElse(null);
         }
 
         return new RoomResponseDTO(
@@ -240,8 +429,8 @@ public class RoomServiceImpl implements RoomService {
                 furnitureLayouts,
                 floorDTO,
                 wallpaperDTO,
-                room.getThumbnailUrl()
-
+                room.getThumbnailUrl(),
+                room.getVersion()
         );
     }
 
@@ -250,7 +439,7 @@ public class RoomServiceImpl implements RoomService {
             log.error("벽지 보유 확인 실패 - coupleId: {}, wallpaperId: {}", coupleId, wallpaperId);
             throw new WallpaperNotInInventoryException();
         }
-        return wallpaperRepository.findById(wallpaperId)
+        return catalogCache.findWallpaperReference(wallpaperId)
                 .orElseThrow(WallpaperNotFoundException::new);
     }
 
@@ -259,7 +448,7 @@ public class RoomServiceImpl implements RoomService {
             log.error("바닥 보유 확인 실패 - coupleId: {}, floorId: {}", coupleId, floorId);
             throw new FloorNotInInventoryException();
         }
-        return floorRepository.findById(floorId)
+        return catalogCache.findFloorReference(floorId)
                 .orElseThrow(FloorNotFoundException::new);
     }
 
@@ -278,20 +467,31 @@ public class RoomServiceImpl implements RoomService {
     @Override
     @Transactional(readOnly = true)
     public PublicRoomResponseDTO getPublicRoomInfo(Long coupleId, Long requesterId) {
+        // 캐시된 커플 표시 정보로 자신의 방 여부 확인과 응답 생성에 함께 사용
+        Optional<CoupleProfileInfo> foundProfile = coupleProfileCache.find(coupleId);
+
         // 자신의 방을 조회하는 경우 예외 처리
-        if (isRequestingOwnRoom(coupleId, requesterId)) {
+        if (foundProfile.map(profile -> profile.isMember(requesterId)).orElse(false)) {
             throw new InvalidRoomAccessException("자신의 방은 일반 조회 API를 사용해주세요.");
         }
 
-        Room room = roomRepository.findByCoupleId(coupleId)
+        Room room = roomRepository.findWithLayoutsByCoupleId(coupleId)
                 .orElseThrow(RoomNotFoundException::new);
 
-        Couple couple = coupleRepository.findById(coupleId)
-                .orElseThrow(CoupleNotFoundException::new);
+        CoupleProfileInfo profile = foundProfile.orElseThrow(CoupleNotFoundException::new);
+        return createPublicRoomResponse(room, profile);
+    }
 
-        LocalDate anniversaryDate = couple.getUsers().isEmpty() ? null
-                : couple.getUsers().get(0).getAnniversaryDate();
+    /**
+     * 다른 커플 방 조회 기록 (인기 순위용)
+     * 변경이 없어 304로 응답하는 조회도 세도록 컨트롤러에서 조건부 조회 확인 전에 호출한다.
+     * 인기 순위는 공유된 방만 대상이므로 공유 방 인덱스에서 방 ID를 찾는다. (SQL 없음)
+     */
+    public void recordPublicRoomView(Long coupleId) {
+        sharedRoomIndex.findRoomIdByCouple(coupleId).ifPresent(trendingIndex::recordView);
+    }
 
+    private PublicRoomResponseDTO createPublicRoomResponse(Room room, CoupleProfileInfo profile) {
         // 가구 정보 변환
         List<PublicRoomResponseDTO.PublicFurnitureDTO> furnitureLayouts = room.getFurnitureLayouts()
                 .stream()
@@ -304,14 +504,11 @@ public class RoomServiceImpl implements RoomService {
                 .floorName(room.getFloor() != null ? room.getFloor().getName() : null)
                 .build();
 
-        // 커플 이름 생성 (두 사용자의 닉네임 조합)
-        String coupleName = generateCoupleName(couple);
-
         return PublicRoomResponseDTO.builder()
                 .roomId(room.getId())
-                .coupleId(coupleId)
-                .coupleName(coupleName)
-                .anniversaryDate(anniversaryDate)
+                .coupleId(profile.getCoupleId())
+                .coupleName(profile.getDisplayName())
+                .anniversaryDate(profile.getAnniversaryDate())
                 .style(styleDTO)
                 .furnitureLayouts(furnitureLayouts)
                 .thumbnailUrl(room.getThumbnailUrl())  // 썸네일 URL 추가
@@ -334,22 +531,6 @@ public class RoomServiceImpl implements RoomService {
                 .build();
     }
 
-    private String generateCoupleName(Couple couple) {
-        List<User> users = couple.getUsers();
-        if (users.size() >= 2) {
-            return String.format("%s♥%s",
-                    users.get(0).getNickname(),
-                    users.get(1).getNickname());
-        }
-        return "커플";
-    }
-
-    private boolean isRequestingOwnRoom(Long coupleId, Long requesterId) {
-        return coupleRepository.findById(coupleId)
-                .map(couple -> couple.getUsers().stream()
-                        .anyMatch(user -> user.getId().equals(requesterId)))
-                .orElse(false);
-    }
     /**
      * 커플의 방에 가구를 배치하는 메서드
      *
@@ -393,50 +574,38 @@ public class RoomServiceImpl implements RoomService {
 
     @Override
     @Transactional(readOnly = true)
-    public PublicRoomResponseDTO getRandomRoom(Long requesterId) {
-        // 1. 공유된 방 중 자신의 방을 제외한 모든 방 조회
-        List<Room> sharedRooms = roomRepository.findBySharing_IsSharedTrue().stream()
-                .filter(room -> !isRequestingOwnRoom(room.getCouple().getId(), requesterId))
-                .toList();
-
-        // 2. 조회 가능한 방이 없는 경우 예외 처리
-        if (sharedRooms.isEmpty()) {
-            throw new RoomNotFoundException();
-        }
-
-        // 3. 랜덤으로 하나의 방 선택
-        int randomIndex = new Random().nextInt(sharedRooms.size());
-        Room selectedRoom = sharedRooms.get(randomIndex);
-
-
-        LocalDate anniversaryDate = selectedRoom.getCouple().getUsers().isEmpty() ? null
-                : selectedRoom.getCouple().getUsers().get(0).getAnniversaryDate();
-
-        log.info("랜덤 커플방 선택 완료 - 선택된 방 ID: {}, 커플 ID: {}",
-                selectedRoom.getId(), selectedRoom.getCouple().getId());
+    public PublicRoomResponseDTO getRandomRoom(Long requesterCoupleId) {
+        // 인덱스에서 뽑은 방이 그 사이 공유 해제/삭제된 경우 인덱스에서 제거하고 다시 뽑는다
+        for (int attempt = 0; attempt < RANDOM_ROOM_MAX_ATTEMPTS; attempt++) {
+            OptionalLong sampled = sharedRoomIndex.sample(requesterCoupleId);
+            if (sampled.isEmpty()) {
+                break;
+            }
 
-        // 가구 정보 변환
-        List<PublicRoomResponseDTO.PublicFurnitureDTO> furnitureLayouts = selectedRoom.getFurnitureLayouts()
-                .stream()
-                .map(this::convertToPublicFurnitureDTO)
-                .collect(Collectors.toList());
+            long roomId = sampled.getAsLong();
+            Optional<Room> candidate = roomRepository.findWithLayoutsById(roomId)
+                    .filter(room -> room.getSharing() != null && room.getSharing().isShared());
+            if (candidate.isEmpty()) {
+                log.warn("공유 방 인덱스 불일치 - 방 ID: {} 제거 후 재시도", roomId);
+                sharedRoomIndex.remove(roomId);
+                continue;
+            }
 
-        // 방 스타일 정보 생성
-        PublicRoomResponseDTO.RoomStyleDTO styleDTO = PublicRoomResponseDTO.RoomStyleDTO.builder()
-                .wallpaperName(selectedRoom.getWallpaper() != null ? selectedRoom.getWallpaper().getName() : null)
-                .floorName(selectedRoom.getFloor() != null ? selectedRoom.getFloor().getName() : null)
-                .build();
+            Room selectedRoom = candidate.get();
+            Long coupleId = selectedRoom.getCouple().getId();
+            Optional<CoupleProfileInfo> profile = coupleProfileCache.find(coupleId);
+            if (profile.isEmpty()) {
+                log.warn("공유 방의 커플 정보 없음 - 방 ID: {} 제거 후 재시도", roomId);
+                sharedRoomIndex.remove(roomId);
+                continue;
+            }
+            log.info("랜덤 커플방 선택 완료 - 선택된 방 ID: {}, 커플 ID: {}", selectedRoom.getId(), coupleId);
+            trendingIndex.recordView(selectedRoom.getId());
+            return createPublicRoomResponse(selectedRoom, profile.get());
+        }
 
-        // 4. 선택된 방의 정보를 DTO로 변환하여 반환
-        return PublicRoomResponseDTO.builder()
-                .roomId(selectedRoom.getId())
-                .coupleId(selectedRoom.getCouple().getId())
-                .coupleName(generateCoupleName(selectedRoom.getCouple()))
-                .anniversaryDate(anniversaryDate)
-                .style(styleDTO)
-                .furnitureLayouts(furnitureLayouts)
-                .thumbnailUrl(selectedRoom.getThumbnailUrl())
-                .build();
+        // 조회 가능한 방이 없는 경우 예외 처리
+        throw new RoomNotFoundException();
     }
 
 }
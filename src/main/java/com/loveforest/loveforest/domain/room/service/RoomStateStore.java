@@ -0,0 +1,137 @@
+package com.loveforest.loveforest.domain.room.service;
+
+import com.loveforest.loveforest.domain.room.dto.RoomStateDTO;
+import com.loveforest.loveforest.domain.room.entity.RoomPreview;
+import com.loveforest.loveforest.domain.room.entity.RoomStateBlob;
+import com.loveforest.loveforest.domain.room.repository.RoomStateBlobRepository;
+import com.loveforest.loveforest.domain.room.util.RoomPreviewMapper;
+import com.loveforest.loveforest.domain.room.util.RoomStateCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 내용 주소 방 상태 저장소
+ *
+ * 1. 방 상태를 정규 인코딩하고 SHA-256 해시로 기존 행을 찾는다.
+ * 2. 없으면 미리보기를 계산해 별도 트랜잭션에서 새 행을 만든다 (동시에 같은 해시가 들어오면 기존 행 사용).
+ *    호출자 트랜잭션의 스냅샷에는 새 행이 보이지 않으므로 별도 트랜잭션에서 읽은 행을 그대로 사용한다.
+ * 3. 호출자의 트랜잭션에서 참조 수를 증가시킨다 (UPDATE는 커밋된 최신 행에 적용된다).
+ *    조회와 증가 사이에 정리 작업이 참조 없는 행을 지웠으면 증가된 행이 없으므로 새로 만들어 다시 시도한다.
+ *
+ * 참조를 얻지 못하고 남은 행(호출자 롤백 등)은 주기적인 정리 작업이 유예 시간 이후 지운다.
+ */
+@Slf4j
+@Component
+public class RoomStateStore {
+    private static final String METRIC_ACQUIRE = "room.state.blob.acquire";
+    private static final int MAX_ACQUIRE_ATTEMPTS = 3;
+
+    private final RoomStateBlobRepository blobRepository;
+    private final RoomPreviewMapper roomPreviewMapper;
+    private final TransactionTemplate insertTx;
+    private final TransactionTemplate cleanupTx;
+    private final Counter reusedCounter;
+    private final Counter createdCounter;
+    private final long orphanGraceMinutes;
+
+    public RoomStateStore(RoomStateBlobRepository blobRepository,
+                          RoomPreviewMapper roomPreviewMapper,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${room.state-blob.orphan-grace-minutes:60}") long orphanGraceMinutes) {
+        this.blobRepository = blobRepository;
+        this.roomPreviewMapper = roomPreviewMapper;
+        this.insertTx = new TransactionTemplate(transactionManager);
+        this.insertTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cleanupTx = new TransactionTemplate(transactionManager);
+        this.reusedCounter = Counter.builder(METRIC_ACQUIRE).tag("result", "reused").register(meterRegistry);
+        this.createdCounter = Counter.builder(METRIC_ACQUIRE).tag("result", "created").register(meterRegistry);
+        this.orphanGraceMinutes = orphanGraceMinutes;
+    }
+
+    /**
+     * 방 상태에 대한 참조 획득 (호출자의 트랜잭션 안에서 실행)
+     *
+     * @return 참조 수가 증가된 방 상태 행
+     */
+    public RoomStateBlob acquire(RoomStateDTO state) {
+        byte[] encoded = RoomStateCodec.encodeCanonical(state);
+        String hash = sha256(encoded);
+
+        RoomStateBlob blob = blobRepository.findByContentHash(hash).orElse(null);
+        boolean reused = blob != null;
+        for (int attempt = 0; attempt < MAX_ACQUIRE_ATTEMPTS; attempt++) {
+            if (blob == null) {
+                blob = createIfAbsent(hash, encoded, state);
+            }
+            if (blobRepository.incrementRefCount(blob.getId()) == 1) {
+                (reused ? reusedCounter : createdCounter).increment();
+                return blob;
+            }
+            // 조회한 행이 참조 증가 전에 정리됨 - 새로 만든 행은 유예 시간 동안 정리되지 않는다
+            log.debug("참조 증가 전에 정리된 방 상태 - 다시 생성: {}", hash);
+            blob = null;
+            reused = false;
+        }
+        throw new IllegalStateException("방 상태 참조 획득 실패: " + hash);
+    }
+
+    /**
+     * 저장된 방이 삭제될 때 참조 반납 (호출자의 트랜잭션 안에서 실행)
+     */
+    public void release(Collection<RoomStateBlob> blobs) {
+        List<Long> ids = blobs.stream()
+                .filter(Objects::nonNull)
+                .map(RoomStateBlob::getId)
+                .toList();
+        if (!ids.isEmpty()) {
+            blobRepository.decrementRefCounts(ids);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${room.state-blob.cleanup-ms:3600000}")
+    public void deleteUnreferenced() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(orphanGraceMinutes);
+        Integer deleted = cleanupTx.execute(status -> blobRepository.deleteUnreferenced(cutoff));
+        if (deleted != null && deleted > 0) {
+            log.info("참조 없는 방 상태 정리 - {}건", deleted);
+        }
+    }
+
+    // 별도 트랜잭션에서 생성 - 같은 해시가 동시에 들어와 유일 제약에 걸려도 호출자의 트랜잭션은 유지된다
+    private RoomStateBlob createIfAbsent(String hash, byte[] encoded, RoomStateDTO state) {
+        RoomPreview preview = RoomPreview.from(roomPreviewMapper.createFromState(state));
+        try {
+            return insertTx.execute(status ->
+                    blobRepository.saveAndFlush(new RoomStateBlob(hash, encoded, preview)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("방 상태 동시 생성 - 기존 행 사용: {}", hash);
+            return insertTx.execute(status -> blobRepository.findByContentHash(hash)
+                    .orElseThrow(() -> new IllegalStateException("방 상태 조회 실패: " + hash)));
+        }
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.loveforest.loveforest.domain.room.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.loveforest.loveforest.config.JsonMappers;
+import com.loveforest.loveforest.domain.room.enums.RoomChangeType;
+import com.loveforest.loveforest.domain.room.event.RoomChangeEvent;
+import com.loveforest.loveforest.domain.room.event.RoomChangeListener;
+import com.loveforest.loveforest.domain.room.exception.InvalidRoomAccessException;
+import com.loveforest.loveforest.domain.room.exception.RoomNotFoundException;
+import com.loveforest.loveforest.domain.room.exception.RoomNotSharedException;
+import com.loveforest.loveforest.domain.room.repository.RoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 방 변경 실시간 스트림 (SSE)
+ * 방마다 연결된 구독자를 보관하고, 이벤트 버스가 전달한 변경분을 해당 방의 구독자에게만 보낸다.
+ * 이벤트는 한 번만 직렬화하여 모든 구독자에게 같은 문자열을 전송한다.
+ * 클라이언트는 연결 직후 방 상태를 한 번 조회한 뒤 변경분만 반영하면 된다.
+ *
+ * 전송은 커밋 스레드가 아닌 전송 작업 풀에서 한다. 구독자마다 크기가 제한된 송신 큐를 두고
+ * 한 번에 한 작업만 큐를 비우므로 같은 연결에 동시에 쓰지 않으며 순서가 유지된다.
+ * 송신 큐가 가득 찬 느린 연결은 끊어 클라이언트가 다시 연결해 기준 상태를 조회하도록 한다.
+ */
+@Slf4j
+@Service
+public class RoomStreamService implements RoomChangeListener {
+    private static final String CONNECTED_EVENT = "CONNECTED";
+
+    private final RoomRepository roomRepository;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final ThreadPoolExecutor deliveryExecutor;
+    private final Counter droppedCounter;
+    private final Map<Long, Set<Subscriber>> subscribersByRoomId = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public RoomStreamService(RoomRepository roomRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${room.stream.timeout-ms:1800000}") long timeoutMillis,
+                             @Value("${room.stream.workers:4}") int workers,
+                             @Value("${room.stream.queue-capacity:1000}") int queueCapacity,
+                             @Value("${room.stream.subscriber-buffer:32}") int bufferSize) {
+        this.roomRepository = roomRepository;
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.deliveryExecutor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory());
+        this.droppedCounter = Counter.builder("room.stream.dropped")
+                .description("전송이 밀려 끊은 방 변경 스트림 수")
+                .register(meterRegistry);
+        Gauge.builder("room.stream.connections", connections, AtomicInteger::get)
+                .description("연결된 방 변경 스트림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 자신의 방 변경 구독 (커플 구성원)
+     */
+    public SseEmitter subscribe(Long coupleId) {
+        Object[] key = findStreamKey(coupleId);
+        return register((Long) key[0], false);
+    }
+
+    /**
+     * 다른 커플의 공유된 방 변경 구독 (방문자)
+     * 공유가 해제되면 방문자 연결은 종료된다.
+     */
+    public SseEmitter subscribePublic(Long coupleId, Long requesterCoupleId) {
+        if (coupleId.equals(requesterCoupleId)) {
+            throw new InvalidRoomAccessException("자신의 방은 일반 구독 API를 사용해주세요.");
+        }
+        Object[] key = findStreamKey(coupleId);
+        if (!Boolean.TRUE.equals(key[1])) {
+            throw new RoomNotSharedException();
+        }
+        return register((Long) key[0], true);
+    }
+
+    /**
+     * 이 서버에 연결된 구독자의 송신 큐에 이벤트 추가 (이벤트 버스에서 호출, 전송은 작업 풀에서 처리)
+     */
+    @Override
+    public void onRoomChange(RoomChangeEvent event) {
+        Set<Subscriber> subscribers = subscribersByRoomId.get(event.getRoomId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        String payload;
+        try {
+            payload = JsonMappers.ROOM_CHANGE_EVENT_WRITER.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("방 변경 이벤트 직렬화 실패 - roomId: {}, type: {}", event.getRoomId(), event.getType(), e);
+            return;
+        }
+
+        boolean sharingClosed = event.getType() == RoomChangeType.SHARING_CHANGED
+                && !Boolean.TRUE.equals(event.getIsShared());
+        // 이벤트 빌더는 전송 시 내용이 바뀌므로 구독자마다 새로 만든다 (본문 문자열은 공유)
+        Supplier<SseEmitter.SseEventBuilder> message = () -> SseEmitter.event()
+                .name(event.getType().name())
+                .data(payload, MediaType.APPLICATION_JSON);
+
+        for (Subscriber subscriber : subscribers) {
+            enqueue(event.getRoomId(), subscriber, new Outgoing(message, sharingClosed && subscriber.visitor));
+        }
+    }
+
+    /**
+     * 프록시/로드밸런서의 유휴 연결 종료를 막기 위한 주기적 주석 전송
+     * 끊어진 연결도 여기서 정리된다.
+     */
+    @Scheduled(fixedDelayString = "${room.stream.heartbeat-ms:25000}")
+    public void sendHeartbeat() {
+        Outgoing heartbeat = new Outgoing(() -> SseEmitter.event().comment("heartbeat"), false);
+        subscribersByRoomId.forEach((roomId, subscribers) ->
+                subscribers.forEach(subscriber -> enqueue(roomId, subscriber, heartbeat)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 남은 전송은 버린다 - 클라이언트는 다시 연결해 기준 상태를 조회한다
+        deliveryExecutor.shutdownNow();
+    }
+
+    private Object[] findStreamKey(Long coupleId) {
+        List<Object[]> keys = roomRepository.findStreamKeyByCoupleId(coupleId);
+        if (keys.isEmpty()) {
+            throw new RoomNotFoundException();
+        }
+        return keys.get(0);
+    }
+
+    private SseEmitter register(Long roomId, boolean visitor) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, visitor, bufferSize);
+
+        subscribersByRoomId.computeIfAbsent(roomId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        connections.incrementAndGet();
+        emitter.onCompletion(() -> unregister(roomId, subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unregister(roomId, subscriber));
+
+        // 연결 직후 방 ID를 알려 클라이언트가 기준 상태를 조회하도록 한다
+        enqueue(roomId, subscriber, new Outgoing(() -> SseEmitter.event().name(CONNECTED_EVENT).data(roomId), false));
+        log.debug("방 변경 스트림 연결 - roomId: {}, 방문자: {}", roomId, visitor);
+        return emitter;
+    }
+
+    private void unregister(Long roomId, Subscriber subscriber) {
+        Set<Subscriber> subscribers = subscribersByRoomId.get(roomId);
+        if (subscribers != null && subscribers.remove(subscriber)) {
+            connections.decrementAndGet();
+            if (subscribers.isEmpty()) {
+                subscribersByRoomId.remove(roomId, subscribers);
+            }
+        }
+    }
+
+    private void enqueue(Long roomId, Subscriber subscriber, Outgoing message) {
+        if (!subscriber.outbox.offer(message)) {
+            drop(roomId, subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                deliveryExecutor.execute(() -> drain(roomId, subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+                drop(roomId, subscriber);
+            }
+        }
+    }
+
+    /**
+     * 송신 큐 비우기 - 구독자마다 한 작업만 실행되므로 같은 연결에 동시에 쓰지 않는다
+     */
+    private void drain(Long roomId, Subscriber subscriber) {
+        do {
+            Outgoing message;
+            while ((message = subscriber.outbox.poll()) != null) {
+                if (!send(roomId, subscriber, message)) {
+                    subscriber.outbox.clear();
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // 플래그를 내리는 사이에 추가된 메시지는 여기서 이어서 보낸다
+        } while (!subscriber.outbox.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean send(Long roomId, Subscriber subscriber, Outgoing message) {
+        try {
+            subscriber.emitter.send(message.event().get());
+            if (message.closeAfter()) {
+                subscriber.emitter.complete();
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("방 변경 스트림 전송 실패, 연결 정리 - roomId: {}", roomId);
+            unregister(roomId, subscriber);
+            subscriber.emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void drop(Long roomId, Subscriber subscriber) {
+        droppedCounter.increment();
+        log.debug("방 변경 스트림 전송 지연, 연결 종료 - roomId: {}", roomId);
+        unregister(roomId, subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "room-stream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Outgoing(Supplier<SseEmitter.SseEventBuilder> event, boolean closeAfter) {
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final boolean visitor;
+        private final BlockingQueue<Outgoing> outbox;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, boolean visitor, int bufferSize) {
+            this.emitter = emitter;
+            this.visitor = visitor;
+            this.outbox = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
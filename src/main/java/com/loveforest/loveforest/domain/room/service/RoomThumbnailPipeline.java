@@ -0,0 +1,304 @@
+package com.loveforest.loveforest.domain.room.service;
+
+import com.loveforest.loveforest.domain.room.enums.ThumbnailVariant;
+import com.loveforest.loveforest.exception.CustomException;
+import com.loveforest.loveforest.exception.ErrorCode;
+import com.loveforest.loveforest.s3.service.BlobStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 방 캡처 썸네일 비동기 처리
+ *
+ * 1. 요청 스레드는 업로드를 임시 파일로 받고 헤더만 읽어 형식과 픽셀 수를 확인한다.
+ * 2. 원본을 그대로 목록용/상세용 변형 이름으로 먼저 게시하여 저장된 URL이 재시작 후에도 항상 열리도록 한다.
+ * 3. 커밋 이후 작업 풀이 이미지를 디코딩해 크기를 줄인 변형으로 원자적으로 교체하고, 롤백되면 게시한 파일을 지운다.
+ *
+ * 변형은 원본과 같은 형식(확장자)으로 만들어 파일 이름, 내용, Content-Type이 항상 일치한다.
+ * 작업 큐가 가득 차면 크기 변환만 건너뛰고 먼저 게시한 원본을 그대로 쓴다.
+ */
+@Slf4j
+@Component
+public class RoomThumbnailPipeline {
+    private static final String METRIC_PROCESS = "room.thumbnail.process";
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final BlobStore storageService;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+    private final Timer successTimer;
+    private final Timer fallbackTimer;
+    private final Counter droppedCounter;
+
+    public RoomThumbnailPipeline(BlobStore storageService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${room.thumbnail.workers:2}") int workers,
+                                 @Value("${room.thumbnail.queue-capacity:100}") int queueCapacity,
+                                 @Value("${room.thumbnail.max-pixels:25000000}") long maxPixels) {
+        this.storageService = storageService;
+        this.maxPixels = maxPixels;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory());
+        this.successTimer = Timer.builder(METRIC_PROCESS).tag("result", "resized").register(meterRegistry);
+        this.fallbackTimer = Timer.builder(METRIC_PROCESS).tag("result", "original").register(meterRegistry);
+        this.droppedCounter = Counter.builder("room.thumbnail.dropped")
+                .description("작업 큐가 가득 차 원본을 그대로 쓴 썸네일 수")
+                .register(meterRegistry);
+        Gauge.builder("room.thumbnail.queue", executor, e -> e.getQueue().size())
+                .description("처리 대기 중인 썸네일 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 업로드를 확인하고 원본을 변형 이름으로 게시한 뒤 커밋 이후 크기 변환을 예약
+     *
+     * @return 방/컬렉션에 저장할 DETAIL 변형 URL (목록 응답은 LIST 변형으로 변환)
+     * @throws CustomException 읽을 수 없는 형식이거나 픽셀 수가 제한을 넘는 경우
+     */
+    public String submit(MultipartFile file) throws IOException {
+        Path upload = storageService.createIncomingFile(".upload");
+        String extension;
+        try {
+            file.transferTo(upload);
+            extension = probe(upload);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(upload);
+            throw e;
+        }
+
+        String baseName = UUID.randomUUID().toString();
+        try {
+            publishOriginal(upload, baseName, extension);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(upload);
+            deleteVariants(baseName, extension);
+            throw e;
+        }
+
+        afterCommit(() -> schedule(upload, baseName, extension), () -> {
+            deleteQuietly(upload);
+            deleteVariants(baseName, extension);
+        });
+        return storageService.fileUrl(ThumbnailVariant.DETAIL.fileNameOf(baseName, extension));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("썸네일 처리 작업이 남은 채로 종료 - 대기 중: {}", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    // ===== 내부 구현 =====
+
+    /**
+     * 이미지 헤더만 읽어 형식과 크기 확인 (픽셀 데이터는 디코딩하지 않음)
+     *
+     * @return 원본 형식의 확장자 (.jpg, .png 등)
+     */
+    private String probe(Path upload) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(upload.toFile())) {
+            Iterator<ImageReader> readers = input == null
+                    ? Collections.emptyIterator()
+                    : ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new CustomException(ErrorCode.INVALID_IMAGE_FORMAT);
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels;
+                try {
+                    pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                } catch (IOException e) {
+                    throw new CustomException(ErrorCode.INVALID_IMAGE_FORMAT);
+                }
+                if (pixels > maxPixels) {
+                    throw new CustomException(ErrorCode.IMAGE_SIZE_EXCEEDED);
+                }
+                return "." + reader.getOriginatingProvider().getFileSuffixes()[0];
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void schedule(Path upload, String baseName, String extension) {
+        try {
+            executor.execute(() -> process(upload, baseName, extension));
+        } catch (RejectedExecutionException e) {
+            // 원본이 이미 변형 이름으로 게시되어 있으므로 크기 변환만 건너뛴다 (요청 스레드에서 처리하지 않음)
+            droppedCounter.increment();
+            log.warn("썸네일 작업 큐가 가득 참 - 원본 유지: {}", baseName);
+            deleteQuietly(upload);
+        }
+    }
+
+    private void process(Path upload, String baseName, String extension) {
+        long start = System.nanoTime();
+        try {
+            BufferedImage source = ImageIO.read(upload.toFile());
+            if (source == null) {
+                fallbackTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return;
+            }
+
+            for (ThumbnailVariant variant : ThumbnailVariant.values()) {
+                Path resized = storageService.createIncomingFile(extension);
+                try {
+                    writeImage(resize(source, variant), extension, resized);
+                    storageService.publishFile(resized, variant.fileNameOf(baseName, extension));
+                } finally {
+                    deleteQuietly(resized);  // 게시되면 이미 옮겨졌으므로 게시 전에 실패한 경우만 남아 있다
+                }
+            }
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.debug("썸네일 변형 생성 완료 - {}", baseName);
+        } catch (Exception e) {
+            // 먼저 게시한 원본(또는 이미 교체된 변형)이 남아 있으므로 URL은 계속 열린다
+            log.error("썸네일 처리 실패 - 원본 유지 {}: {}", baseName, e.getMessage());
+            fallbackTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    private void publishOriginal(Path upload, String baseName, String extension) throws IOException {
+        for (ThumbnailVariant variant : ThumbnailVariant.values()) {
+            Path copy = storageService.createIncomingFile(extension);
+            try {
+                Files.copy(upload, copy, StandardCopyOption.REPLACE_EXISTING);
+                storageService.publishFile(copy, variant.fileNameOf(baseName, extension));
+            } finally {
+                deleteQuietly(copy);
+            }
+        }
+    }
+
+    private void deleteVariants(String baseName, String extension) {
+        for (ThumbnailVariant variant : ThumbnailVariant.values()) {
+            try {
+                storageService.deleteFile(storageService.fileUrl(variant.fileNameOf(baseName, extension)));
+            } catch (RuntimeException e) {
+                log.warn("썸네일 변형 삭제 실패 - {}: {}", baseName, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 비율을 유지하여 변형 크기 안에 맞춘다 (확대하지 않음, 투명 영역은 흰색)
+     */
+    private BufferedImage resize(BufferedImage source, ThumbnailVariant variant) {
+        double scale = Math.min(1.0, Math.min(
+                (double) variant.getMaxWidth() / source.getWidth(),
+                (double) variant.getMaxHeight() / source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 원본과 같은 형식으로 인코딩 (JPEG만 압축 품질을 지정)
+     */
+    private void writeImage(BufferedImage image, String extension, Path target) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersBySuffix(extension.substring(1));
+        if (!writers.hasNext()) {
+            throw new IOException("인코더를 찾을 수 없습니다: " + extension);
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed() && ".jpg".equals(extension)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+            }
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private void afterCommit(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path);
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "room-thumbnail-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,20 +1,32 @@
 package com.loveforest.loveforest.domain.room.service;
 
-import com.loveforest.loveforest.domain.couple.entity.Couple;
+import com.loveforest.loveforest.domain.room.dto.CursorPageResponseDTO;
 import com.loveforest.loveforest.domain.room.dto.RoomOperationResponseDTO;
 import com.loveforest.loveforest.domain.room.dto.SharedRoomResponseDTO;
+import com.loveforest.loveforest.domain.room.dto.SharedRoomSummaryDTO;
 import com.loveforest.loveforest.domain.room.entity.Room;
+import com.loveforest.loveforest.domain.room.event.RoomChangeEvent;
+import com.loveforest.loveforest.domain.room.event.RoomEventPublisher;
 import com.loveforest.loveforest.domain.room.exception.RoomNotFoundException;
+import com.loveforest.loveforest.domain.room.repository.FurnitureLayoutRepository;
 import com.loveforest.loveforest.domain.room.repository.RoomRepository;
-import com.loveforest.loveforest.domain.room.util.RoomPreviewMapper;
-import com.loveforest.loveforest.domain.user.entity.User;
+import com.loveforest.loveforest.domain.room.util.KeysetCursor;
+import com.loveforest.loveforest.domain.room.util.RoomTrendingIndex;
+import com.loveforest.loveforest.domain.room.util.SharedRoomIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,8 +34,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class SharedRoomService {
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final RoomRepository roomRepository;
-    private final RoomPreviewMapper roomPreviewMapper;
+    private final FurnitureLayoutRepository furnitureLayoutRepository;
+    private final SharedRoomIndex sharedRoomIndex;
+    private final RoomTrendingIndex trendingIndex;
+    private final RoomEventPublisher roomEventPublisher;
 
 
     /**
@@ -46,6 +63,8 @@ public class SharedRoomService {
 
         room.updateSharing(isShared);
         roomRepository.save(room);
+        sharedRoomIndex.onSharingChanged(room.getId(), coupleId, isShared);
+        roomEventPublisher.roomChanged(room.getId(), () -> RoomChangeEvent.sharingChanged(room, isShared));
 
         log.info("방 공유 상태 변경 - 커플 ID: {}, 공유 상태: {}", coupleId, isShared);
 
@@ -60,34 +79,76 @@ public class SharedRoomService {
     }
 
     /**
-     * 공유된 방 목록 조회
+     * 공유된 방 목록 조회 (최신 공유 순, 커서 기반 페이지네이션)
+     * 방 엔티티를 로딩하지 않고 프로젝션 쿼리와 가구 이름 IN 쿼리로 페이지를 구성한다.
      */
-    public List<SharedRoomResponseDTO> getSharedRooms(Long coupleId) {
-        return roomRepository.findBySharing_IsSharedTrue().stream()
-                .filter(room -> !room.getCouple().getId().equals(coupleId)) // 자신의 방 제외
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<SharedRoomResponseDTO> getSharedRooms(Long coupleId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Long excludedCoupleId = coupleId != null ? coupleId : -1L;
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<SharedRoomSummaryDTO> rows = keyset == null
+                ? roomRepository.findSharedRoomSummaries(excludedCoupleId, limit)
+                : roomRepository.findSharedRoomSummariesAfter(
+                        excludedCoupleId, keyset.getTimestamp(), keyset.getId(), limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<SharedRoomSummaryDTO> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            SharedRoomSummaryDTO last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.of(last.getSharedAt(), last.getRoomId()).encode();
+        }
+
+        return new CursorPageResponseDTO<>(toResponses(page), hasNext, nextCursor);
     }
 
+    /**
+     * 인기 공유 방 목록 조회 (최근 조회/저장 기반 점수 순)
+     * 미리 계산된 상위 K개 순위에서 앞쪽만 읽고, 해당 방들만 기본 키로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<SharedRoomResponseDTO> getTrendingRooms(Long coupleId, int size) {
+        int limit = Math.max(1, Math.min(size, trendingIndex.getTopK()));
+
+        // 자신의 방이 순위에 있으면 제외되므로 한 건 더 가져온다
+        List<Long> roomIds = trendingIndex.top(limit + 1);
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
 
-    private SharedRoomResponseDTO convertToDTO(Room room) {
-        return SharedRoomResponseDTO.builder()
-                .roomId(room.getId())
-                .coupleName(generateCoupleName(room.getCouple()))
-                .roomPreview(roomPreviewMapper.createFromRoom(room))
-                .sharedAt(room.getSharing().getLastModified())
-                .thumbnailUrl(room.getThumbnailUrl())
-                .build();
+        Map<Long, SharedRoomSummaryDTO> summaries = roomRepository.findSharedRoomSummariesByIds(roomIds).stream()
+                .collect(Collectors.toMap(SharedRoomSummaryDTO::getRoomId, Function.identity()));
+
+        List<SharedRoomSummaryDTO> ranked = roomIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .filter(summary -> !summary.getCoupleId().equals(coupleId))
+                .limit(limit)
+                .collect(Collectors.toList());
+        return toResponses(ranked);
     }
 
-    private String generateCoupleName(Couple couple) {
-        List<User> users = couple.getUsers();
-        if (users.size() >= 2) {
-            return String.format("%s♥%s",
-                    users.get(0).getNickname(),
-                    users.get(1).getNickname());
+    // 가구 이름은 페이지의 방 ID로 한 번에 조회 (구분자로 합치지 않으므로 이름에 어떤 문자가 있어도 그대로 전달)
+    private List<SharedRoomResponseDTO> toResponses(List<SharedRoomSummaryDTO> summaries) {
+        if (summaries.isEmpty()) {
+            return List.of();
         }
-        return "커플";
-    }
+        List<Long> roomIds = summaries.stream()
+                .map(SharedRoomSummaryDTO::getRoomId)
+                .collect(Collectors.toList());
 
-}
\ No newline at end of file
+        Map<Long, List<String>> furnitureNames = new HashMap<>();
+        for (Object[] row : furnitureLayoutRepository.findFurnitureNamesByRoomIds(roomIds)) {
+            furnitureNames.computeIfAbsent((Long) row[0], roomId -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        return summaries.stream()
+                .map(summary -> summary.toResponse(furnitureNames.get(summary.getRoomId())))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,137 @@
+package com.loveforest.loveforest.domain.room.util;
+
+import com.loveforest.loveforest.domain.room.entity.Furniture;
+import com.loveforest.loveforest.domain.room.entity.FurnitureLayout;
+import com.loveforest.loveforest.domain.room.entity.Room;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 방의 현재 가구 배치를 목표 배치로 바꾸는 최소 변경 계산/적용
+ *
+ * 1. 가구 ID, 위치, 회전이 모두 같은 배치는 그대로 둔다.
+ * 2. 남은 배치 중 같은 가구 ID끼리 짝지어 위치/회전만 수정한다 (가까운 위치 우선).
+ * 3. 짝이 없는 목표는 새로 추가하고, 짝이 없는 기존 배치는 orphanRemoval로 삭제한다.
+ *
+ * 전체를 지우고 다시 넣는 대신 바뀐 행만 UPDATE/INSERT/DELETE 되며,
+ * 변경 행 수는 room.layout.diff.size 지표로 기록한다.
+ */
+@Component
+public class FurnitureLayoutDiffer {
+    private static final String METRIC_DIFF_SIZE = "room.layout.diff.size";
+
+    private final MeterRegistry meterRegistry;
+
+    public FurnitureLayoutDiffer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param source 지표 태그 (preset, collection 등)
+     */
+    public LayoutDiffResult apply(Room room, List<LayoutTarget> targets, String source) {
+        List<FurnitureLayout> remaining = new ArrayList<>(room.getFurnitureLayouts());
+        List<LayoutTarget> unmatched = new ArrayList<>();
+        int unchanged = 0;
+
+        // 1. 완전히 같은 배치
+        for (LayoutTarget target : targets) {
+            FurnitureLayout same = remaining.stream()
+                    .filter(target::isSameAs)
+                    .findFirst()
+                    .orElse(null);
+            if (same != null) {
+                remaining.remove(same);
+                unchanged++;
+            } else {
+                unmatched.add(target);
+            }
+        }
+
+        // 2. 같은 가구는 위치만 수정
+        int updated = 0;
+        List<LayoutTarget> toInsert = new ArrayList<>();
+        for (LayoutTarget target : unmatched) {
+            FurnitureLayout closest = remaining.stream()
+                    .filter(layout -> target.getFurnitureId().equals(layout.getFurniture().getId()))
+                    .min(Comparator.comparingInt(target::distanceTo))
+                    .orElse(null);
+            if (closest != null) {
+                remaining.remove(closest);
+                closest.setPosition(target.getPositionX(), target.getPositionY(), target.getRotation());
+                updated++;
+            } else {
+                toInsert.add(target);
+            }
+        }
+
+        // 3. 추가/삭제
+        toInsert.forEach(target -> room.addFurnitureLayout(new FurnitureLayout(
+                target.getFurniture(), target.getPositionX(), target.getPositionY(), target.getRotation())));
+        remaining.forEach(room::removeFurnitureLayout);
+
+        LayoutDiffResult result = new LayoutDiffResult(toInsert.size(), updated, remaining.size(), unchanged);
+        record(source, result);
+        return result;
+    }
+
+    private void record(String source, LayoutDiffResult result) {
+        summary(source, "insert").record(result.getInserted());
+        summary(source, "update").record(result.getUpdated());
+        summary(source, "delete").record(result.getDeleted());
+        summary(source, "unchanged").record(result.getUnchanged());
+    }
+
+    private DistributionSummary summary(String source, String kind) {
+        return DistributionSummary.builder(METRIC_DIFF_SIZE)
+                .tag("source", source)
+                .tag("kind", kind)
+                .description("배치 적용 시 변경된 가구 배치 행 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 목표 가구 배치 (가구는 연관관계 설정용 참조)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class LayoutTarget {
+        private final Furniture furniture;
+        private final int positionX;
+        private final int positionY;
+        private final int rotation;
+
+        public Long getFurnitureId() {
+            return furniture.getId();
+        }
+
+        private boolean isSameAs(FurnitureLayout layout) {
+            return getFurnitureId().equals(layout.getFurniture().getId())
+                    && positionX == layout.getPositionX()
+                    && positionY == layout.getPositionY()
+                    && rotation == layout.getRotation();
+        }
+
+        private int distanceTo(FurnitureLayout layout) {
+            return Math.abs(positionX - layout.getPositionX()) + Math.abs(positionY - layout.getPositionY());
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class LayoutDiffResult {
+        private final int inserted;
+        private final int updated;
+        private final int deleted;
+        private final int unchanged;
+
+        public int getWrites() {
+            return inserted + updated + deleted;
+        }
+    }
+}
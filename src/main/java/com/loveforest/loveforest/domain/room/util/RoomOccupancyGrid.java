@@ -0,0 +1,321 @@
+package com.loveforest.loveforest.domain.room.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 방 하나의 가구 점유 격자
+ * 칸마다 점유한 가구 수를 저장하여, 기존 데이터에 겹친 배치가 있어도
+ * 가구 하나를 빼거나 옮길 때 다른 가구의 점유가 지워지지 않는다.
+ * 점유된 칸만 박싱 없는 해시 테이블에 저장하므로 좌표 범위에 제한이 없고,
+ * 충돌 확인은 가구가 차지하는 칸 수만큼만 비용이 든다.
+ * 방 크기를 지정한 경우에만 범위를 검사하고, 지정하지 않아도 int 좌표 범위를 넘는 배치는 거부한다. (스레드 안전하지 않음)
+ */
+public final class RoomOccupancyGrid {
+    private static final int UNBOUNDED = 0;
+    private static final long COORDINATE_END = (long) Integer.MAX_VALUE + 1;
+
+    private final int width;
+    private final int height;
+    private final CellCounts counts;
+    private final Map<Long, Footprint> footprints;
+
+    /**
+     * 방 크기를 모르는 격자 - 겹침만 검사한다.
+     */
+    public RoomOccupancyGrid() {
+        this(UNBOUNDED, UNBOUNDED);
+    }
+
+    /**
+     * @param width  방 너비 (칸 수, 0이면 범위 검사 안 함)
+     * @param height 방 높이 (칸 수, 0이면 범위 검사 안 함)
+     */
+    public RoomOccupancyGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.counts = new CellCounts();
+        this.footprints = new HashMap<>();
+    }
+
+    private RoomOccupancyGrid(RoomOccupancyGrid other) {
+        this.width = other.width;
+        this.height = other.height;
+        this.counts = other.counts.copy();
+        this.footprints = new HashMap<>(other.footprints);
+    }
+
+    /**
+     * 일괄 변경 검증용 사본 - 사본에 반영한 배치는 원본에 영향을 주지 않는다.
+     */
+    public RoomOccupancyGrid copy() {
+        return new RoomOccupancyGrid(this);
+    }
+
+    public boolean isBounded() {
+        return width > 0 && height > 0;
+    }
+
+    public boolean isInside(Footprint footprint) {
+        if (!isBounded()) {
+            return footprint.endX() <= COORDINATE_END && footprint.endY() <= COORDINATE_END;
+        }
+        return footprint.x >= 0 && footprint.y >= 0
+                && footprint.endX() <= width
+                && footprint.endY() <= height;
+    }
+
+    /**
+     * @param ignoreKey 이동 중인 가구처럼 점유 계산에서 제외할 배치 (없으면 null)
+     */
+    public boolean isFree(Footprint footprint, Long ignoreKey) {
+        Footprint ignored = ignoreKey != null ? footprints.get(ignoreKey) : null;
+        for (long y = footprint.y; y < footprint.endY(); y++) {
+            for (long x = footprint.x; x < footprint.endX(); x++) {
+                int occupied = counts.get(cell(x, y));
+                if (ignored != null && ignored.contains(x, y)) {
+                    occupied--;
+                }
+                if (occupied > 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public void put(Long key, Footprint footprint) {
+        remove(key);
+        footprints.put(key, footprint);
+        paint(footprint, 1);
+    }
+
+    public void remove(Long key) {
+        Footprint previous = footprints.remove(key);
+        if (previous != null) {
+            paint(previous, -1);
+        }
+    }
+
+    /**
+     * 원하는 위치에서 가장 가까운 빈 위치 (같은 크기/회전 기준)
+     * 원하는 위치를 중심으로 거리를 한 칸씩 넓혀 가며 찾는다.
+     * 방 크기를 모르면 배치된 가구를 모두 벗어나는 거리까지만 찾으므로 항상 결과가 있다.
+     */
+    public Optional<Footprint> findNearestFree(Footprint desired, Long ignoreKey) {
+        long minX = Integer.MIN_VALUE;
+        long minY = Integer.MIN_VALUE;
+        long maxX = COORDINATE_END - desired.width;
+        long maxY = COORDINATE_END - desired.height;
+        int originX = desired.x;
+        int originY = desired.y;
+        int maxDistance;
+
+        if (isBounded()) {
+            minX = 0;
+            minY = 0;
+            maxX = width - desired.width;
+            maxY = height - desired.height;
+            if (maxX < 0 || maxY < 0) {
+                return Optional.empty();
+            }
+            originX = (int) Math.min(Math.max(desired.x, 0), maxX);
+            originY = (int) Math.min(Math.max(desired.y, 0), maxY);
+            maxDistance = Math.max(width, height);
+        } else {
+            maxDistance = distanceToClear(desired);
+        }
+
+        for (long distance = 0; distance <= maxDistance; distance++) {
+            Footprint best = null;
+            long bestScore = Long.MAX_VALUE;
+
+            for (long y = (long) originY - distance; y <= (long) originY + distance; y++) {
+                for (long x = (long) originX - distance; x <= (long) originX + distance; x++) {
+                    boolean onRing = Math.abs(x - originX) == distance || Math.abs(y - originY) == distance;
+                    if (!onRing || x < minX || y < minY || x > maxX || y > maxY) {
+                        continue;
+                    }
+                    Footprint candidate = desired.movedTo((int) x, (int) y);
+                    long score = (x - desired.x) * (x - desired.x) + (y - desired.y) * (y - desired.y);
+                    if (score < bestScore && isFree(candidate, ignoreKey)) {
+                        best = candidate;
+                        bestScore = score;
+                    }
+                }
+            }
+            if (best != null) {
+                return Optional.of(best);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 원하는 위치에서 이 거리만큼 옮기면 배치된 가구를 모두 벗어난다 (방 크기를 모를 때의 탐색 한계)
+    private int distanceToClear(Footprint desired) {
+        long distance = 0;
+        for (Footprint placed : footprints.values()) {
+            distance = Math.max(distance, Math.abs((long) placed.x - desired.x) + placed.width + desired.width);
+            distance = Math.max(distance, Math.abs((long) placed.y - desired.y) + placed.height + desired.height);
+        }
+        return (int) Math.min(distance, Integer.MAX_VALUE);
+    }
+
+    private void paint(Footprint footprint, int delta) {
+        for (long y = footprint.y; y < footprint.endY(); y++) {
+            for (long x = footprint.x; x < footprint.endX(); x++) {
+                counts.add(cell(x, y), delta);
+            }
+        }
+    }
+
+    // 칸 좌표는 int 범위이므로 상위/하위 32비트에 나누어 담는다
+    private static long cell(long x, long y) {
+        return (x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 회전을 반영한 가구의 점유 영역 (좌상단 기준, 격자 칸 단위)
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Footprint {
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+        private final int rotation;
+
+        /**
+         * 90도/270도 회전 시 너비와 높이를 바꾼다.
+         */
+        public static Footprint of(int x, int y, int rotation, int furnitureWidth, int furnitureHeight) {
+            int normalized = ((rotation % 360) + 360) % 360;
+            boolean swapped = normalized == 90 || normalized == 270;
+            return new Footprint(x, y,
+                    swapped ? furnitureHeight : furnitureWidth,
+                    swapped ? furnitureWidth : furnitureHeight,
+                    rotation);
+        }
+
+        private Footprint movedTo(int newX, int newY) {
+            return new Footprint(newX, newY, width, height, rotation);
+        }
+
+        private boolean contains(long cellX, long cellY) {
+            return cellX >= x && cellX < endX() && cellY >= y && cellY < endY();
+        }
+
+        // 오른쪽/아래 끝 (해당 칸 제외) - 큰 좌표에서 int 덧셈이 넘치지 않도록 long으로 계산
+        private long endX() {
+            return (long) x + width;
+        }
+
+        private long endY() {
+            return (long) y + height;
+        }
+    }
+
+    /**
+     * 칸 키(long) -> 점유 수(int) 해시 테이블 (선형 탐사, 박싱 없음)
+     * 점유 수가 0인 슬롯은 비어 있는 것으로 보며, 삭제 시 뒤따르는 항목을 당겨 탐사 경로를 유지한다.
+     */
+    private static final class CellCounts {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] keys;
+        private int[] values;
+        private int size;
+
+        private CellCounts() {
+            this(new long[INITIAL_CAPACITY], new int[INITIAL_CAPACITY], 0);
+        }
+
+        private CellCounts(long[] keys, int[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+        }
+
+        private CellCounts copy() {
+            return new CellCounts(keys.clone(), values.clone(), size);
+        }
+
+        private int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = slot(key, mask); values[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return 0;
+        }
+
+        private void add(long key, int delta) {
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            for (; values[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    values[i] += delta;
+                    if (values[i] <= 0) {
+                        removeAt(i);
+                    }
+                    return;
+                }
+            }
+            if (delta <= 0) {
+                return;
+            }
+            keys[i] = key;
+            values[i] = delta;
+            // 선형 탐사는 채움 비율이 높으면 탐사가 길어지므로 절반을 넘으면 늘린다
+            if (++size * 2 > keys.length) {
+                resize();
+            }
+        }
+
+        private void removeAt(int hole) {
+            int mask = keys.length - 1;
+            values[hole] = 0;
+            size--;
+            for (int i = (hole + 1) & mask; values[i] != 0; i = (i + 1) & mask) {
+                // 원래 자리에서 i까지의 탐사 경로에 빈 슬롯이 생겼으면 당겨 온다
+                int home = slot(keys[i], mask);
+                if (((i - home) & mask) >= ((i - hole) & mask)) {
+                    keys[hole] = keys[i];
+                    values[hole] = values[i];
+                    values[i] = 0;
+                    hole = i;
+                }
+            }
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldValues[j] == 0) {
+                    continue;
+                }
+                int i = slot(oldKeys[j], mask);
+                while (values[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.loveforest.loveforest.domain.room.util;
+
+import com.loveforest.loveforest.domain.room.exception.FurnitureNotFoundException;
+import com.loveforest.loveforest.domain.room.exception.FurnitureOutOfBoundsException;
+import com.loveforest.loveforest.domain.room.exception.FurnitureOverlapException;
+import com.loveforest.loveforest.domain.room.repository.FurnitureLayoutRepository;
+import com.loveforest.loveforest.domain.room.util.RoomOccupancyGrid.Footprint;
+import com.loveforest.loveforest.domain.shop.catalog.CatalogCache;
+import com.loveforest.loveforest.domain.shop.catalog.FurnitureInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 방별 가구 점유 격자 캐시
+ * 방마다 처음 한 번 가구 배치로 격자를 만들고, 이후 배치/이동/제거가 커밋되면 해당 가구만 갱신한다.
+ * 배치/이동 검증과 빈 위치 추천 모두 이 격자를 사용하므로 방 행을 잠그지 않고 가구 수와 무관한 비용으로 검증한다.
+ * 커밋 이후에 반영하므로 아직 커밋되지 않은 다른 편집은 보이지 않는다. (동시 수정은 가구 배치 @Version이 막는다)
+ * 방 크기(room.grid.width/height)를 지정하지 않으면 겹침만 검사한다.
+ */
+@Slf4j
+@Component
+public class RoomOccupancyIndex {
+
+    private final CatalogCache catalogCache;
+    private final FurnitureLayoutRepository furnitureLayoutRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final int gridWidth;
+    private final int gridHeight;
+    private final Map<Long, RoomOccupancyGrid> grids = new ConcurrentHashMap<>();
+
+    // 커밋된 변경 수 - 격자를 만드는 동안 변경이 반영되었으면 만든 격자를 캐시에 남기지 않는다
+    private final AtomicLong changeCount = new AtomicLong();
+
+    public RoomOccupancyIndex(CatalogCache catalogCache,
+                              FurnitureLayoutRepository furnitureLayoutRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${room.grid.width:0}") int gridWidth,
+                              @Value("${room.grid.height:0}") int gridHeight) {
+        this.catalogCache = catalogCache;
+        this.furnitureLayoutRepository = furnitureLayoutRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        // 호출한 트랜잭션의 스냅샷이 아니라 항상 최신 커밋 상태로 격자를 만든다
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+    }
+
+    /**
+     * 가구를 해당 위치에 둘 수 있는지 검증
+     *
+     * @param layoutId 이동하는 가구 배치 ID (새로 배치하면 null)
+     * @throws FurnitureOutOfBoundsException 범위를 벗어나는 경우
+     * @throws FurnitureOverlapException     다른 가구와 겹치는 경우
+     */
+    public void validatePlacement(Long roomId, Long layoutId, Long furnitureId, int x, int y, int rotation) {
+        Footprint footprint = footprintOf(furnitureId, x, y, rotation);
+        RoomOccupancyGrid grid = gridOf(roomId);
+        synchronized (grid) {
+            validate(grid, layoutId, footprint);
+        }
+    }
+
+    /**
+     * 일괄 변경용 격자 사본 - 작업을 순서대로 검증하며 사본에만 반영한다.
+     */
+    public RoomOccupancyGrid copyOf(Long roomId) {
+        RoomOccupancyGrid grid = gridOf(roomId);
+        synchronized (grid) {
+            return grid.copy();
+        }
+    }
+
+    /**
+     * 사본 격자에 가구를 검증 후 반영
+     */
+    public void validateAndPut(RoomOccupancyGrid grid, Long key, Long furnitureId, int x, int y, int rotation) {
+        Footprint footprint = footprintOf(furnitureId, x, y, rotation);
+        validate(grid, key, footprint);
+        grid.put(key, footprint);
+    }
+
+    /**
+     * 원하는 위치에서 가장 가까운 빈 위치
+     *
+     * @param layoutId 이동하려는 가구 배치 ID (새로 배치하면 null)
+     */
+    public Optional<Footprint> findNearestFree(Long roomId, Long layoutId, Long furnitureId,
+                                               int x, int y, int rotation) {
+        Footprint desired = footprintOf(furnitureId, x, y, rotation);
+        RoomOccupancyGrid grid = gridOf(roomId);
+        synchronized (grid) {
+            return grid.findNearestFree(desired, layoutId);
+        }
+    }
+
+    // ===== 변경 반영 (커밋 이후) =====
+
+    /**
+     * 새로 배치하거나 이동한 가구 반영
+     */
+    public void onLayoutPlaced(Long roomId, Long layoutId, Long furnitureId, int x, int y, int rotation) {
+        Footprint footprint = footprintOf(furnitureId, x, y, rotation);
+        afterCommit(() -> update(roomId, grid -> grid.put(layoutId, footprint)));
+    }
+
+    public void onLayoutRemoved(Long roomId, Long layoutId) {
+        afterCommit(() -> update(roomId, grid -> grid.remove(layoutId)));
+    }
+
+    /**
+     * 여러 가구가 한 번에 바뀐 경우 (일괄 변경, 상태 복원, 프리셋 적용) - 다음 조회 시 다시 만든다.
+     */
+    public void invalidate(Long roomId) {
+        afterCommit(() -> {
+            changeCount.incrementAndGet();
+            grids.remove(roomId);
+        });
+    }
+
+    // ===== 내부 구현 =====
+
+    /**
+     * 캐시된 격자, 없으면 최신 커밋 상태로 만든다.
+     * 만든 격자를 먼저 캐시에 넣고 그 사이 변경이 있었는지 확인하므로,
+     * 변경이 격자를 만들기 전 스냅샷에 빠졌으면 캐시에서 빼고, 캐시에 넣은 뒤의 변경은 격자에 반영된다.
+     */
+    private RoomOccupancyGrid gridOf(Long roomId) {
+        RoomOccupancyGrid cached = grids.get(roomId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long before = changeCount.get();
+        RoomOccupancyGrid built = build(roomId);
+        RoomOccupancyGrid existing = grids.putIfAbsent(roomId, built);
+        if (existing != null) {
+            return existing;
+        }
+        if (changeCount.get() != before) {
+            grids.remove(roomId, built);  // 이번 검증에만 사용
+        }
+        return built;
+    }
+
+    private RoomOccupancyGrid build(Long roomId) {
+        List<Object[]> placements = readOnlyTx.execute(status ->
+                furnitureLayoutRepository.findPlacementsByRoomId(roomId));
+        RoomOccupancyGrid grid = new RoomOccupancyGrid(gridWidth, gridHeight);
+        for (Object[] placement : placements) {
+            grid.put((Long) placement[0], footprintOf((Long) placement[1],
+                    (Integer) placement[2], (Integer) placement[3], (Integer) placement[4]));
+        }
+        log.debug("가구 점유 격자 생성 - roomId: {}, 가구 수: {}", roomId, placements.size());
+        return grid;
+    }
+
+    private void validate(RoomOccupancyGrid grid, Long key, Footprint footprint) {
+        if (!grid.isInside(footprint)) {
+            throw new FurnitureOutOfBoundsException();
+        }
+        if (!grid.isFree(footprint, key)) {
+            throw new FurnitureOverlapException();
+        }
+    }
+
+    private Footprint footprintOf(Long furnitureId, int x, int y, int rotation) {
+        FurnitureInfo furniture = catalogCache.findFurniture(furnitureId)
+                .orElseThrow(FurnitureNotFoundException::new);
+        return Footprint.of(x, y, rotation, furniture.getWidth(), furniture.getHeight());
+    }
+
+    private void update(Long roomId, Consumer<RoomOccupancyGrid> change) {
+        changeCount.incrementAndGet();
+        RoomOccupancyGrid grid = grids.get(roomId);
+        if (grid == null) {
+            return;  // 아직 만들어지지 않은 격자는 다음 조회 시 DB 상태로 생성
+        }
+        synchronized (grid) {
+            change.accept(grid);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
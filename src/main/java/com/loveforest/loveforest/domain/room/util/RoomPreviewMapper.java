@@ -1,22 +1,18 @@
 package com.loveforest.loveforest.domain.room.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loveforest.loveforest.domain.room.dto.FurnitureLayoutDTO;
 import com.loveforest.loveforest.domain.room.dto.RoomPreviewDTO;
 import com.loveforest.loveforest.domain.room.dto.RoomStateDTO;
-import com.loveforest.loveforest.domain.room.entity.Floor;
-import com.loveforest.loveforest.domain.room.entity.Furniture;
 import com.loveforest.loveforest.domain.room.entity.Room;
-import com.loveforest.loveforest.domain.room.entity.Wallpaper;
-import com.loveforest.loveforest.domain.room.exception.RoomSerializationException;
-import com.loveforest.loveforest.domain.room.repository.FloorRepository;
-import com.loveforest.loveforest.domain.room.repository.FurnitureRepository;
-import com.loveforest.loveforest.domain.room.repository.WallpaperRepository;
+import com.loveforest.loveforest.domain.shop.catalog.CatalogCache;
+import com.loveforest.loveforest.domain.shop.catalog.FloorInfo;
+import com.loveforest.loveforest.domain.shop.catalog.FurnitureInfo;
+import com.loveforest.loveforest.domain.shop.catalog.WallpaperInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Component
@@ -24,9 +20,7 @@ import java.util.stream.Collectors;
 @Slf4j
 public class RoomPreviewMapper {
 
-    private final WallpaperRepository wallpaperRepository;
-    private final FloorRepository floorRepository;
-    private final FurnitureRepository furnitureRepository;
+    private final CatalogCache catalogCache;
 
     public RoomPreviewDTO createFromRoom(Room room) {
         return RoomPreviewDTO.builder()
@@ -39,44 +33,61 @@ public class RoomPreviewMapper {
                 .build();
     }
 
-    public RoomPreviewDTO createFromJson(String roomData) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            RoomStateDTO state = mapper.readValue(roomData, RoomStateDTO.class);
+    public RoomPreviewDTO createFromState(RoomStateDTO state) {
+        return createFromStates(List.of(state)).get(0);
+    }
 
-            // 벽지 이름 조회
-            String wallpaperName = null;
-            if (state.getWallpaperId() != null) {
-                wallpaperName = wallpaperRepository.findById(state.getWallpaperId())
-                        .map(Wallpaper::getName)
-                        .orElse(null);
-            }
+    /**
+     * 여러 방 상태의 미리보기를 한 번에 생성
+     * 참조된 카탈로그 ID를 타입별로 모아 한 번에 조회한 뒤 미리보기를 조립한다.
+     *
+     * @param states 디코딩된 방 상태 목록
+     * @return 입력 순서와 같은 순서의 미리보기 목록
+     */
+    public List<RoomPreviewDTO> createFromStates(List<RoomStateDTO> states) {
+        // 1. 참조된 카탈로그 ID 수집 후 일괄 조회
+        Set<Long> wallpaperIds = new HashSet<>();
+        Set<Long> floorIds = new HashSet<>();
+        Set<Long> furnitureIds = new HashSet<>();
+        for (RoomStateDTO state : states) {
+            wallpaperIds.add(state.getWallpaperId());
+            floorIds.add(state.getFloorId());
+            layoutsOf(state).forEach(layout -> furnitureIds.add(layout.getFurnitureId()));
+        }
 
-            // 바닥 이름 조회
-            String floorName = null;
-            if (state.getFloorId() != null) {
-                floorName = floorRepository.findById(state.getFloorId())
-                        .map(Floor::getName)
-                        .orElse(null);
-            }
+        Map<Long, WallpaperInfo> wallpapers = catalogCache.findAllWallpapers(wallpaperIds);
+        Map<Long, FloorInfo> floors = catalogCache.findAllFloors(floorIds);
+        Map<Long, FurnitureInfo> furniture = catalogCache.findAllFurniture(furnitureIds);
 
-            // 가구 이름 조회
-            var furnitureNames = state.getFurnitureLayouts().stream()
-                    .map(layout -> furnitureRepository.findById(layout.getFurnitureId())
-                            .map(Furniture::getName)
-                            .orElse("Unknown Furniture"))
-                    .collect(Collectors.toList());
+        // 2. 미리보기 조립
+        return states.stream()
+                .map(state -> assemble(state, wallpapers, floors, furniture))
+                .collect(Collectors.toList());
+    }
 
-            return RoomPreviewDTO.builder()
-                    .wallpaperName(wallpaperName)
-                    .floorName(floorName)
-                    .furnitureNames(furnitureNames)
-                    .totalFurniture(furnitureNames.size())
-                    .build();
+    private RoomPreviewDTO assemble(RoomStateDTO state,
+                                    Map<Long, WallpaperInfo> wallpapers,
+                                    Map<Long, FloorInfo> floors,
+                                    Map<Long, FurnitureInfo> furniture) {
+        WallpaperInfo wallpaper = state.getWallpaperId() != null ? wallpapers.get(state.getWallpaperId()) : null;
+        FloorInfo floor = state.getFloorId() != null ? floors.get(state.getFloorId()) : null;
 
-        } catch (JsonProcessingException e) {
-            log.error("방 미리보기 생성 실패", e);
-            throw new RoomSerializationException();
-        }
+        List<String> furnitureNames = layoutsOf(state).stream()
+                .map(layout -> {
+                    FurnitureInfo info = furniture.get(layout.getFurnitureId());
+                    return info != null ? info.getName() : "Unknown Furniture";
+                })
+                .collect(Collectors.toList());
+
+        return RoomPreviewDTO.builder()
+                .wallpaperName(wallpaper != null ? wallpaper.getName() : null)
+                .floorName(floor != null ? floor.getName() : null)
+                .furnitureNames(furnitureNames)
+                .totalFurniture(furnitureNames.size())
+                .build();
+    }
+
+    private List<FurnitureLayoutDTO> layoutsOf(RoomStateDTO state) {
+        return state.getFurnitureLayouts() != null ? state.getFurnitureLayouts() : List.of();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,197 @@
+package com.loveforest.loveforest.domain.room.util;
+
+import com.loveforest.loveforest.config.JsonMappers;
+import com.loveforest.loveforest.domain.room.dto.FurnitureLayoutDTO;
+import com.loveforest.loveforest.domain.room.dto.RoomStateDTO;
+import com.loveforest.loveforest.domain.room.exception.RoomSerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 방 상태(RoomStateDTO) 바이너리 코덱
+ *
+ * <pre>
+ * [magic 'L' 'F'] [version] [flags]
+ * [wallpaperId uvarint]?  (flags bit0)
+ * [floorId uvarint]?      (flags bit1)
+ * [layout count uvarint]
+ * 반복: [furnitureId uvarint] [positionX zigzag] [positionY zigzag] [rotation zigzag]
+ * </pre>
+ *
+ * 가구 이름은 카탈로그에서 다시 조회할 수 있으므로 저장하지 않는다.
+ * 버전 1 이전에 저장된 JSON 행은 {@link #fromLegacyJson(String)}으로 읽는다.
+ */
+public final class RoomStateCodec {
+    private static final byte MAGIC_0 = 'L';
+    private static final byte MAGIC_1 = 'F';
+    public static final byte VERSION = 1;
+
+    private static final int FLAG_WALLPAPER = 1;
+    private static final int FLAG_FLOOR = 1 << 1;
+
+    // 가구 하나는 varint 4개이므로 최소 4바이트
+    private static final int MIN_LAYOUT_BYTES = 4;
+
+    private RoomStateCodec() {
+    }
+
+    public static byte[] encode(RoomStateDTO state) {
+        List<FurnitureLayoutDTO> layouts = state.getFurnitureLayouts() != null
+                ? state.getFurnitureLayouts() : List.of();
+
+        // 헤더 4바이트 + 가구당 보통 8바이트 이하
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + layouts.size() * 8);
+        out.write(MAGIC_0);
+        out.write(MAGIC_1);
+        out.write(VERSION);
+
+        int flags = 0;
+        if (state.getWallpaperId() != null) {
+            flags |= FLAG_WALLPAPER;
+        }
+        if (state.getFloorId() != null) {
+            flags |= FLAG_FLOOR;
+        }
+        out.write(flags);
+
+        if (state.getWallpaperId() != null) {
+            writeUnsigned(out, state.getWallpaperId());
+        }
+        if (state.getFloorId() != null) {
+            writeUnsigned(out, state.getFloorId());
+        }
+
+        writeUnsigned(out, layouts.size());
+        for (FurnitureLayoutDTO layout : layouts) {
+            writeUnsigned(out, layout.getFurnitureId());
+            writeSigned(out, layout.getPositionX());
+            writeSigned(out, layout.getPositionY());
+            writeSigned(out, layout.getRotation());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 정규 인코딩 - 가구 배치 순서와 무관하게 같은 방이면 같은 바이트가 되도록 정렬 후 인코딩
+     * (내용 주소 저장소의 해시 입력으로 사용)
+     */
+    public static byte[] encodeCanonical(RoomStateDTO state) {
+        List<FurnitureLayoutDTO> layouts = new ArrayList<>(
+                state.getFurnitureLayouts() != null ? state.getFurnitureLayouts() : List.of());
+        layouts.sort(CANONICAL_ORDER);
+        return encode(new RoomStateDTO(state.getWallpaperId(), state.getFloorId(), layouts));
+    }
+
+    private static final Comparator<FurnitureLayoutDTO> CANONICAL_ORDER = Comparator
+            .comparing(FurnitureLayoutDTO::getFurnitureId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparingInt(FurnitureLayoutDTO::getPositionX)
+            .thenComparingInt(FurnitureLayoutDTO::getPositionY)
+            .thenComparingInt(FurnitureLayoutDTO::getRotation);
+
+    /**
+     * @throws RoomSerializationException 형식이 잘못되었거나 지원하지 않는 버전인 경우
+     */
+    public static RoomStateDTO decode(byte[] data) {
+        if (!isBinary(data)) {
+            throw new RoomSerializationException();
+        }
+        Reader in = new Reader(data, 2);
+        int version = in.readByte();
+        if (version != VERSION) {
+            throw new RoomSerializationException();
+        }
+
+        int flags = in.readByte();
+        Long wallpaperId = (flags & FLAG_WALLPAPER) != 0 ? in.readUnsigned() : null;
+        Long floorId = (flags & FLAG_FLOOR) != 0 ? in.readUnsigned() : null;
+
+        // 남은 바이트로 담을 수 없는 개수는 손상된 데이터 (음수는 64비트 넘침)
+        long count = in.readUnsigned();
+        if (count < 0 || count > in.remaining() / MIN_LAYOUT_BYTES) {
+            throw new RoomSerializationException();
+        }
+        List<FurnitureLayoutDTO> layouts = new ArrayList<>((int) count);
+        for (int i = 0; i < count; i++) {
+            layouts.add(FurnitureLayoutDTO.builder()
+                    .furnitureId(in.readUnsigned())
+                    .positionX(in.readSigned())
+                    .positionY(in.readSigned())
+                    .rotation(in.readSigned())
+                    .build());
+        }
+        return new RoomStateDTO(wallpaperId, floorId, layouts);
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length >= 4 && data[0] == MAGIC_0 && data[1] == MAGIC_1;
+    }
+
+    /**
+     * 바이너리 코덱 도입 이전의 JSON 방 상태 읽기
+     */
+    public static RoomStateDTO fromLegacyJson(String roomData) {
+        try {
+            RoomStateDTO state = JsonMappers.ROOM_STATE_READER.readValue(roomData);
+            if (state.getFurnitureLayouts() == null) {
+                state.setFurnitureLayouts(new ArrayList<>());
+            }
+            return state;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new RoomSerializationException();
+        }
+    }
+
+    private static void writeUnsigned(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static void writeSigned(ByteArrayOutputStream out, int value) {
+        writeUnsigned(out, Integer.toUnsignedLong((value << 1) ^ (value >> 31)));
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int pos;
+
+        private Reader(byte[] data, int pos) {
+            this.data = data;
+            this.pos = pos;
+        }
+
+        private int remaining() {
+            return data.length - pos;
+        }
+
+        private int readByte() {
+            if (pos >= data.length) {
+                throw new RoomSerializationException();
+            }
+            return data[pos++] & 0xFF;
+        }
+
+        private long readUnsigned() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new RoomSerializationException();
+        }
+
+        private int readSigned() {
+            int raw = (int) readUnsigned();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+    }
+}
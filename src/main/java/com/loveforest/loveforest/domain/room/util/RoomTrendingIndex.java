@@ -0,0 +1,133 @@
+package com.loveforest.loveforest.domain.room.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공유 방 인기 순위 인메모리 인덱스
+ *
+ * 조회/저장은 방별 LongAdder에만 더하고, 주기적인 반영 작업이
+ * 1. 기존 점수를 경과 시간만큼 반감기 기준으로 감쇠시키고
+ * 2. 쌓인 조회/저장 수에 가중치를 곱해 더한 뒤
+ * 3. 상위 K개를 정렬된 스냅샷으로 만들어 둔다.
+ *
+ * 순위 조회는 스냅샷에서 앞쪽 항목만 읽으므로 tbl_room을 스캔하지 않는다.
+ * 공유가 해제된 방과 점수가 충분히 낮아진 방은 반영 시 추적 대상에서 뺀다.
+ */
+@Slf4j
+@Component
+public class RoomTrendingIndex {
+    private static final double VIEW_WEIGHT = 1.0;
+    private static final double SAVE_WEIGHT = 5.0;
+    private static final double MIN_SCORE = 0.01;
+
+    private final SharedRoomIndex sharedRoomIndex;
+    private final int topK;
+    private final double halfLifeMs;
+
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> pendingSaves = new ConcurrentHashMap<>();
+    private final Map<Long, Double> scores = new HashMap<>();  // flush()에서만 접근
+    private long lastFlushMillis = System.currentTimeMillis();
+    private volatile List<Long> ranking = List.of();
+
+    public RoomTrendingIndex(SharedRoomIndex sharedRoomIndex,
+                             MeterRegistry meterRegistry,
+                             @Value("${room.trending.top-k:100}") int topK,
+                             @Value("${room.trending.half-life-ms:21600000}") long halfLifeMs) {
+        this.sharedRoomIndex = sharedRoomIndex;
+        this.topK = topK;
+        this.halfLifeMs = halfLifeMs;
+        Gauge.builder("room.trending.tracked", this, index -> index.trackedSize())
+                .description("인기 점수를 추적 중인 공유 방 수")
+                .register(meterRegistry);
+    }
+
+    public void recordView(Long roomId) {
+        pendingViews.computeIfAbsent(roomId, id -> new LongAdder()).increment();
+    }
+
+    public void recordSave(Long roomId) {
+        pendingSaves.computeIfAbsent(roomId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 인기 순 방 ID (점수 내림차순)
+     *
+     * @param limit 최대 개수 (상위 K개를 넘을 수 없음)
+     */
+    public List<Long> top(int limit) {
+        List<Long> snapshot = ranking;
+        return snapshot.subList(0, Math.min(Math.max(limit, 0), snapshot.size()));
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * 감쇠, 누적 반영, 상위 K개 스냅샷 갱신
+     */
+    @Scheduled(fixedDelayString = "${room.trending.flush-ms:60000}")
+    public synchronized void flush() {
+        long now = System.currentTimeMillis();
+        double decay = Math.pow(0.5, (now - lastFlushMillis) / halfLifeMs);
+        lastFlushMillis = now;
+        scores.replaceAll((roomId, score) -> score * decay);
+
+        drain(pendingViews, VIEW_WEIGHT);
+        drain(pendingSaves, SAVE_WEIGHT);
+        scores.entrySet().removeIf(entry ->
+                entry.getValue() < MIN_SCORE || !sharedRoomIndex.contains(entry.getKey()));
+
+        // 크기 K의 최소 힙으로 상위 K개 선택 (추적 중인 방 수 N에 대해 O(N log K))
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > topK) {
+                heap.poll();
+            }
+        }
+        List<Long> top = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            top.add(heap.poll().getKey());
+        }
+        Collections.reverse(top);
+        ranking = Collections.unmodifiableList(top);
+
+        log.debug("인기 방 순위 갱신 - 추적: {}, 상위: {}", scores.size(), top.size());
+    }
+
+    /**
+     * 쌓인 기록을 점수에 반영
+     * 기록 중인 LongAdder를 지우면 지우기 직전에 더한 값이 사라지므로, 공유된 방의 LongAdder는 지우지 않고
+     * sumThenReset()으로 비우기만 한다. (항목 수는 공유 방 수를 넘지 않는다)
+     * 공유되지 않은 방은 순위에서도 빠지므로 쌓인 기록과 함께 지운다.
+     */
+    private void drain(Map<Long, LongAdder> pending, double weight) {
+        Iterator<Map.Entry<Long, LongAdder>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, LongAdder> entry = iterator.next();
+            if (!sharedRoomIndex.contains(entry.getKey())) {
+                iterator.remove();
+                continue;
+            }
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                scores.merge(entry.getKey(), count * weight, Double::sum);
+            }
+        }
+    }
+
+    private synchronized int trackedSize() {
+        return scores.size();
+    }
+}
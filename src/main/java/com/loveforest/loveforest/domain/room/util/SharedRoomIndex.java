@@ -0,0 +1,219 @@
+package com.loveforest.loveforest.domain.room.util;
+
+import com.loveforest.loveforest.domain.room.enums.RoomChangeType;
+import com.loveforest.loveforest.domain.room.event.RoomChangeEvent;
+import com.loveforest.loveforest.domain.room.event.RoomChangeListener;
+import com.loveforest.loveforest.domain.room.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 공유된 방 ID 인메모리 인덱스
+ * 랜덤 방 조회 시 DB를 거치지 않고 상수 시간에 방 하나를 고른다.
+ * 삭제는 마지막 원소와 자리를 바꾸는 방식으로 O(1)을 유지한다.
+ *
+ * 서버마다 인덱스를 가지므로 다른 서버의 공유 상태 변경은 이벤트 버스로 받아 DB의 현재 값으로 반영하고,
+ * 유실된 메시지에 대비해 주기적으로 DB 목록과 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SharedRoomIndex implements RoomChangeListener {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final RoomRepository roomRepository;
+
+    private long[] roomIds = new long[INITIAL_CAPACITY];
+    private long[] coupleIds = new long[INITIAL_CAPACITY];
+    private int size;
+    private final Map<Long, Integer> positionByRoomId = new HashMap<>();
+    private final Map<Long, Integer> positionByCoupleId = new HashMap<>();
+    private long changes;  // add/remove 횟수 - 조회 중 반영된 변경을 전체 재구성이 덮어쓰지 않도록 확인
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * DB의 공유 방 목록으로 인덱스를 다시 구성
+     */
+    public synchronized void reload() {
+        List<Object[]> keys = roomRepository.findSharedRoomKeys();
+        clear();
+        for (Object[] key : keys) {
+            put((Long) key[0], (Long) key[1]);
+        }
+        loaded = true;
+        log.info("공유 방 인덱스 로딩 완료 - 방 수: {}", size);
+    }
+
+    /**
+     * DB 목록과 주기적으로 맞춤 - 조회하는 동안 변경이 반영되었으면 이번 회차는 건너뛴다
+     */
+    @Scheduled(fixedDelayString = "${room.shared-index.reconcile-ms:300000}",
+            initialDelayString = "${room.shared-index.reconcile-ms:300000}")
+    public void reconcile() {
+        long before;
+        synchronized (this) {
+            before = changes;
+        }
+        List<Object[]> keys = roomRepository.findSharedRoomKeys();
+
+        synchronized (this) {
+            if (changes != before) {
+                log.debug("공유 방 인덱스 조회 중 변경 반영됨 - 다음 회차에 맞춤");
+                return;
+            }
+            int previous = size;
+            clear();
+            for (Object[] key : keys) {
+                put((Long) key[0], (Long) key[1]);
+            }
+            loaded = true;
+            if (previous != size) {
+                log.info("공유 방 인덱스 재구성 - 방 수: {} -> {}", previous, size);
+            }
+        }
+    }
+
+    /**
+     * 이벤트 버스로 받은 공유 상태 변경 반영 (다른 서버에서 발생한 변경 포함)
+     * 메시지 순서와 관계없이 DB의 현재 공유 상태를 읽어 반영한다.
+     */
+    @Override
+    public void onRoomChange(RoomChangeEvent event) {
+        if (event.getType() != RoomChangeType.SHARING_CHANGED) {
+            return;
+        }
+        List<Object[]> keys = roomRepository.findSharedRoomKeyById(event.getRoomId());
+        if (keys.isEmpty()) {
+            remove(event.getRoomId());
+        } else {
+            add((Long) keys.get(0)[0], (Long) keys.get(0)[1]);
+        }
+    }
+
+    /**
+     * 공유 상태 변경 반영
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영하여 롤백된 변경이 인덱스에 남지 않도록 한다.
+     */
+    public void onSharingChanged(Long roomId, Long coupleId, boolean isShared) {
+        Runnable apply = () -> {
+            if (isShared) {
+                add(roomId, coupleId);
+            } else {
+                remove(roomId);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    public synchronized void add(Long roomId, Long coupleId) {
+        if (!positionByRoomId.containsKey(roomId)) {
+            put(roomId, coupleId);
+            changes++;
+        }
+    }
+
+    public synchronized void remove(Long roomId) {
+        Integer position = positionByRoomId.remove(roomId);
+        if (position == null) {
+            return;
+        }
+        changes++;
+        positionByCoupleId.remove(coupleIds[position]);
+
+        // 마지막 원소를 빈 자리로 옮긴다
+        int last = --size;
+        if (position != last) {
+            roomIds[position] = roomIds[last];
+            coupleIds[position] = coupleIds[last];
+            positionByRoomId.put(roomIds[position], position);
+            positionByCoupleId.put(coupleIds[position], position);
+        }
+    }
+
+    /**
+     * 주어진 커플의 방을 제외하고 균등한 확률로 공유 방 하나를 선택
+     *
+     * @param excludedCoupleId 제외할 커플 ID (null이면 제외 없음)
+     * @return 선택된 방 ID, 후보가 없으면 empty
+     */
+    public synchronized OptionalLong sample(Long excludedCoupleId) {
+        if (!loaded) {
+            reload();
+        }
+
+        Integer excluded = excludedCoupleId != null ? positionByCoupleId.get(excludedCoupleId) : null;
+        int candidates = excluded != null ? size - 1 : size;
+        if (candidates <= 0) {
+            return OptionalLong.empty();
+        }
+
+        // 제외 위치를 건너뛰도록 인덱스를 한 칸 밀어준다
+        int pick = ThreadLocalRandom.current().nextInt(candidates);
+        if (excluded != null && pick >= excluded) {
+            pick++;
+        }
+        return OptionalLong.of(roomIds[pick]);
+    }
+
+    /**
+     * 커플의 공유 방 ID (공유되지 않았으면 empty)
+     */
+    public synchronized OptionalLong findRoomIdByCouple(Long coupleId) {
+        Integer position = positionByCoupleId.get(coupleId);
+        return position != null ? OptionalLong.of(roomIds[position]) : OptionalLong.empty();
+    }
+
+    public synchronized boolean contains(Long roomId) {
+        return positionByRoomId.containsKey(roomId);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void put(Long roomId, Long coupleId) {
+        if (size == roomIds.length) {
+            roomIds = Arrays.copyOf(roomIds, size * 2);
+            coupleIds = Arrays.copyOf(coupleIds, size * 2);
+        }
+        roomIds[size] = roomId;
+        coupleIds[size] = coupleId;
+        positionByRoomId.put(roomId, size);
+        positionByCoupleId.put(coupleId, size);
+        size++;
+    }
+
+    private void clear() {
+        size = 0;
+        positionByRoomId.clear();
+        positionByCoupleId.clear();
+    }
+}
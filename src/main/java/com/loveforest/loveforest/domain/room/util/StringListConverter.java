@@ -0,0 +1,55 @@
+package com.loveforest.loveforest.domain.room.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.loveforest.loveforest.config.JsonMappers;
+import com.loveforest.loveforest.domain.room.exception.RoomSerializationException;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 문자열 목록을 JSON 배열 하나로 단일 컬럼에 저장하는 컨버터
+ * 원소에 어떤 문자가 들어 있어도 그대로 복원되며, 빈 목록과 빈 문자열 하나뿐인 목록을 구분한다.
+ * JSON 도입 이전에 "|"로 이어 붙여 저장한 값도 읽을 수 있다.
+ */
+@Converter
+public class StringListConverter implements AttributeConverter<List<String>, String> {
+    private static final String LEGACY_DELIMITER_REGEX = "\\|";
+
+    @Override
+    public String convertToDatabaseColumn(List<String> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        try {
+            return JsonMappers.STRING_LIST_WRITER.writeValueAsString(attribute);
+        } catch (JsonProcessingException e) {
+            throw new RoomSerializationException();
+        }
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        if (dbData.startsWith("[")) {
+            try {
+                return JsonMappers.STRING_LIST_READER.readValue(dbData);
+            } catch (JsonProcessingException e) {
+                // "["로 시작하는 이름을 구분자 형식으로 저장한 기존 값
+            }
+        }
+        return fromLegacy(dbData);
+    }
+
+    // 구분자 형식은 빈 목록과 빈 이름 하나를 구분할 수 없어 빈 값은 빈 목록으로 읽는다
+    private static List<String> fromLegacy(String dbData) {
+        if (dbData.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(dbData.split(LEGACY_DELIMITER_REGEX, -1));
+    }
+}
@@ -0,0 +1,265 @@
+package com.loveforest.loveforest.domain.shop.catalog;
+
+import com.loveforest.loveforest.domain.room.entity.Floor;
+import com.loveforest.loveforest.domain.room.entity.Furniture;
+import com.loveforest.loveforest.domain.room.entity.Wallpaper;
+import com.loveforest.loveforest.domain.room.repository.FloorRepository;
+import com.loveforest.loveforest.domain.room.repository.FurnitureRepository;
+import com.loveforest.loveforest.domain.room.repository.WallpaperRepository;
+import com.loveforest.loveforest.domain.shop.entity.ItemType;
+import com.loveforest.loveforest.domain.shop.repository.ShopItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 가구/벽지/바닥/상점 아이템 카탈로그 read-through 캐시
+ * 카탈로그는 ShopInitializer가 한 번 생성한 뒤 거의 변하지 않으므로
+ * 시작 시 전체를 메모리에 올려두고 조회 경로에서는 SQL 없이 응답한다.
+ * 캐시에 없는 ID는 DB를 확인하고, 존재하면 전체 스냅샷을 다시 만든다.
+ */
+@Slf4j
+@Component
+public class CatalogCache {
+    private static final String METRIC_REQUESTS = "catalog.cache.requests";
+    private static final String METRIC_SIZE = "catalog.cache.size";
+
+    private final FurnitureRepository furnitureRepository;
+    private final WallpaperRepository wallpaperRepository;
+    private final FloorRepository floorRepository;
+    private final ShopItemRepository shopItemRepository;
+
+    private final Map<String, Counter> hitCounters = new HashMap<>();
+    private final Map<String, Counter> missCounters = new HashMap<>();
+
+    private volatile Snapshot snapshot;
+
+    public CatalogCache(FurnitureRepository furnitureRepository,
+                        WallpaperRepository wallpaperRepository,
+                        FloorRepository floorRepository,
+                        ShopItemRepository shopItemRepository,
+                        MeterRegistry meterRegistry) {
+        this.furnitureRepository = furnitureRepository;
+        this.wallpaperRepository = wallpaperRepository;
+        this.floorRepository = floorRepository;
+        this.shopItemRepository = shopItemRepository;
+
+        registerMetrics(meterRegistry, "furniture", s -> s.furniture.size());
+        registerMetrics(meterRegistry, "wallpaper", s -> s.wallpapers.size());
+        registerMetrics(meterRegistry, "floor", s -> s.floors.size());
+        registerMetrics(meterRegistry, "shop_item", s -> s.shopItemCount);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 카탈로그가 변경되었을 때 호출 - 다음 조회 시 DB에서 다시 로딩한다.
+     */
+    public void invalidate() {
+        snapshot = null;
+        log.info("카탈로그 캐시 무효화");
+    }
+
+    // ===== 조회 =====
+
+    public Optional<FurnitureInfo> findFurniture(Long furnitureId) {
+        return lookup("furniture", furnitureId, s -> s.furniture,
+                id -> furnitureRepository.existsById(id));
+    }
+
+    public Optional<WallpaperInfo> findWallpaper(Long wallpaperId) {
+        return lookup("wallpaper", wallpaperId, s -> s.wallpapers,
+                id -> wallpaperRepository.existsById(id));
+    }
+
+    public Optional<FloorInfo> findFloor(Long floorId) {
+        return lookup("floor", floorId, s -> s.floors,
+                id -> floorRepository.existsById(id));
+    }
+
+    // ===== 일괄 조회 =====
+    // 캐시에 없는 ID는 카탈로그 타입별로 IN 쿼리 한 번으로 확인한다
+
+    public Map<Long, FurnitureInfo> findAllFurniture(Collection<Long> furnitureIds) {
+        return lookupAll("furniture", furnitureIds, s -> s.furniture,
+                missing -> furnitureRepository.findAllById(missing).stream().map(FurnitureInfo::from).toList(),
+                FurnitureInfo::getId);
+    }
+
+    public Map<Long, WallpaperInfo> findAllWallpapers(Collection<Long> wallpaperIds) {
+        return lookupAll("wallpaper", wallpaperIds, s -> s.wallpapers,
+                missing -> wallpaperRepository.findAllById(missing).stream().map(WallpaperInfo::from).toList(),
+                WallpaperInfo::getId);
+    }
+
+    public Map<Long, FloorInfo> findAllFloors(Collection<Long> floorIds) {
+        return lookupAll("floor", floorIds, s -> s.floors,
+                missing -> floorRepository.findAllById(missing).stream().map(FloorInfo::from).toList(),
+                FloorInfo::getId);
+    }
+
+    /**
+     * 타입별 판매 중인 상점 아이템 목록
+     */
+    public List<ShopItemInfo> getAvailableItems(ItemType itemType) {
+        return current().availableItems.getOrDefault(itemType, List.of());
+    }
+
+    // ===== 엔티티 참조 =====
+    // 존재 여부는 캐시로 확인하고, 연관관계 설정용 프록시만 반환한다 (SQL 없음)
+
+    public Optional<Furniture> findFurnitureReference(Long furnitureId) {
+        return findFurniture(furnitureId).map(info -> furnitureRepository.getReferenceById(info.getId()));
+    }
+
+    public Optional<Wallpaper> findWallpaperReference(Long wallpaperId) {
+        return findWallpaper(wallpaperId).map(info -> wallpaperRepository.getReferenceById(info.getId()));
+    }
+
+    public Optional<Floor> findFloorReference(Long floorId) {
+        return findFloor(floorId).map(info -> floorRepository.getReferenceById(info.getId()));
+    }
+
+    // ===== 내부 구현 =====
+
+    private <V> Optional<V> lookup(String catalog, Long id,
+                                   Function<Snapshot, LongKeyedIndex<V>> indexOf,
+                                   Function<Long, Boolean> existsInDb) {
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        V cached = indexOf.apply(current()).get(id);
+        if (cached != null) {
+            hitCounters.get(catalog).increment();
+            return Optional.of(cached);
+        }
+
+        missCounters.get(catalog).increment();
+        if (!existsInDb.apply(id)) {
+            return Optional.empty();
+        }
+
+        // 캐시 이후에 추가된 항목 - 스냅샷 갱신
+        log.info("카탈로그 캐시 미스로 재로딩 - catalog: {}, id: {}", catalog, id);
+        return Optional.ofNullable(indexOf.apply(reload()).get(id));
+    }
+
+    private <V> Map<Long, V> lookupAll(String catalog, Collection<Long> ids,
+                                       Function<Snapshot, LongKeyedIndex<V>> indexOf,
+                                       Function<List<Long>, List<V>> loadMissing,
+                                       ToLongFunction<V> idOf) {
+        LongKeyedIndex<V> index = indexOf.apply(current());
+        Map<Long, V> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        for (Long id : new LinkedHashSet<>(ids)) {
+            if (id == null) {
+                continue;
+            }
+            V cached = index.get(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        hitCounters.get(catalog).increment(found.size());
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        missCounters.get(catalog).increment(missing.size());
+        List<V> loaded = loadMissing.apply(missing);
+        if (!loaded.isEmpty()) {
+            log.info("카탈로그 캐시 미스로 재로딩 - catalog: {}, ids: {}", catalog, missing);
+            loaded.forEach(item -> found.put(idOf.applyAsLong(item), item));
+            reload();
+        }
+        return found;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    private synchronized Snapshot reload() {
+        Snapshot loaded = new Snapshot(
+                LongKeyedIndex.of(furnitureRepository.findAll().stream()
+                        .map(FurnitureInfo::from).toList(), FurnitureInfo::getId),
+                LongKeyedIndex.of(wallpaperRepository.findAll().stream()
+                        .map(WallpaperInfo::from).toList(), WallpaperInfo::getId),
+                LongKeyedIndex.of(floorRepository.findAll().stream()
+                        .map(FloorInfo::from).toList(), FloorInfo::getId),
+                shopItemRepository.findAllWithCatalog().stream()
+                        .map(ShopItemInfo::from).toList()
+        );
+        snapshot = loaded;
+
+        log.info("카탈로그 캐시 로딩 완료 - 가구: {}, 벽지: {}, 바닥: {}, 상점 아이템: {}",
+                loaded.furniture.size(), loaded.wallpapers.size(),
+                loaded.floors.size(), loaded.shopItemCount);
+        return loaded;
+    }
+
+    private void registerMetrics(MeterRegistry registry, String catalog, ToIntFunction<Snapshot> size) {
+        hitCounters.put(catalog, Counter.builder(METRIC_REQUESTS)
+                .tag("catalog", catalog).tag("result", "hit")
+                .description("카탈로그 캐시 조회 수")
+                .register(registry));
+        missCounters.put(catalog, Counter.builder(METRIC_REQUESTS)
+                .tag("catalog", catalog).tag("result", "miss")
+                .description("카탈로그 캐시 조회 수")
+                .register(registry));
+        Gauge.builder(METRIC_SIZE, this, cache -> {
+                    Snapshot current = cache.snapshot;
+                    return current != null ? size.applyAsInt(current) : 0;
+                })
+                .tag("catalog", catalog)
+                .description("카탈로그 캐시 항목 수")
+                .register(registry);
+    }
+
+    /**
+     * 한 시점의 카탈로그 전체 (불변)
+     */
+    private static final class Snapshot {
+        private final LongKeyedIndex<FurnitureInfo> furniture;
+        private final LongKeyedIndex<WallpaperInfo> wallpapers;
+        private final LongKeyedIndex<FloorInfo> floors;
+        private final int shopItemCount;
+        private final Map<ItemType, List<ShopItemInfo>> availableItems;
+
+        private Snapshot(LongKeyedIndex<FurnitureInfo> furniture,
+                         LongKeyedIndex<WallpaperInfo> wallpapers,
+                         LongKeyedIndex<FloorInfo> floors,
+                         List<ShopItemInfo> shopItems) {
+            this.furniture = furniture;
+            this.wallpapers = wallpapers;
+            this.floors = floors;
+            this.shopItemCount = shopItems.size();
+
+            Map<ItemType, List<ShopItemInfo>> byType = new EnumMap<>(ItemType.class);
+            shopItems.stream()
+                    .filter(ShopItemInfo::isAvailable)
+                    .sorted(Comparator.comparingLong(ShopItemInfo::getId))
+                    .collect(Collectors.groupingBy(ShopItemInfo::getItemType))
+                    .forEach((type, items) -> byType.put(type, List.copyOf(items)));
+            this.availableItems = Collections.unmodifiableMap(byType);
+        }
+    }
+}
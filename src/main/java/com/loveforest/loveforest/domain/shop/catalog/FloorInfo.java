@@ -0,0 +1,21 @@
+package com.loveforest.loveforest.domain.shop.catalog;
+
+import com.loveforest.loveforest.domain.room.entity.Floor;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캐시용 불변 바닥 정보
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FloorInfo {
+    private final long id;
+    private final int floorNumber;
+    private final String name;
+
+    public static FloorInfo from(Floor floor) {
+        return new FloorInfo(floor.getId(), floor.getFloorNumber(), floor.getName());
+    }
+}
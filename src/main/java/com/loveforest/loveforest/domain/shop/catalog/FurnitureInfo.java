@@ -0,0 +1,24 @@
+package com.loveforest.loveforest.domain.shop.catalog;
+
+import com.loveforest.loveforest.domain.room.entity.Furniture;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캐시용 불변 가구 정보
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FurnitureInfo {
+    private final long id;
+    private final String name;
+    private final int price;
+    private final int width;
+    private final int height;
+
+    public static FurnitureInfo from(Furniture furniture) {
+        return new FurnitureInfo(furniture.getId(), furniture.getName(),
+                furniture.getPrice(), furniture.getWidth(), furniture.getHeight());
+    }
+}
@@ -0,0 +1,46 @@
+package com.loveforest.loveforest.domain.shop.catalog;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.ToLongFunction;
+
+/**
+ * long 키 기반 불변 인덱스
+ * 정렬된 long[] 키 배열을 이진 탐색하여 박싱 없이 조회한다.
+ */
+final class LongKeyedIndex<V> {
+    private final long[] keys;
+    private final Object[] values;
+
+    private LongKeyedIndex(long[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    static <V> LongKeyedIndex<V> of(Collection<V> items, ToLongFunction<V> keyExtractor) {
+        Object[] sorted = items.toArray();
+        Arrays.sort(sorted, (a, b) -> Long.compare(
+                keyOf(a, keyExtractor), keyOf(b, keyExtractor)));
+
+        long[] keys = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            keys[i] = keyOf(sorted[i], keyExtractor);
+        }
+        return new LongKeyedIndex<>(keys, sorted);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> long keyOf(Object item, ToLongFunction<V> keyExtractor) {
+        return keyExtractor.applyAsLong((V) item);
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int idx = Arrays.binarySearch(keys, key);
+        return idx >= 0 ? (V) values[idx] : null;
+    }
+
+    int size() {
+        return keys.length;
+    }
+}
@@ -0,0 +1,59 @@
+package com.loveforest.loveforest.domain.shop.catalog;
+
+import com.loveforest.loveforest.domain.shop.entity.ItemType;
+import com.loveforest.loveforest.domain.shop.entity.ShopItem;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캐시용 불변 상점 아이템 정보
+ * 아이템 타입별 상세 정보(가구 크기, 벽지/바닥 번호)를 함께 보관한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ShopItemInfo {
+    private final long id;
+    private final ItemType itemType;
+    private final String name;
+    private final int price;
+    private final boolean available;
+
+    // Furniture 전용 필드
+    private final Integer width;
+    private final Integer height;
+
+    // Wallpaper, Floor 공통 필드
+    private final Integer number;
+
+    public static ShopItemInfo from(ShopItem item) {
+        String name = item.getName();
+        Integer width = null;
+        Integer height = null;
+        Integer number = null;
+
+        switch (item.getItemType()) {
+            case FURNITURE -> {
+                if (item.getFurniture() != null) {
+                    width = item.getFurniture().getWidth();
+                    height = item.getFurniture().getHeight();
+                }
+            }
+            case WALLPAPER -> {
+                if (item.getWallpaper() != null) {
+                    number = item.getWallpaper().getWallpaperNumber();
+                    name = item.getWallpaper().getName();
+                }
+            }
+            case FLOOR -> {
+                if (item.getFloor() != null) {
+                    number = item.getFloor().getFloorNumber();
+                    name = item.getFloor().getName();
+                }
+            }
+        }
+
+        return new ShopItemInfo(item.getId(), item.getItemType(), name, item.getPrice(),
+                item.isAvailable(), width, height, number);
+    }
+}
@@ -0,0 +1,21 @@
+package com.loveforest.loveforest.domain.shop.catalog;
+
+import com.loveforest.loveforest.domain.room.entity.Wallpaper;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캐시용 불변 벽지 정보
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class WallpaperInfo {
+    private final long id;
+    private final int wallpaperNumber;
+    private final String name;
+
+    public static WallpaperInfo from(Wallpaper wallpaper) {
+        return new WallpaperInfo(wallpaper.getId(), wallpaper.getWallpaperNumber(), wallpaper.getName());
+    }
+}
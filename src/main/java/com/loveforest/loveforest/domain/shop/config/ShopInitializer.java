@@ -6,6 +6,7 @@ import com.loveforest.loveforest.domain.room.entity.Wallpaper;
 import com.loveforest.loveforest.domain.room.repository.FloorRepository;
 import com.loveforest.loveforest.domain.room.repository.FurnitureRepository;
 import com.loveforest.loveforest.domain.room.repository.WallpaperRepository;
+import com.loveforest.loveforest.domain.shop.catalog.CatalogCache;
 import com.loveforest.loveforest.domain.shop.entity.ShopItem;
 import com.loveforest.loveforest.domain.shop.exception.InitializeException;
 import com.loveforest.loveforest.domain.shop.repository.ShopItemRepository;
@@ -28,6 +29,7 @@ public class ShopInitializer implements CommandLineRunner {
     private final FurnitureRepository furnitureRepository;
     private final WallpaperRepository wallpaperRepository;
     private final FloorRepository floorRepository;
+    private final CatalogCache catalogCache;
 
     @Override
     @Transactional
@@ -41,6 +43,7 @@ public class ShopInitializer implements CommandLineRunner {
             initializeFurniture();
             initializeWallpaper();
             initializeFloor();
+            catalogCache.invalidate();
 
             log.info("상점 초기화가 성공적으로 완료되었습니다.");
         } catch (Exception e) {
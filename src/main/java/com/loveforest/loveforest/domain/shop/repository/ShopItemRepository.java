@@ -12,4 +12,9 @@ public interface ShopItemRepository extends JpaRepository<ShopItem, Long> {
 
     @Query("SELECT si FROM ShopItem si WHERE si.available = true")
     List<ShopItem> findAllAvailableItems();
+
+    // 카탈로그 캐시 로딩용 - 연결된 가구/벽지/바닥을 함께 조회
+    @Query("SELECT si FROM ShopItem si " +
+            "LEFT JOIN FETCH si.furniture LEFT JOIN FETCH si.wallpaper LEFT JOIN FETCH si.floor")
+    List<ShopItem> findAllWithCatalog();
 }
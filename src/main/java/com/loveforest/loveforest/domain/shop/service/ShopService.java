@@ -3,9 +3,8 @@ package com.loveforest.loveforest.domain.shop.service;
 import com.loveforest.loveforest.domain.couple.entity.Couple;
 import com.loveforest.loveforest.domain.couple.exception.CoupleNotFoundException;
 import com.loveforest.loveforest.domain.couple.repository.CoupleRepository;
-import com.loveforest.loveforest.domain.room.entity.Floor;
-import com.loveforest.loveforest.domain.room.entity.Furniture;
-import com.loveforest.loveforest.domain.room.entity.Wallpaper;
+import com.loveforest.loveforest.domain.shop.catalog.CatalogCache;
+import com.loveforest.loveforest.domain.shop.catalog.ShopItemInfo;
 import com.loveforest.loveforest.domain.shop.config.ShopValidator;
 import com.loveforest.loveforest.domain.shop.dto.PurchaseResponseDTO;
 import com.loveforest.loveforest.domain.shop.dto.PurchasedItemResponseDTO;
@@ -41,9 +40,10 @@ public class ShopService {
     private final CoupleRepository coupleRepository;
     private final ShopValidator shopValidator;
     private final UserInventoryRepository userInventoryRepository;
+    private final CatalogCache catalogCache;
 
     public List<ShopItemDTO> getItemsByType(ItemType itemType) {
-        return shopItemRepository.findByItemTypeAndAvailableTrue(itemType)
+        return catalogCache.getAvailableItems(itemType)
                 .stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
@@ -127,45 +127,17 @@ public class ShopService {
                 .build();
     }
 
-    private ShopItemDTO convertToDTO(ShopItem shopItem) {
-        ShopItemDTO.ShopItemDTOBuilder builder = ShopItemDTO.builder()
+    // 타입별 상세 정보(가구 크기, 벽지/바닥 번호와 이름)는 ShopItemInfo 생성 시 반영됨
+    private ShopItemDTO convertToDTO(ShopItemInfo shopItem) {
+        return ShopItemDTO.builder()
                 .id(shopItem.getId())
                 .itemType(shopItem.getItemType())
                 .name(shopItem.getName())
-                .price(shopItem.getPrice());
-
-        addItemSpecificDetails(builder, shopItem);
-
-        return builder.build();
-    }
-
-    private void addItemSpecificDetails(ShopItemDTO.ShopItemDTOBuilder builder, ShopItem shopItem) {
-        switch (shopItem.getItemType()) {
-            case FURNITURE -> addFurnitureDetails(builder, shopItem.getFurniture());
-            case WALLPAPER -> addWallpaperDetails(builder, shopItem.getWallpaper());
-            case FLOOR -> addFloorDetails(builder, shopItem.getFloor());
-        }
-    }
-
-    private void addFurnitureDetails(ShopItemDTO.ShopItemDTOBuilder builder, Furniture furniture) {
-        if (furniture != null) {
-            builder.width(furniture.getWidth())
-                    .height(furniture.getHeight());
-        }
-    }
-
-    private void addWallpaperDetails(ShopItemDTO.ShopItemDTOBuilder builder, Wallpaper wallpaper) {
-        if (wallpaper != null) {
-            builder.number(wallpaper.getWallpaperNumber())
-                    .name(wallpaper.getName());
-        }
-    }
-
-    private void addFloorDetails(ShopItemDTO.ShopItemDTOBuilder builder, Floor floor) {
-        if (floor != null) {
-            builder.number(floor.getFloorNumber())
-                    .name(floor.getName());
-        }
+                .price(shopItem.getPrice())
+                .width(shopItem.getWidth())
+                .height(shopItem.getHeight())
+                .number(shopItem.getNumber())
+                .build();
     }
 
     @Transactional(readOnly = true)
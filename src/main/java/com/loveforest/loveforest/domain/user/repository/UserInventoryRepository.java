@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -21,6 +22,13 @@ public interface UserInventoryRepository extends JpaRepository<UserInventory, Lo
             "AND ui.shopItem.furniture IS NOT NULL")
     List<UserInventory> findAllFurnitureByCouple(@Param("coupleId") Long coupleId);
 
+    // 주어진 가구 중 커플이 보유한 가구 ID 목록 (일괄 배치 검증용)
+    @Query("SELECT DISTINCT ui.shopItem.furniture.id FROM UserInventory ui " +
+            "WHERE ui.user.couple.id = :coupleId " +
+            "AND ui.shopItem.furniture.id IN :furnitureIds")
+    List<Long> findOwnedFurnitureIds(@Param("coupleId") Long coupleId,
+                                     @Param("furnitureIds") Collection<Long> furnitureIds);
+
     boolean existsByUser_Couple_IdAndShopItem_Wallpaper_Id(Long coupleId, Long wallpaperId);
 
     boolean existsByUser_Couple_IdAndShopItem_Floor_Id(Long coupleId, Long floorId);
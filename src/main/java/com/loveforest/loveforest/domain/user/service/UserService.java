@@ -5,6 +5,7 @@ import com.loveforest.loveforest.domain.auth.jwt.JwtTokenProvider;
 import com.loveforest.loveforest.domain.auth.jwt.exception.InvalidRefreshTokenException;
 import com.loveforest.loveforest.domain.auth.jwt.refreshToken.RefreshTokenRepository;
 import com.loveforest.loveforest.domain.couple.entity.Couple;
+import com.loveforest.loveforest.domain.couple.profile.CoupleProfileCache;
 import com.loveforest.loveforest.domain.couple.repository.CoupleRepository;
 import com.loveforest.loveforest.domain.couple.service.CoupleService;
 import com.loveforest.loveforest.domain.user.dto.MyInfoResponseDTO;
@@ -40,6 +41,7 @@ public class UserService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final CoupleService coupleService;
     private final CoupleRepository coupleRepository;
+    private final CoupleProfileCache coupleProfileCache;
 
 
     /**
@@ -86,6 +88,11 @@ public class UserService {
         // 사용자 정보 저장
         userRepository.save(user);
 
+        // 사용자 ID가 정해진 뒤 커플 표시 정보 계산
+        couple.addUser(user);
+        couple.refreshProfile();
+        coupleRepository.save(couple);
+
         return new UserSignupResponseDTO(user.getNickname());
     }
 
@@ -143,11 +150,11 @@ public class UserService {
             return null;
         }
 
-        // 커플에서 파트너 찾기
-        return user.getCouple().getUsers().stream()
-                .filter(u -> !u.getId().equals(user.getId()))
-                .findFirst()
-                .map(User::getNickname)
+        // 커플 표시 정보에서 파트너 찾기 (구성원 조회 없음)
+        return coupleProfileCache.find(user.getCouple().getId())
+                .map(profile -> profile.isFirstMember(user.getId())
+                        ? profile.getSecondMemberNickname()
+                        : profile.getFirstMemberNickname())
                 .orElse(null);
     }
 
@@ -51,6 +51,9 @@ public enum ErrorCode {
     INVALID_IMAGE_FORMAT(HttpStatus.BAD_REQUEST, "Invalid Image Format", "지원하지 않는 이미지 형식입니다.", "ROOM-016"),
     IMAGE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "Image Size Exceeded", "이미지 크기가 제한을 초과했습니다.", "ROOM-017"),
     IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "Image Not Found", "방 이미지를 찾을 수 없습니다.", "ROOM-018"),
+    FURNITURE_OUT_OF_BOUNDS(HttpStatus.BAD_REQUEST, "Furniture Out Of Bounds", "가구가 방 범위를 벗어납니다.", "ROOM-015"),
+    NO_FREE_POSITION(HttpStatus.NOT_FOUND, "No Free Position", "가구를 배치할 빈 공간이 없습니다.", "ROOM-019"),
+    ROOM_VERSION_CONFLICT(HttpStatus.CONFLICT, "Room Version Conflict", "다른 사용자가 먼저 방을 수정했습니다. 최신 상태를 확인 후 다시 시도해주세요.", "ROOM-020"),
 
     // Chat 관련 에러
     CHAT_NOT_FOUND(HttpStatus.NOT_FOUND, "Chat Not Found", "대화 이력이 존재하지 않습니다.", "CHAT-001"),
@@ -94,6 +97,7 @@ public enum ErrorCode {
     PHOTO_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Photo Upload Failed", "사진 업로드에 실패했습니다.", "PHOTO-002"),
     DUPLICATE_PHOTO_POSITION(HttpStatus.CONFLICT, "Duplicate Photo Position", "해당 위치에 이미 사진이 존재합니다.", "PHOTO-003"),
     PHOTO_3D_CONVERT_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "3D Convert Failed", "3D 변환에 실패했습니다.", "PHOTO-004"),
+    CONVERSION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "Conversion Job Not Found", "해당 3D 변환 작업을 찾을 수 없습니다.", "PHOTO-005"),
 
     // exhibition 관련 에러
     EXHIBITION_NOT_FOUND(HttpStatus.NOT_FOUND, "Exhibition Not Found", "전시된 오브젝트를 찾을 수 없습니다.", "EXHIBITION-001"),
@@ -181,6 +181,20 @@ public class GlobalExceptionHandler {
         );
     }
 
+    // 방 버전 충돌 - 잠금 없이 버전 비교만으로 즉시 응답
+    @ExceptionHandler(RoomVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleRoomVersionConflict(RoomVersionConflictException ex) {
+        log.warn("방 버전 충돌 - 현재 버전: {}", ex.getCurrentVersion());
+        VersionConflictErrorResponse errorResponse = new VersionConflictErrorResponse();
+        errorResponse.setStatus(ex.getErrorCode().getStatus().value());
+        errorResponse.setErrorType(ex.getErrorCode().getErrorType());
+        errorResponse.setMessage(ex.getErrorCode().getDescription());
+        errorResponse.setTimestamp(LocalDateTime.now());
+        errorResponse.setCode(ex.getErrorCode().getCode());
+        errorResponse.setCurrentVersion(ex.getCurrentVersion());
+        return new ResponseEntity<>(errorResponse, ex.getErrorCode().getStatus());
+    }
+
     // 펫 관련 예외 처리
     @ExceptionHandler(PetNotFoundException.class)
     public ResponseEntity<ErrorResponse> handlePetNotFoundException(PetNotFoundException ex) {
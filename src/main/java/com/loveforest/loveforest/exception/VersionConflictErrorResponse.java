@@ -0,0 +1,15 @@
+package com.loveforest.loveforest.exception;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 버전 충돌 응답 - 클라이언트가 최신 상태로 다시 시도할 수 있도록 현재 버전을 함께 반환
+ */
+@Getter
+@Setter
+public class VersionConflictErrorResponse extends ErrorResponse {
+    @Schema(description = "서버의 현재 버전", example = "7")
+    private Long currentVersion;
+}
@@ -0,0 +1,70 @@
+package com.loveforest.loveforest.s3.config;
+
+import com.loveforest.loveforest.s3.service.BlobStore;
+import com.loveforest.loveforest.s3.service.LocalBlobStore;
+import com.loveforest.loveforest.s3.service.S3BlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+
+/**
+ * 파일 저장소 선택 (storage.type, 기본값 local)
+ */
+@Configuration
+public class StorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+    public BlobStore localBlobStore(@Value("${file.storage.path}") String storagePath,
+                                    @Value("${file.storage.url}") String fileUrlPrefix) {
+        return new LocalBlobStore(storagePath, fileUrlPrefix);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+    static class S3StorageConfig {
+
+        @Value("${cloud.aws.credentials.access-key}")
+        private String accessKey;
+
+        @Value("${cloud.aws.credentials.secret-key}")
+        private String secretKey;
+
+        @Value("${cloud.aws.region.static}")
+        private String region;
+
+        // MinIO 등 S3 호환 저장소 주소 (비우면 AWS S3)
+        @Value("${storage.s3.endpoint:}")
+        private String endpoint;
+
+        @Value("${storage.s3.path-style-access:false}")
+        private boolean pathStyleAccess;
+
+        @Bean
+        public S3Client s3Client() {
+            AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKey, secretKey);
+
+            S3ClientBuilder builder = S3Client.builder()
+                    .region(Region.of(region))
+                    .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
+                    .forcePathStyle(pathStyleAccess);
+            if (!endpoint.isBlank()) {
+                builder.endpointOverride(URI.create(endpoint));
+            }
+            return builder.build();
+        }
+
+        @Bean
+        public BlobStore s3BlobStore(S3Client s3Client, @Value("${cloud.aws.s3.bucket}") String bucket) {
+            return new S3BlobStore(s3Client, bucket);
+        }
+    }
+}
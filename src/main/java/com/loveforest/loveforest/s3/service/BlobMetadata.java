@@ -0,0 +1,10 @@
+package com.loveforest.loveforest.s3.service;
+
+/**
+ * 저장된 파일 정보
+ *
+ * @param contentLength 파일 크기 (bytes)
+ * @param contentType   파일 형식
+ */
+public record BlobMetadata(long contentLength, String contentType) {
+}
@@ -0,0 +1,98 @@
+package com.loveforest.loveforest.s3.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 파일 저장소
+ *
+ * 구현은 storage.type 설정으로 선택한다 (local: 로컬 디렉토리, s3: S3 또는 MinIO 등 S3 호환 저장소).
+ * 파일은 URL로 식별하며, 업로드와 다운로드 모두 스트림/채널 단위로 처리하여 파일 전체를 메모리에 올리지 않는다.
+ */
+public interface BlobStore {
+
+    /**
+     * 스트림 내용을 새 파일로 업로드
+     *
+     * @param content       업로드할 내용 (호출자가 닫는다)
+     * @param contentLength 내용 길이
+     * @param extension     파일 확장자 (.png 등)
+     * @param contentType   파일 형식
+     * @return 업로드된 파일의 URL
+     */
+    String upload(InputStream content, long contentLength, String extension, String contentType);
+
+    /**
+     * 업로드 처리용 임시 파일 생성 (게시 전까지 URL로 노출되지 않음)
+     */
+    Path createIncomingFile(String suffix) throws IOException;
+
+    /**
+     * 임시 파일을 지정한 이름으로 게시 - 읽는 쪽이 쓰다 만 파일을 보지 않도록 한 번에 게시하고 임시 파일은 정리한다.
+     *
+     * @return 게시된 파일의 URL
+     */
+    String publishFile(Path source, String fileName) throws IOException;
+
+    /**
+     * 지정한 이름으로 게시될 파일의 URL
+     */
+    String fileUrl(String fileName);
+
+    /**
+     * 파일 길이와 형식
+     */
+    BlobMetadata stat(String fileUrl);
+
+    /**
+     * 파일 전체를 읽는 스트림 (호출자가 닫는다)
+     */
+    InputStream openStream(String fileUrl);
+
+    /**
+     * 파일 일부를 읽는 스트림 - HTTP Range 요청과 같이 offset부터 최대 length 바이트를 읽는다
+     */
+    InputStream openRange(String fileUrl, long offset, long length);
+
+    /**
+     * 파일 삭제 - 이 저장소가 게시하지 않은 URL(프리셋 등 외부 URL)은 지울 대상이 없으므로 건너뛴다
+     */
+    void deleteFile(String fileUrl);
+
+    /**
+     * 이 저장소가 게시한 파일의 URL인지 확인 (프리셋 등 외부 URL은 false)
+     */
+    boolean owns(String fileUrl);
+
+    /**
+     * 파일 전체를 읽는 채널 (호출자가 닫는다)
+     */
+    default ReadableByteChannel openChannel(String fileUrl) {
+        return Channels.newChannel(openStream(fileUrl));
+    }
+
+    /**
+     * 파일 내용의 SHA-256 (16진수) - 파일을 조각 단위로 읽어 계산한다
+     */
+    default String contentHash(String fileUrl) {
+        try (ReadableByteChannel channel = openChannel(fileUrl)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("파일 해시 계산에 실패했습니다: " + fileUrl, e);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.loveforest.loveforest.s3.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * 로컬 디렉토리 저장소 (storage.type=local)
+ * 게시한 파일은 file.storage.url 아래 URL로 제공된다.
+ */
+@Slf4j
+public class LocalBlobStore implements BlobStore {
+
+    private final String storageFolder;
+
+    private final String fileUrlPrefix;
+
+    // 게시한 파일 URL의 공통 접두사 (http://host/s3 가 http://host/s3-other/... 를 포함하지 않도록 "/"까지 비교)
+    private final String ownedUrlPrefix;
+
+    // 처리 중인 업로드 임시 파일 (게시 시 같은 파일시스템 안에서 이동하도록 저장소 하위에 둔다)
+    private static final String INCOMING_FOLDER = ".incoming";
+
+    public LocalBlobStore(String storageFolder, String fileUrlPrefix) {
+        this.storageFolder = storageFolder;
+        this.fileUrlPrefix = fileUrlPrefix;
+        this.ownedUrlPrefix = fileUrlPrefix.endsWith("/") ? fileUrlPrefix : fileUrlPrefix + "/";
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            Path storagePath = Paths.get(storageFolder).toAbsolutePath();
+            Files.createDirectories(storagePath);
+            Files.createDirectories(storagePath.resolve(INCOMING_FOLDER));
+            log.info("저장소 디렉토리 생성 완료: {}", storagePath);
+        } catch (IOException e) {
+            log.error("저장소 디렉토리 생성 실패", e);
+            throw new RuntimeException("저장소 디렉토리를 생성할 수 없습니다!", e);
+        }
+    }
+
+    @Override
+    public String upload(InputStream content, long contentLength, String extension, String contentType) {
+        String fileName = UUID.randomUUID().toString() + extension;
+
+        Path incoming = null;
+        try {
+            // 임시 파일로 받은 뒤 게시하여 쓰는 중인 파일이 URL로 보이지 않게 한다
+            incoming = createIncomingFile(extension);
+            Files.copy(content, incoming, StandardCopyOption.REPLACE_EXISTING);
+            return publishFile(incoming, fileName);
+        } catch (IOException e) {
+            log.error("파일 저장 실패", e);
+            deleteQuietly(incoming);
+            throw new RuntimeException("파일 저장에 실패했습니다: " + fileName, e);
+        }
+    }
+
+    @Override
+    public Path createIncomingFile(String suffix) throws IOException {
+        Path incoming = Paths.get(storageFolder, INCOMING_FOLDER).toAbsolutePath();
+        Files.createDirectories(incoming);
+        return Files.createTempFile(incoming, "upload-", suffix);
+    }
+
+    /**
+     * 원자적으로 이동하여 게시
+     */
+    @Override
+    public String publishFile(Path source, String fileName) throws IOException {
+        Path target = Paths.get(storageFolder, fileName).toAbsolutePath();
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        log.info("파일 게시 성공: {}", fileName);
+        return fileUrl(fileName);
+    }
+
+    @Override
+    public String fileUrl(String fileName) {
+        return UriComponentsBuilder.fromUriString(fileUrlPrefix)
+                .pathSegment(fileName)
+                .build()
+                .toUriString();
+    }
+
+    @Override
+    public BlobMetadata stat(String fileUrl) {
+        Path path = resolvePath(fileUrl);
+        try {
+            String contentType = MediaTypeFactory.getMediaType(path.getFileName().toString())
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                    .toString();
+            return new BlobMetadata(Files.size(path), contentType);
+        } catch (IOException e) {
+            log.error("파일 정보 조회 실패: {}", fileUrl, e);
+            throw new RuntimeException("파일 정보 조회에 실패했습니다: " + fileUrl, e);
+        }
+    }
+
+    @Override
+    public InputStream openStream(String fileUrl) {
+        return Channels.newInputStream(openChannel(fileUrl));
+    }
+
+    @Override
+    public ReadableByteChannel openChannel(String fileUrl) {
+        try {
+            return FileChannel.open(resolvePath(fileUrl), StandardOpenOption.READ);
+        } catch (IOException e) {
+            log.error("파일 읽기 실패: {}", fileUrl, e);
+            throw new RuntimeException("파일 읽기에 실패했습니다: " + fileUrl, e);
+        }
+    }
+
+    @Override
+    public InputStream openRange(String fileUrl, long offset, long length) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("잘못된 읽기 범위입니다: " + offset + ", " + length);
+        }
+        try {
+            FileChannel channel = FileChannel.open(resolvePath(fileUrl), StandardOpenOption.READ);
+            channel.position(offset);
+            return new RangeInputStream(Channels.newInputStream(channel), length);
+        } catch (IOException e) {
+            log.error("파일 읽기 실패: {}", fileUrl, e);
+            throw new RuntimeException("파일 읽기에 실패했습니다: " + fileUrl, e);
+        }
+    }
+
+    @Override
+    public void deleteFile(String fileUrl) {
+        if (!owns(fileUrl)) {
+            log.warn("이 저장소의 파일이 아니므로 삭제 건너뜀: {}", fileUrl);
+            return;
+        }
+        // URL에서 파일명만 추출
+        String fileName = extractFileName(fileUrl);
+        try {
+            Path filePath = Paths.get(storageFolder, fileName).toAbsolutePath();
+            Files.deleteIfExists(filePath);
+            log.info("파일 삭제 성공: {}", fileName);
+        } catch (IOException e) {
+            log.error("파일 삭제 실패: {}", fileName, e);
+            throw new RuntimeException("파일 삭제에 실패했습니다: " + fileName, e);
+        }
+    }
+
+    @Override
+    public boolean owns(String fileUrl) {
+        return fileUrl != null && fileUrl.startsWith(ownedUrlPrefix);
+    }
+
+    private Path resolvePath(String fileUrl) {
+        return Paths.get(storageFolder, extractFileName(fileUrl)).toAbsolutePath();
+    }
+
+    private String extractFileName(String fileUrl) {
+        if (!owns(fileUrl)) {
+            throw new IllegalArgumentException("잘못된 파일 URL입니다: " + fileUrl);
+        }
+        return fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path);
+        }
+    }
+
+    /**
+     * 지정한 길이까지만 읽는 스트림
+     */
+    private static class RangeInputStream extends FilterInputStream {
+        private long remaining;
+
+        RangeInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.loveforest.loveforest.s3.service;
+
+import com.loveforest.loveforest.s3.exception.S3AccessException;
+import com.loveforest.loveforest.s3.exception.S3UploadException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * S3 저장소 (storage.type=s3)
+ * storage.s3.endpoint를 지정하면 MinIO 등 S3 호환 저장소를 쓴다.
+ * 업로드는 길이를 지정한 스트림/파일 본문으로, 다운로드는 응답 스트림 그대로 넘겨 객체 전체를 메모리에 올리지 않는다.
+ */
+@Slf4j
+public class S3BlobStore implements BlobStore {
+    private final S3Client s3Client;
+    private final String bucket;
+    // 이 버킷 객체 URL의 공통 앞부분 (키를 붙이면 객체 URL)
+    private final String urlPrefix;
+
+    public S3BlobStore(S3Client s3Client, String bucket) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        String probe = s3Client.utilities()
+                .getUrl(GetUrlRequest.builder().bucket(bucket).key("_").build())
+                .toString();
+        this.urlPrefix = probe.substring(0, probe.length() - 1);
+    }
+
+    @Override
+    public String upload(InputStream content, long contentLength, String extension, String contentType) {
+        String fileName = UUID.randomUUID().toString() + extension;
+
+        try {
+            PutObjectRequest putObjRequest = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(fileName)
+                    .contentType(contentType)  // 실제 파일의 Content-Type 사용
+                    .contentLength(contentLength)  // 파일 크기 설정
+                    .build();
+
+            s3Client.putObject(putObjRequest, RequestBody.fromInputStream(content, contentLength));
+            log.info("파일 업로드 성공: {}", fileName);
+            return fileUrl(fileName);
+        } catch (SdkException e) {
+            log.error("파일 업로드 실패: {}", e.getMessage());
+            throw new S3UploadException("파일 업로드에 실패했습니다: " + fileName);
+        }
+    }
+
+    /**
+     * 시스템 임시 디렉토리에 생성 - 게시할 때 업로드 후 삭제한다
+     */
+    @Override
+    public Path createIncomingFile(String suffix) throws IOException {
+        return Files.createTempFile("upload-", suffix);
+    }
+
+    /**
+     * 임시 파일을 객체로 업로드 - S3는 업로드가 끝나야 객체가 보이므로 쓰다 만 파일이 노출되지 않는다
+     */
+    @Override
+    public String publishFile(Path source, String fileName) throws IOException {
+        try {
+            PutObjectRequest putObjRequest = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(fileName)
+                    .contentType(contentTypeOf(fileName))
+                    .contentLength(Files.size(source))
+                    .build();
+
+            s3Client.putObject(putObjRequest, RequestBody.fromFile(source));
+        } catch (SdkException e) {
+            log.error("파일 게시 실패: {}", e.getMessage());
+            throw new S3UploadException("파일 게시에 실패했습니다: " + fileName);
+        } finally {
+            Files.deleteIfExists(source);
+        }
+        log.info("파일 게시 성공: {}", fileName);
+        return fileUrl(fileName);
+    }
+
+    @Override
+    public String fileUrl(String fileName) {
+        return urlPrefix + fileName;
+    }
+
+    @Override
+    public BlobMetadata stat(String fileUrl) {
+        String fileName = extractFileNameFromUrl(fileUrl);
+        try {
+            HeadObjectResponse head = s3Client.headObject(builder -> builder
+                    .bucket(bucket)
+                    .key(fileName));
+            return new BlobMetadata(head.contentLength(), head.contentType());
+        } catch (SdkException e) {
+            log.error("파일 정보 조회 실패: {}", e.getMessage());
+            throw new S3AccessException("파일 정보 조회에 실패했습니다: " + fileName);
+        }
+    }
+
+    @Override
+    public InputStream openStream(String fileUrl) {
+        return getObject(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(extractFileNameFromUrl(fileUrl))
+                .build());
+    }
+
+    /**
+     * Range 헤더로 필요한 구간만 받는다
+     */
+    @Override
+    public InputStream openRange(String fileUrl, long offset, long length) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("잘못된 읽기 범위입니다: " + offset + ", " + length);
+        }
+        if (length == 0) {
+            return InputStream.nullInputStream();
+        }
+        return getObject(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(extractFileNameFromUrl(fileUrl))
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .build());
+    }
+
+    /**
+     * 파일 삭제 메서드
+     */
+    @Override
+    public void deleteFile(String fileUrl) {
+        if (!owns(fileUrl)) {
+            log.warn("이 저장소의 파일이 아니므로 삭제 건너뜀: {}", fileUrl);
+            return;
+        }
+        try {
+            String fileName = extractFileNameFromUrl(fileUrl);
+
+            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(fileName)
+                    .build();
+
+            s3Client.deleteObject(deleteObjectRequest);
+
+            log.info("파일 삭제 완료: {}", fileName);
+        } catch (SdkException e) {
+            log.error("파일 삭제 실패: {}", e.getMessage());
+            throw new S3AccessException("파일 삭제에 실패했습니다.");
+        }
+    }
+
+    @Override
+    public boolean owns(String fileUrl) {
+        return fileUrl != null && fileUrl.startsWith(urlPrefix);
+    }
+
+    private InputStream getObject(GetObjectRequest request) {
+        try {
+            return s3Client.getObject(request);
+        } catch (SdkException e) {
+            log.error("파일 다운로드 실패: {}", e.getMessage());
+            throw new S3AccessException("파일 다운로드에 실패했습니다: " + request.key());
+        }
+    }
+
+    /**
+     * URL에서 파일명(객체 키) 추출
+     */
+    private String extractFileNameFromUrl(String fileUrl) {
+        if (!owns(fileUrl)) {
+            log.error("URL에서 파일명 추출 실패: {}", fileUrl);
+            throw new IllegalArgumentException("잘못된 파일 URL입니다: " + fileUrl);
+        }
+        return fileUrl.substring(urlPrefix.length());
+    }
+
+    /**
+     * Content Type 설정
+     */
+    private String contentTypeOf(String fileName) {
+        return MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+    }
+}
@@ -0,0 +1,42 @@
+package com.loveforest.loveforest.common.upload;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingUploadBodyTest {
+
+    @Test
+    @DisplayName("조각 단위 Base64 인코딩은 전체를 한 번에 인코딩한 결과와 같고 길이도 미리 계산한 값과 같다")
+    void chunkedBase64MatchesWholeEncoding() {
+        byte[] content = new byte[StreamingUploadBody.RAW_CHUNK_SIZE * 2 + 5];
+        new Random(42).nextBytes(content);
+
+        String encoded = StreamingUploadBody
+                .base64(() -> Channels.newChannel(new ByteArrayInputStream(content)), DefaultDataBufferFactory.sharedInstance)
+                .map(StreamingUploadBodyTest::readAndRelease)
+                .reduce("", String::concat)
+                .block();
+
+        assertThat(encoded).isEqualTo(Base64.getEncoder().encodeToString(content));
+        assertThat(StreamingUploadBody.base64Length(content.length)).isEqualTo(encoded.length());
+    }
+
+    private static String readAndRelease(DataBuffer buffer) {
+        try {
+            return buffer.toString(StandardCharsets.US_ASCII);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.loveforest.loveforest.domain.photoAlbum.service;
+
+import com.loveforest.loveforest.domain.photoAlbum.entity.ConversionJob;
+import com.loveforest.loveforest.domain.photoAlbum.entity.PhotoAlbum;
+import com.loveforest.loveforest.domain.photoAlbum.enums.ConversionJobStatus;
+import com.loveforest.loveforest.domain.photoAlbum.repository.ConversionJobRepository;
+import com.loveforest.loveforest.domain.photoAlbum.repository.PhotoAlbumRepository;
+import com.loveforest.loveforest.s3.service.BlobStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 3D 변환 작업자의 가져가기, 재시도 백오프, 멈춘 작업 복구 (H2)
+ * 작업은 작업 스레드에서 별도 트랜잭션으로 실행되므로 테스트 트랜잭션 없이 커밋된 데이터로 검증한다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ConversionJobWorkerTest {
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration BASE_BACKOFF = Duration.ofMinutes(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final Duration STALE_AFTER = Duration.ofMinutes(15);
+
+    @Autowired
+    private ConversionJobRepository jobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final PhotoAlbumRepository photoAlbumRepository = mock(PhotoAlbumRepository.class);
+    private final Photo3DConversionClient conversionClient = mock(Photo3DConversionClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TransactionTemplate txTemplate;
+
+    @BeforeEach
+    void setUp() {
+        txTemplate = new TransactionTemplate(transactionManager);
+        PhotoAlbum photo = mock(PhotoAlbum.class);
+        when(photo.getImageUrl()).thenReturn("http://localhost/s3/photo.png");
+        when(photoAlbumRepository.findById(anyLong())).thenReturn(Optional.of(photo));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("대기 작업은 한 번만 가져갈 수 있고, 가져가면 실행 상태가 되며 시도 횟수가 늘어난다")
+    void claimsQueuedJobOnce() {
+        Long jobId = jobRepository.save(newJob("claim")).getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        Integer first = txTemplate.execute(status -> jobRepository.claim(jobId, now));
+        Integer second = txTemplate.execute(status -> jobRepository.claim(jobId, now));
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        ConversionJob claimed = jobRepository.findById(jobId).orElseThrow();
+        assertThat(claimed.getStatus()).isEqualTo(ConversionJobStatus.RUNNING);
+        assertThat(claimed.getAttempts()).isEqualTo(1);
+        assertThat(claimed.getStartedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("실패하면 지수 백오프로 다시 대기하고, 최대 시도 횟수에서 실패로 끝난다")
+    void retriesWithBackoffThenFails() {
+        when(conversionClient.convert(anyString(), anyInt(), anyInt()))
+                .thenThrow(new IllegalStateException("AI 서버 오류"));
+        Long jobId = jobRepository.save(newJob("retry")).getId();
+
+        for (int attempt = 1; attempt < MAX_ATTEMPTS; attempt++) {
+            LocalDateTime before = LocalDateTime.now();
+            pollOnce();
+            LocalDateTime after = LocalDateTime.now();
+
+            ConversionJob job = jobRepository.findById(jobId).orElseThrow();
+            Duration expected = BASE_BACKOFF.multipliedBy(1L << (attempt - 1));
+            assertThat(job.getStatus()).isEqualTo(ConversionJobStatus.QUEUED);
+            assertThat(job.getAttempts()).isEqualTo(attempt);
+            assertThat(job.getLastError()).contains("AI 서버 오류");
+            assertThat(job.getNextAttemptAt()).isBetween(before.plus(expected), after.plus(expected));
+
+            // 백오프가 끝나기 전에는 가져가지 않는다
+            pollOnce();
+            assertThat(jobRepository.findById(jobId).orElseThrow().getAttempts()).isEqualTo(attempt);
+            makeDue(jobId);
+        }
+
+        pollOnce();
+
+        ConversionJob failed = jobRepository.findById(jobId).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(ConversionJobStatus.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(failed.getActiveKey()).isNull();
+        verify(conversionClient, times(MAX_ATTEMPTS)).convert(anyString(), anyInt(), anyInt());
+        assertThat(counter("retried")).isEqualTo(MAX_ATTEMPTS - 1);
+        assertThat(counter("failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("멈춘 작업은 시도 횟수가 남았으면 다시 대기열에 올리고, 모두 썼으면 실패로 끝낸다")
+    void recoversStaleJobs() {
+        LocalDateTime stale = LocalDateTime.now().minus(STALE_AFTER).minusMinutes(1);
+        Long retryableId = jobRepository.save(newJob("stale-retryable")).getId();
+        txTemplate.execute(status -> jobRepository.claim(retryableId, stale));
+
+        Long exhaustedId = jobRepository.save(newJob("stale-exhausted")).getId();
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            txTemplate.execute(status -> jobRepository.claim(exhaustedId, stale));
+            if (attempt < MAX_ATTEMPTS) {
+                makeDue(exhaustedId);
+            }
+        }
+
+        Long runningId = jobRepository.save(newJob("running")).getId();
+        txTemplate.execute(status -> jobRepository.claim(runningId, LocalDateTime.now()));
+
+        ConversionJobWorker worker = newWorker();
+        worker.requeueStale();
+        shutdown(worker);
+
+        ConversionJob retryable = jobRepository.findById(retryableId).orElseThrow();
+        assertThat(retryable.getStatus()).isEqualTo(ConversionJobStatus.QUEUED);
+        assertThat(retryable.getAttempts()).isEqualTo(1);
+
+        ConversionJob exhausted = jobRepository.findById(exhaustedId).orElseThrow();
+        assertThat(exhausted.getStatus()).isEqualTo(ConversionJobStatus.FAILED);
+        assertThat(exhausted.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(exhausted.getActiveKey()).isNull();
+        assertThat(exhausted.getLastError()).isNotBlank();
+
+        assertThat(jobRepository.findById(runningId).orElseThrow().getStatus())
+                .isEqualTo(ConversionJobStatus.RUNNING);
+        assertThat(counter("failed")).isEqualTo(1);
+    }
+
+    private ConversionJob newJob(String conversionKey) {
+        return new ConversionJob(conversionKey, 1L, 1L, 1L, 100, 200);
+    }
+
+    private ConversionJobWorker newWorker() {
+        return new ConversionJobWorker(jobRepository, photoAlbumRepository, conversionClient, mock(BlobStore.class),
+                transactionManager, meterRegistry, 1, 1, MAX_ATTEMPTS,
+                BASE_BACKOFF.toMillis(), MAX_BACKOFF.toMillis(), STALE_AFTER.toMillis());
+    }
+
+    // 작업 스레드에서 실행되므로 종료를 기다려 실행이 끝난 뒤 검증한다
+    private void pollOnce() {
+        ConversionJobWorker worker = newWorker();
+        worker.poll();
+        shutdown(worker);
+    }
+
+    private void shutdown(ConversionJobWorker worker) {
+        try {
+            worker.shutdown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void makeDue(Long jobId) {
+        txTemplate.executeWithoutResult(status -> jobRepository.findById(jobId)
+                .ifPresent(job -> job.retryAt(LocalDateTime.now().minusSeconds(1), job.getLastError())));
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("photo.conversion.jobs").tag("result", result).counter().count();
+    }
+}
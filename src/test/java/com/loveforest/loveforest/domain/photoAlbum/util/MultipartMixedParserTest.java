@@ -0,0 +1,80 @@
+package com.loveforest.loveforest.domain.photoAlbum.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultipartMixedParserTest {
+
+    private static final String RESPONSE = "--myboundary\r\n" +
+            "Content-Disposition: attachment; filename=\"output_file.obj\"\r\n\r\n" +
+            "v 1 2 3\r\n--myboundar\r\n-\r\n" +
+            "\r\n--myboundary\r\n" +
+            "Content-Disposition: attachment; filename=\"output_file.mtl\"\r\n\r\n" +
+            "newmtl material_0" +
+            "\r\n--myboundary--\r\n";
+
+    @Test
+    @DisplayName("구분자가 조각 경계에 걸쳐도 파트 본문을 그대로 복원한다")
+    void parsesAcrossChunkBoundaries() throws IOException {
+        byte[] response = RESPONSE.getBytes(StandardCharsets.ISO_8859_1);
+
+        for (int chunkSize = 1; chunkSize <= response.length; chunkSize++) {
+            Map<String, String> parts = parse(response, chunkSize);
+
+            assertThat(parts).containsExactly(
+                    Map.entry("output_file.obj", "v 1 2 3\r\n--myboundar\r\n-\r\n"),
+                    Map.entry("output_file.mtl", "newmtl material_0"));
+        }
+    }
+
+    @Test
+    @DisplayName("닫는 구분자 전에 응답이 끝나면 실패한다")
+    void rejectsTruncatedResponse() {
+        byte[] truncated = RESPONSE.substring(0, RESPONSE.indexOf("newmtl") + 3)
+                .getBytes(StandardCharsets.ISO_8859_1);
+
+        assertThatThrownBy(() -> parse(truncated, 16)).isInstanceOf(IOException.class);
+    }
+
+    private Map<String, String> parse(byte[] response, int chunkSize) throws IOException {
+        Map<String, String> parts = new LinkedHashMap<>();
+        ByteArrayOutputStream current = new ByteArrayOutputStream();
+        String[] fileName = new String[1];
+
+        MultipartMixedParser parser = new MultipartMixedParser("myboundary", new MultipartMixedParser.PartHandler() {
+            @Override
+            public void startPart(Map<String, String> headers) {
+                fileName[0] = MultipartMixedParser.fileNameOf(headers);
+                current.reset();
+            }
+
+            @Override
+            public void body(ByteBuffer data) {
+                while (data.hasRemaining()) {
+                    current.write(data.get());
+                }
+            }
+
+            @Override
+            public void endPart() {
+                parts.put(fileName[0], current.toString(StandardCharsets.ISO_8859_1));
+            }
+        });
+
+        for (int offset = 0; offset < response.length; offset += chunkSize) {
+            parser.feed(ByteBuffer.wrap(response, offset, Math.min(chunkSize, response.length - offset)));
+        }
+        parser.finish();
+        return parts;
+    }
+}
@@ -0,0 +1,204 @@
+package com.loveforest.loveforest.domain.room.repository;
+
+import com.loveforest.loveforest.domain.couple.entity.Couple;
+import com.loveforest.loveforest.domain.couple.profile.CoupleProfileCache;
+import com.loveforest.loveforest.domain.couple.repository.CoupleRepository;
+import com.loveforest.loveforest.domain.room.entity.*;
+import com.loveforest.loveforest.domain.room.event.RoomEventPublisher;
+import com.loveforest.loveforest.domain.room.service.PresetRoomService;
+import com.loveforest.loveforest.domain.room.service.PresetRoomSnapshot;
+import com.loveforest.loveforest.domain.room.service.RoomServiceImpl;
+import com.loveforest.loveforest.domain.room.util.FurnitureLayoutDiffer;
+import com.loveforest.loveforest.domain.room.util.RoomOccupancyIndex;
+import com.loveforest.loveforest.domain.room.util.RoomTrendingIndex;
+import com.loveforest.loveforest.domain.room.util.SharedRoomIndex;
+import com.loveforest.loveforest.domain.shop.catalog.CatalogCache;
+import com.loveforest.loveforest.s3.service.BlobStore;
+import com.loveforest.loveforest.support.CoupleFixtures;
+import com.loveforest.loveforest.support.TestMetricsConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방 조회 경로별 fetch plan 회귀 테스트
+ * 가구 수가 달라도 실행되는 SQL 문 수가 같아야 한다 (N+1 방지).
+ * 방 상태/공개 방 조회와 프리셋 적용은 응답 변환까지 포함하도록 서비스 메서드를 통해 센다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({RoomServiceImpl.class, PresetRoomService.class, CoupleProfileCache.class, CatalogCache.class,
+        FurnitureLayoutDiffer.class, TestMetricsConfig.class})
+class RoomFetchPlanTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private PresetRoomRepository presetRoomRepository;
+
+    @Autowired
+    private CoupleRepository coupleRepository;
+
+    @Autowired
+    private RoomServiceImpl roomService;
+
+    @Autowired
+    private PresetRoomService presetRoomService;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @MockBean
+    private SharedRoomIndex sharedRoomIndex;
+    @MockBean
+    private RoomTrendingIndex trendingIndex;
+    @MockBean
+    private RoomOccupancyIndex occupancyIndex;
+    @MockBean
+    private RoomEventPublisher roomEventPublisher;
+    @MockBean
+    private PresetRoomSnapshot presetRoomSnapshot;
+    @MockBean
+    private BlobStore blobStore;
+
+    private Statistics statistics;
+    private Wallpaper wallpaper;
+    private Floor floor;
+    private final List<Furniture> furnitures = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        wallpaper = em.persist(new Wallpaper(1, "모던 벽지"));
+        floor = em.persist(new Floor(1, "원목 바닥"));
+        for (int i = 0; i < 6; i++) {
+            furnitures.add(em.persist(new Furniture("가구" + i, 1, 1, 100)));
+        }
+        em.flush();
+
+        // 카탈로그는 시작 시 메모리에 올라가 있으므로 측정 전에 미리 채워둔다
+        catalogCache.invalidate();
+        catalogCache.findFurniture(furnitures.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("방 상태 조회는 가구 수와 무관하게 고정된 쿼리 수로 실행된다")
+    void roomStatusUsesFixedStatementCount() {
+        Room small = createRoom("A", 1);
+        Room large = createRoom("B", 6);
+
+        assertThat(countStatements(() -> roomService.getRoomStatus(small.getCouple().getId())))
+                .isEqualTo(countStatements(() -> roomService.getRoomStatus(large.getCouple().getId())));
+    }
+
+    @Test
+    @DisplayName("공개/랜덤 방 조회는 가구 수와 무관하게 고정된 쿼리 수로 실행된다")
+    void publicRoomUsesFixedStatementCount() {
+        Room small = createRoom("A", 1);
+        Room large = createRoom("B", 6);
+        Long requesterId = createRoom("C", 0).getCouple().getUsers().get(0).getId();
+
+        assertThat(countStatements(() -> roomService.getPublicRoomInfo(small.getCouple().getId(), requesterId)))
+                .isEqualTo(countStatements(() -> roomService.getPublicRoomInfo(large.getCouple().getId(), requesterId)));
+        assertThat(countStatements(() -> touchRandom(small.getId())))
+                .isEqualTo(countStatements(() -> touchRandom(large.getId())));
+    }
+
+    @Test
+    @DisplayName("프리셋 목록 조회는 프리셋/가구 수와 무관하게 고정된 쿼리 수로 실행된다")
+    void presetListUsesFixedStatementCount() {
+        createPreset("프리셋1", 1);
+        long single = countStatements(this::touchPresets);
+
+        createPreset("프리셋2", 6);
+        createPreset("프리셋3", 3);
+        long multiple = countStatements(this::touchPresets);
+
+        assertThat(multiple).isEqualTo(single);
+    }
+
+    @Test
+    @DisplayName("프리셋 적용은 가구 수와 무관하게 고정된 쿼리 수로 실행된다")
+    void applyPresetUsesFixedStatementCount() {
+        // 바뀐 배치 행만 쓰므로 방과 같은 배치의 프리셋을 적용해 조회 경로만 비교한다
+        Room small = createRoom("A", 1);
+        Room large = createRoom("B", 6);
+        Long smallPresetId = createPreset("프리셋1", 1);
+        Long largePresetId = createPreset("프리셋2", 6);
+
+        assertThat(countStatements(() -> applyPreset(small.getId(), smallPresetId)))
+                .isEqualTo(countStatements(() -> applyPreset(large.getId(), largePresetId)));
+    }
+
+    private long countStatements(Runnable action) {
+        em.flush();
+        em.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void touchRandom(Long roomId) {
+        Room room = roomRepository.findWithLayoutsById(roomId).orElseThrow();
+        coupleRepository.findProfilesByIdIn(List.of(room.getCouple().getId()));
+        touchRoom(room);
+    }
+
+    private void touchRoom(Room room) {
+        room.isShared();
+        room.getWallpaper().getName();
+        room.getFloor().getName();
+        room.getFurnitureLayouts().forEach(layout -> layout.getFurniture().getName());
+    }
+
+    private void applyPreset(Long roomId, Long presetId) {
+        presetRoomService.applyPresetToRoom(roomId, presetId);
+        em.flush();
+    }
+
+    private void touchPresets() {
+        presetRoomRepository.findAll().forEach(preset -> {
+            preset.getWallpaper().getName();
+            preset.getFloor().getName();
+            preset.getFurnitureLayouts().forEach(layout -> layout.getFurniture().getName());
+        });
+    }
+
+    private Room createRoom(String code, int furnitureCount) {
+        Couple couple = CoupleFixtures.persistCouple(em, code);
+
+        Room room = new Room(couple);
+        room.setWallpaper(wallpaper);
+        room.setFloor(floor);
+        room.updateSharing(true);
+        for (int i = 0; i < furnitureCount; i++) {
+            room.addFurnitureLayout(new FurnitureLayout(furnitures.get(i), i, i, 0));
+        }
+        return em.persist(room);
+    }
+
+    private Long createPreset(String name, int furnitureCount) {
+        PresetRoom preset = new PresetRoom(name, wallpaper, floor, null);
+        for (int i = 0; i < furnitureCount; i++) {
+            preset.addFurnitureLayout(new PresetFurnitureLayout(furnitures.get(i), i, i, 0));
+        }
+        return em.persist(preset).getId();
+    }
+}
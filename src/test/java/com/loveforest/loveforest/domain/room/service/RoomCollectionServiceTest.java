@@ -0,0 +1,134 @@
+package com.loveforest.loveforest.domain.room.service;
+
+import com.loveforest.loveforest.domain.room.collection.CollectionEvictionConfig;
+import com.loveforest.loveforest.domain.room.collection.CollectionThumbnailCleaner;
+import com.loveforest.loveforest.domain.room.dto.CollectionRoomResponseDTO;
+import com.loveforest.loveforest.domain.room.dto.CursorPageResponseDTO;
+import com.loveforest.loveforest.domain.room.entity.*;
+import com.loveforest.loveforest.domain.room.event.RoomEventPublisher;
+import com.loveforest.loveforest.domain.room.repository.CollectionRoomRepository;
+import com.loveforest.loveforest.domain.room.util.FurnitureLayoutDiffer;
+import com.loveforest.loveforest.domain.room.util.RoomOccupancyIndex;
+import com.loveforest.loveforest.domain.room.util.RoomPreviewMapper;
+import com.loveforest.loveforest.domain.room.util.RoomTrendingIndex;
+import com.loveforest.loveforest.domain.shop.catalog.CatalogCache;
+import com.loveforest.loveforest.s3.service.BlobStore;
+import com.loveforest.loveforest.support.CoupleFixtures;
+import com.loveforest.loveforest.support.TestMetricsConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 저장된 방 컬렉션 저장 경로 테스트 (H2)
+ */
+@DataJpaTest(properties = {"server.url=http://localhost", "room.collection.max-size=3"})
+@Import({RoomCollectionService.class, RoomStateStore.class, RoomPreviewMapper.class,
+        CollectionEvictionConfig.class, CollectionThumbnailCleaner.class, TestMetricsConfig.class})
+class RoomCollectionServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private RoomCollectionService roomCollectionService;
+
+    @Autowired
+    private CollectionRoomRepository collectionRoomRepository;
+
+    @MockBean
+    private RoomTrendingIndex trendingIndex;
+    @MockBean
+    private CollectionRoomPreviewBackfill previewBackfill;
+    @MockBean
+    private CatalogCache catalogCache;
+    @MockBean
+    private FurnitureLayoutDiffer layoutDiffer;
+    @MockBean
+    private RoomOccupancyIndex occupancyIndex;
+    @MockBean
+    private RoomEventPublisher roomEventPublisher;
+    @MockBean
+    private RoomThumbnailPipeline thumbnailPipeline;
+    @MockBean
+    private BlobStore blobStore;
+
+    private Long coupleId;
+    private PresetRoom preset;
+
+    @BeforeEach
+    void setUp() {
+        coupleId = CoupleFixtures.persistCouple(em, "COLLECT").getId();
+
+        Wallpaper wallpaper = em.persist(new Wallpaper(1, "모던 벽지"));
+        Floor floor = em.persist(new Floor(1, "원목 바닥"));
+        preset = new PresetRoom("프리셋", wallpaper, floor, null);
+        for (int i = 0; i < 3; i++) {
+            Furniture furniture = em.persist(new Furniture("가구" + i, 1, 1, 100));
+            preset.addFurnitureLayout(new PresetFurnitureLayout(furniture, i, -i, 0));
+        }
+        em.persist(preset);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("저장된 방은 저장 시각, 미리보기, 방 상태가 채워진 채로 저장된다")
+    void savedRoomHasSavedAtPreviewAndState() {
+        Long collectionRoomId = (Long) roomCollectionService.savePresetRoom(coupleId, preset.getId())
+                .getData().get("roomId");
+        em.flush();
+        em.clear();
+
+        CollectionRoom saved = em.find(CollectionRoom.class, collectionRoomId);
+        assertThat(saved.getSavedAt()).isNotNull();
+        assertThat(saved.hasPreview()).isTrue();
+        assertThat(saved.getPreview().getTotalFurniture()).isEqualTo(3);
+        assertThat(saved.getStateBlob()).isNotNull();
+        assertThat(saved.readState().getFurnitureLayouts()).hasSize(3);
+
+        // 미리보기가 저장되어 있으므로 목록 조회에서 다시 계산하지 않는다
+        assertThat(roomCollectionService.getSavedRooms(coupleId, null, 10).getItems()).hasSize(1);
+        verifyNoInteractions(previewBackfill);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 저장한 방부터 축출하고, 커서로 남은 방을 최신 순으로 끝까지 조회한다")
+    void evictsOldestAndPagesWithCursor() {
+        List<Long> savedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            savedIds.add((Long) roomCollectionService.savePresetRoom(coupleId, preset.getId())
+                    .getData().get("roomId"));
+            em.flush();
+        }
+        em.clear();
+
+        // max-size=3 - 앞의 두 건이 축출되고 방금 저장한 방은 남는다
+        List<Long> expected = List.of(savedIds.get(4), savedIds.get(3), savedIds.get(2));
+        assertThat(collectionRoomRepository.findAll()).extracting(CollectionRoom::getId)
+                .containsExactlyInAnyOrderElementsOf(expected);
+
+        CursorPageResponseDTO<CollectionRoomResponseDTO> first = roomCollectionService.getSavedRooms(coupleId, null, 2);
+        assertThat(first.getItems()).extracting(CollectionRoomResponseDTO::getId)
+                .containsExactly(expected.get(0), expected.get(1));
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getItems()).allSatisfy(room -> assertThat(room.getSavedAt()).isNotNull());
+
+        CursorPageResponseDTO<CollectionRoomResponseDTO> second =
+                roomCollectionService.getSavedRooms(coupleId, first.getNextCursor(), 2);
+        assertThat(second.getItems()).extracting(CollectionRoomResponseDTO::getId)
+                .containsExactly(expected.get(2));
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+}
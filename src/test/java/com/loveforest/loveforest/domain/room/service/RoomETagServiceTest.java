@@ -0,0 +1,165 @@
+package com.loveforest.loveforest.domain.room.service;
+
+import com.loveforest.loveforest.domain.couple.entity.Couple;
+import com.loveforest.loveforest.domain.couple.profile.CoupleProfileCache;
+import com.loveforest.loveforest.domain.room.entity.Room;
+import com.loveforest.loveforest.domain.room.repository.RoomRepository;
+import com.loveforest.loveforest.domain.user.entity.User;
+import com.loveforest.loveforest.support.CoupleFixtures;
+import com.loveforest.loveforest.support.TestMetricsConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방 조회 API 조건부 조회 - 변경이 없으면 304, 방이나 커플 표시 정보가 바뀌면 새 ETag (H2)
+ */
+@DataJpaTest
+@Import({RoomETagService.class, CoupleProfileCache.class, TestMetricsConfig.class})
+class RoomETagServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private RoomETagService roomETagService;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long viewerCoupleId;
+    private Couple sharedCouple;
+    private User sharedMember;
+    private Long sharedRoomId;
+
+    @BeforeEach
+    void setUp() {
+        Couple viewer = CoupleFixtures.persistCouple(em, "VIEWER");
+        viewerCoupleId = viewer.getId();
+        em.persist(new Room(viewer));
+
+        sharedCouple = CoupleFixtures.persistCouple(em, "SHARED");
+        sharedMember = sharedCouple.getUsers().get(0);
+        Room sharedRoom = new Room(sharedCouple);
+        sharedRoom.updateSharing(true);
+        sharedRoomId = em.persist(sharedRoom).getId();
+
+        // 이후 변경과 같은 밀리초가 되지 않도록 표시 정보 변경 시각을 과거로 둔다
+        em.getEntityManager().createQuery("UPDATE Couple c SET c.profileUpdatedAt = :past")
+                .setParameter("past", LocalDateTime.now().minusDays(1))
+                .executeUpdate();
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("방 상태 - 변경이 없으면 304, 방이 바뀌면 새 ETag로 200")
+    void roomStatusNotModifiedUntilRevisionChanges() {
+        String etag = roomETagService.roomStatus(viewerCoupleId).orElseThrow();
+
+        ServletWebRequest cached = conditionalRequest(etag);
+        assertThat(roomETagService.checkNotModified(cached, "status", etag)).isTrue();
+        assertThat(statusOf(cached)).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+        roomRepository.incrementRevision(roomRepository.findByCoupleId(viewerCoupleId).orElseThrow().getId());
+        String changed = roomETagService.roomStatus(viewerCoupleId).orElseThrow();
+
+        assertThat(changed).isNotEqualTo(etag);
+        ServletWebRequest stale = conditionalRequest(etag);
+        assertThat(roomETagService.checkNotModified(stale, "status", changed)).isFalse();
+        assertThat(statusOf(stale)).isEqualTo(HttpStatus.OK.value());
+        assertThat(etagCount("status", "hit")).isEqualTo(1);
+        assertThat(etagCount("status", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("공유 방 피드 - 변경이 없으면 304, 방이 바뀌거나 커플 이름이 바뀌면 새 ETag")
+    void sharedRoomsEtagCoversRevisionAndDisplayName() {
+        String etag = roomETagService.sharedRooms(viewerCoupleId);
+        ServletWebRequest cached = conditionalRequest(etag);
+        assertThat(roomETagService.checkNotModified(cached, "shared", etag)).isTrue();
+        assertThat(statusOf(cached)).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+        roomRepository.incrementRevision(sharedRoomId);
+        String afterRevision = roomETagService.sharedRooms(viewerCoupleId);
+        assertThat(afterRevision).isNotEqualTo(etag);
+
+        renameSharedMember("새닉네임");
+        String afterRename = roomETagService.sharedRooms(viewerCoupleId);
+        assertThat(afterRename).isNotEqualTo(afterRevision);
+        assertThat(roomETagService.checkNotModified(conditionalRequest(afterRevision), "shared", afterRename)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 커플 방 - 변경이 없으면 304, 방이 바뀌면 새 ETag")
+    void publicRoomNotModifiedUntilRevisionChanges() {
+        String etag = roomETagService.publicRoom(sharedCouple.getId()).orElseThrow();
+        ServletWebRequest cached = conditionalRequest(etag);
+        assertThat(roomETagService.checkNotModified(cached, "public", etag)).isTrue();
+        assertThat(statusOf(cached)).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+        roomRepository.incrementRevision(sharedRoomId);
+
+        assertThat(roomETagService.publicRoom(sharedCouple.getId()).orElseThrow()).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("방이 없으면 ETag를 만들지 않아 304 대신 본문 조회(404)로 넘어간다")
+    void missingRoomHasNoEtag() {
+        Long noRoomCoupleId = CoupleFixtures.persistCouple(em, "NOROOM").getId();
+
+        assertThat(roomETagService.roomStatus(noRoomCoupleId)).isEmpty();
+        assertThat(roomETagService.publicRoom(noRoomCoupleId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("표시 정보가 그대로면 다시 계산해도 공유 방 피드 ETag가 바뀌지 않는다")
+    void unchangedProfileKeepsSharedRoomsEtag() {
+        String etag = roomETagService.sharedRooms(viewerCoupleId);
+
+        Couple couple = em.find(Couple.class, sharedCouple.getId());
+        couple.refreshProfile();
+        em.flush();
+
+        assertThat(roomETagService.sharedRooms(viewerCoupleId)).isEqualTo(etag);
+    }
+
+    private void renameSharedMember(String nickname) {
+        User member = em.find(User.class, sharedMember.getId());
+        member.changeNickname(nickname);
+        member.getCouple().refreshProfile();
+        em.flush();
+    }
+
+    private static ServletWebRequest conditionalRequest(String etag) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/rooms");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    private static int statusOf(ServletWebRequest request) {
+        return request.getResponse().getStatus();
+    }
+
+    private double etagCount(String endpoint, String result) {
+        return meterRegistry.get("room.etag.requests").tag("endpoint", endpoint).tag("result", result)
+                .counter().count();
+    }
+}
@@ -0,0 +1,80 @@
+package com.loveforest.loveforest.domain.room.util;
+
+import com.loveforest.loveforest.domain.room.entity.Furniture;
+import com.loveforest.loveforest.domain.room.entity.FurnitureLayout;
+import com.loveforest.loveforest.domain.room.entity.Room;
+import com.loveforest.loveforest.domain.room.util.FurnitureLayoutDiffer.LayoutDiffResult;
+import com.loveforest.loveforest.domain.room.util.FurnitureLayoutDiffer.LayoutTarget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FurnitureLayoutDifferTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FurnitureLayoutDiffer differ = new FurnitureLayoutDiffer(meterRegistry);
+
+    private final Furniture sofa = furniture(1L, "소파");
+    private final Furniture table = furniture(2L, "테이블");
+    private final Furniture bed = furniture(3L, "침대");
+
+    @Test
+    @DisplayName("바뀐 가구 배치만 수정/추가/삭제하고 나머지 행은 그대로 둔다")
+    void appliesMinimalDiff() {
+        Room room = new Room();
+        FurnitureLayout keptSofa = layout(room, sofa, 0, 0, 0);
+        FurnitureLayout movedTable = layout(room, table, 3, 3, 0);
+        FurnitureLayout removedBed = layout(room, bed, 5, 5, 0);
+
+        LayoutDiffResult result = differ.apply(room, List.of(
+                new LayoutTarget(sofa, 0, 0, 0),
+                new LayoutTarget(table, 4, 3, 90),
+                new LayoutTarget(sofa, 7, 7, 0)
+        ), "test");
+
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getDeleted()).isEqualTo(1);
+
+        assertThat(room.getFurnitureLayouts()).contains(keptSofa, movedTable).doesNotContain(removedBed);
+        assertThat(room.getFurnitureLayouts()).hasSize(3);
+        assertThat(movedTable.getPositionX()).isEqualTo(4);
+        assertThat(movedTable.getRotation()).isEqualTo(90);
+        assertThat(meterRegistry.get("room.layout.diff.size").tag("kind", "update").summary().totalAmount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 상태를 다시 적용하면 변경 행이 없다")
+    void sameStateProducesNoWrites() {
+        Room room = new Room();
+        layout(room, sofa, 0, 0, 0);
+        layout(room, sofa, 2, 2, 180);
+
+        LayoutDiffResult result = differ.apply(room, List.of(
+                new LayoutTarget(sofa, 2, 2, 180),
+                new LayoutTarget(sofa, 0, 0, 0)
+        ), "test");
+
+        assertThat(result.getWrites()).isZero();
+        assertThat(result.getUnchanged()).isEqualTo(2);
+    }
+
+    private FurnitureLayout layout(Room room, Furniture furniture, int x, int y, int rotation) {
+        FurnitureLayout layout = new FurnitureLayout(furniture, x, y, rotation);
+        room.addFurnitureLayout(layout);
+        return layout;
+    }
+
+    private Furniture furniture(Long id, String name) {
+        Furniture furniture = new Furniture(name, 1, 1, 100);
+        ReflectionTestUtils.setField(furniture, "id", id);
+        return furniture;
+    }
+}
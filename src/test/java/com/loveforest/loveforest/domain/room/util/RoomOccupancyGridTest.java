@@ -0,0 +1,89 @@
+package com.loveforest.loveforest.domain.room.util;
+
+import com.loveforest.loveforest.domain.room.util.RoomOccupancyGrid.Footprint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomOccupancyGridTest {
+
+    @Test
+    @DisplayName("회전된 가구는 너비와 높이를 바꿔 점유하고, 이동 시 자기 자리는 비어 있는 것으로 본다")
+    void rotatedFootprintAndMove() {
+        RoomOccupancyGrid grid = new RoomOccupancyGrid(10, 10);
+        grid.put(1L, Footprint.of(0, 0, 90, 3, 1));  // 1 x 3 점유
+
+        assertThat(grid.isFree(Footprint.of(0, 2, 0, 1, 1), null)).isFalse();
+        assertThat(grid.isFree(Footprint.of(1, 0, 0, 1, 1), null)).isTrue();
+        assertThat(grid.isFree(Footprint.of(0, 1, 90, 3, 1), 1L)).isTrue();
+        assertThat(grid.isInside(Footprint.of(8, 0, 0, 3, 1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("겹친 배치 중 하나를 제거해도 다른 가구의 점유는 유지된다")
+    void removeKeepsOverlappingOccupancy() {
+        RoomOccupancyGrid grid = new RoomOccupancyGrid(10, 10);
+        grid.put(1L, Footprint.of(0, 0, 0, 2, 2));
+        grid.put(2L, Footprint.of(1, 1, 0, 2, 2));
+
+        grid.remove(1L);
+
+        assertThat(grid.isFree(Footprint.of(0, 0, 0, 1, 1), null)).isTrue();
+        assertThat(grid.isFree(Footprint.of(1, 1, 0, 1, 1), null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("원하는 위치가 차 있으면 가장 가까운 빈 위치를 찾는다")
+    void findsNearestFreePosition() {
+        RoomOccupancyGrid grid = new RoomOccupancyGrid(5, 5);
+        grid.put(1L, Footprint.of(2, 2, 0, 1, 1));
+
+        Footprint found = grid.findNearestFree(Footprint.of(2, 2, 0, 1, 1), null).orElseThrow();
+
+        assertThat(Math.abs(found.getX() - 2) + Math.abs(found.getY() - 2)).isEqualTo(1);
+        assertThat(new RoomOccupancyGrid(2, 2).findNearestFree(Footprint.of(0, 0, 0, 3, 1), null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("방 크기를 모르면 범위를 검사하지 않고, 큰 좌표와 음수 좌표에서도 겹침을 검사한다")
+    void unboundedGridChecksOverlapOnly() {
+        RoomOccupancyGrid grid = new RoomOccupancyGrid();
+        grid.put(1L, Footprint.of(100, 200, 0, 2, 2));
+        grid.put(2L, Footprint.of(-5, -5, 0, 1, 1));
+
+        assertThat(grid.isInside(Footprint.of(150, 250, 0, 3, 3))).isTrue();
+        assertThat(grid.isFree(Footprint.of(101, 201, 0, 1, 1), null)).isFalse();
+        assertThat(grid.isFree(Footprint.of(150, 250, 0, 1, 1), null)).isTrue();
+        assertThat(grid.isFree(Footprint.of(-5, -5, 0, 1, 1), null)).isFalse();
+
+        Footprint found = grid.findNearestFree(Footprint.of(100, 200, 0, 1, 1), null).orElseThrow();
+        assertThat(grid.isFree(found, null)).isTrue();
+        assertThat(Math.max(Math.abs(found.getX() - 100), Math.abs(found.getY() - 200))).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("int 좌표 끝에 걸치는 배치는 범위 밖으로 보고, 칸을 많이 채웠다 비워도 점유가 정확하다")
+    void rejectsOverflowAndTracksManyCells() {
+        RoomOccupancyGrid grid = new RoomOccupancyGrid();
+        assertThat(grid.isInside(Footprint.of(Integer.MAX_VALUE, 0, 0, 2, 1))).isFalse();
+        assertThat(grid.isInside(Footprint.of(0, Integer.MAX_VALUE - 1, 0, 1, 2))).isTrue();
+        assertThat(new RoomOccupancyGrid(10, 10).isInside(Footprint.of(Integer.MAX_VALUE, 0, 0, 2, 1))).isFalse();
+
+        for (long key = 0; key < 100; key++) {
+            grid.put(key, Footprint.of((int) key * 3, -(int) key, 0, 2, 2));
+        }
+        for (long key = 0; key < 100; key += 2) {
+            grid.remove(key);
+        }
+
+        for (int key = 0; key < 100; key++) {
+            boolean removed = key % 2 == 0;
+            assertThat(grid.isFree(Footprint.of(key * 3 + 1, -key + 1, 0, 1, 1), null)).isEqualTo(removed);
+        }
+        RoomOccupancyGrid copy = grid.copy();
+        copy.remove(1L);
+        assertThat(grid.isFree(Footprint.of(3, -1, 0, 1, 1), null)).isFalse();
+        assertThat(copy.isFree(Footprint.of(3, -1, 0, 1, 1), null)).isTrue();
+    }
+}
@@ -0,0 +1,149 @@
+package com.loveforest.loveforest.domain.room.util;
+
+import com.loveforest.loveforest.domain.room.dto.FurnitureLayoutDTO;
+import com.loveforest.loveforest.domain.room.dto.RoomStateDTO;
+import com.loveforest.loveforest.domain.room.exception.RoomSerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomStateCodecTest {
+
+    @Test
+    @DisplayName("varint/zigzag 경계값과 음수 좌표가 그대로 복원된다")
+    void roundTripsEdgeValues() {
+        List<FurnitureLayoutDTO> layouts = List.of(
+                layout(0L, 0, 0, 0),
+                layout(127L, -1, 1, -90),
+                layout(128L, -64, 63, 270),
+                layout(16_383L, 64, -65, 0),
+                layout(16_384L, Integer.MIN_VALUE, Integer.MAX_VALUE, -1),
+                layout(Long.MAX_VALUE, -150, -250, 180)
+        );
+        RoomStateDTO state = new RoomStateDTO(Long.MAX_VALUE, 128L, layouts);
+
+        RoomStateDTO decoded = RoomStateCodec.decode(RoomStateCodec.encode(state));
+
+        assertThat(decoded.getWallpaperId()).isEqualTo(Long.MAX_VALUE);
+        assertThat(decoded.getFloorId()).isEqualTo(128L);
+        assertThat(decoded.getFurnitureLayouts())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(layouts);
+    }
+
+    @Test
+    @DisplayName("헤더는 magic, 버전, 벽지/바닥 유무 플래그 순서로 기록된다")
+    void writesHeaderAndFlags() {
+        byte[] none = RoomStateCodec.encode(new RoomStateDTO(null, null, List.of()));
+        byte[] wallpaperOnly = RoomStateCodec.encode(new RoomStateDTO(1L, null, List.of()));
+        byte[] floorOnly = RoomStateCodec.encode(new RoomStateDTO(null, 1L, List.of()));
+        byte[] both = RoomStateCodec.encode(new RoomStateDTO(1L, 1L, List.of()));
+
+        assertThat(none).containsExactly('L', 'F', RoomStateCodec.VERSION, 0, 0);
+        assertThat(wallpaperOnly).containsExactly('L', 'F', RoomStateCodec.VERSION, 1, 1, 0);
+        assertThat(floorOnly).containsExactly('L', 'F', RoomStateCodec.VERSION, 2, 1, 0);
+        assertThat(both).containsExactly('L', 'F', RoomStateCodec.VERSION, 3, 1, 1, 0);
+    }
+
+    @Test
+    @DisplayName("varint는 7비트마다 한 바이트, zigzag는 작은 음수를 한 바이트로 기록한다")
+    void encodesVarintAndZigzag() {
+        // 127은 1바이트, 128은 2바이트
+        assertThat(RoomStateCodec.encode(new RoomStateDTO(127L, null, List.of()))).hasSize(6);
+        assertThat(RoomStateCodec.encode(new RoomStateDTO(128L, null, List.of()))).hasSize(7);
+
+        // 가구 1, x=-1 -> 1, y=1 -> 2, rotation=-64 -> 127
+        byte[] encoded = RoomStateCodec.encode(new RoomStateDTO(null, null, List.of(layout(1L, -1, 1, -64))));
+        assertThat(Arrays.copyOfRange(encoded, 4, encoded.length)).containsExactly(1, 1, 1, 2, 127);
+    }
+
+    @Test
+    @DisplayName("벽지/바닥이 없고 가구 배치가 비어 있거나 null이어도 빈 목록으로 복원된다")
+    void roundTripsEmptyState() {
+        RoomStateDTO fromEmpty = RoomStateCodec.decode(RoomStateCodec.encode(new RoomStateDTO(null, null, new ArrayList<>())));
+        RoomStateDTO fromNull = RoomStateCodec.decode(RoomStateCodec.encode(new RoomStateDTO(null, null, null)));
+
+        for (RoomStateDTO decoded : List.of(fromEmpty, fromNull)) {
+            assertThat(decoded.getWallpaperId()).isNull();
+            assertThat(decoded.getFloorId()).isNull();
+            assertThat(decoded.getFurnitureLayouts()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("정규 인코딩은 가구 배치 순서와 무관하다")
+    void canonicalEncodingIgnoresOrder() {
+        FurnitureLayoutDTO a = layout(2L, 5, -5, 0);
+        FurnitureLayoutDTO b = layout(1L, -3, 7, 90);
+
+        assertThat(RoomStateCodec.encodeCanonical(new RoomStateDTO(1L, 2L, List.of(a, b))))
+                .isEqualTo(RoomStateCodec.encodeCanonical(new RoomStateDTO(1L, 2L, List.of(b, a))));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 버전, 잘린 데이터, 바이너리가 아닌 데이터는 예외")
+    void rejectsInvalidData() {
+        byte[] valid = RoomStateCodec.encode(new RoomStateDTO(1L, 2L, List.of(layout(300L, -1, 1, 0))));
+
+        byte[] otherVersion = valid.clone();
+        otherVersion[2] = (byte) (RoomStateCodec.VERSION + 1);
+        byte[] truncated = Arrays.copyOf(valid, valid.length - 1);
+
+        assertThatThrownBy(() -> RoomStateCodec.decode(otherVersion)).isInstanceOf(RoomSerializationException.class);
+        assertThatThrownBy(() -> RoomStateCodec.decode(truncated)).isInstanceOf(RoomSerializationException.class);
+        assertThatThrownBy(() -> RoomStateCodec.decode("{}".getBytes())).isInstanceOf(RoomSerializationException.class);
+        assertThatThrownBy(() -> RoomStateCodec.decode(null)).isInstanceOf(RoomSerializationException.class);
+        assertThat(RoomStateCodec.isBinary(valid)).isTrue();
+    }
+
+    @Test
+    @DisplayName("남은 바이트보다 큰 가구 개수는 할당 없이 예외")
+    void rejectsOversizedLayoutCount() {
+        byte[] overInt = {'L', 'F', RoomStateCodec.VERSION, 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        byte[] negative = {'L', 'F', RoomStateCodec.VERSION, 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01};
+        byte[] tooMany = {'L', 'F', RoomStateCodec.VERSION, 0, (byte) 0xE8, 0x07, 1, 0, 0, 0};
+
+        assertThatThrownBy(() -> RoomStateCodec.decode(overInt)).isInstanceOf(RoomSerializationException.class);
+        assertThatThrownBy(() -> RoomStateCodec.decode(negative)).isInstanceOf(RoomSerializationException.class);
+        assertThatThrownBy(() -> RoomStateCodec.decode(tooMany)).isInstanceOf(RoomSerializationException.class);
+    }
+
+    @Test
+    @DisplayName("코덱 도입 이전 JSON 행은 그대로 읽고, 가구 배치가 없으면 빈 목록으로 채운다")
+    void readsLegacyJson() {
+        RoomStateDTO legacy = RoomStateCodec.fromLegacyJson(
+                "{\"wallpaperId\":3,\"floorId\":null,\"furnitureLayouts\":[" +
+                        "{\"furnitureId\":5,\"name\":\"의자\",\"positionX\":-10,\"positionY\":20,\"rotation\":90}]}");
+        RoomStateDTO withoutLayouts = RoomStateCodec.fromLegacyJson("{\"wallpaperId\":1}");
+
+        assertThat(legacy.getWallpaperId()).isEqualTo(3L);
+        assertThat(legacy.getFloorId()).isNull();
+        assertThat(legacy.getFurnitureLayouts()).singleElement().satisfies(layout -> {
+            assertThat(layout.getFurnitureId()).isEqualTo(5L);
+            assertThat(layout.getPositionX()).isEqualTo(-10);
+            assertThat(layout.getPositionY()).isEqualTo(20);
+            assertThat(layout.getRotation()).isEqualTo(90);
+        });
+        assertThat(withoutLayouts.getFurnitureLayouts()).isEmpty();
+        assertThatThrownBy(() -> RoomStateCodec.fromLegacyJson("not json"))
+                .isInstanceOf(RoomSerializationException.class);
+        assertThatThrownBy(() -> RoomStateCodec.fromLegacyJson(null))
+                .isInstanceOf(RoomSerializationException.class);
+    }
+
+    private static FurnitureLayoutDTO layout(Long furnitureId, int x, int y, int rotation) {
+        return FurnitureLayoutDTO.builder()
+                .furnitureId(furnitureId)
+                .positionX(x)
+                .positionY(y)
+                .rotation(rotation)
+                .build();
+    }
+}
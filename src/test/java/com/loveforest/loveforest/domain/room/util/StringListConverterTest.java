@@ -0,0 +1,38 @@
+package com.loveforest.loveforest.domain.room.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringListConverterTest {
+
+    private final StringListConverter converter = new StringListConverter();
+
+    @Test
+    @DisplayName("구분자와 따옴표를 포함한 이름, 빈 이름 하나뿐인 목록이 그대로 복원된다")
+    void roundTripsAnyNames() {
+        List<List<String>> cases = List.of(
+                List.of(),
+                List.of(""),
+                List.of("", ""),
+                List.of("소파|2인용", "\"원목\" 책상", "[한정] 램프", "줄\n바꿈")
+        );
+
+        for (List<String> names : cases) {
+            String column = converter.convertToDatabaseColumn(names);
+            assertThat(converter.convertToEntityAttribute(column)).isEqualTo(names);
+        }
+    }
+
+    @Test
+    @DisplayName("구분자 형식으로 저장된 기존 값도 읽는다")
+    void readsLegacyDelimitedValues() {
+        assertThat(converter.convertToEntityAttribute("소파|책상")).containsExactly("소파", "책상");
+        assertThat(converter.convertToEntityAttribute("[한정] 램프|소파")).containsExactly("[한정] 램프", "소파");
+        assertThat(converter.convertToEntityAttribute("")).isEmpty();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
@@ -0,0 +1,113 @@
+package com.loveforest.loveforest.s3.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.BucketAlreadyOwnedByYouException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 저장소 구현 공통 동작
+ * S3 구현은 MinIO 등 S3 호환 저장소가 있을 때만 실행한다.
+ * (예: docker run -p 9000:9000 minio/minio server /data 후 STORAGE_S3_ENDPOINT=http://localhost:9000)
+ */
+class BlobStoreTest {
+
+    @TempDir
+    Path storageDir;
+
+    @Test
+    @DisplayName("로컬 저장소 - 스트림 업로드, 범위 읽기, 게시, 삭제")
+    void localBlobStore() throws IOException {
+        LocalBlobStore store = new LocalBlobStore(storageDir.toString(), "http://localhost/s3");
+        store.init();
+
+        verifyContract(store);
+        assertThat(Files.list(storageDir.resolve(".incoming"))).isEmpty();
+        // 접두사가 같은 다른 경로는 이 저장소의 파일이 아니다
+        assertThat(store.owns("http://localhost/s3-backup/a.png")).isFalse();
+        assertThat(store.owns("http://localhost/s3/a.png")).isTrue();
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "STORAGE_S3_ENDPOINT", matches = ".+")
+    @DisplayName("S3 호환 저장소 - 스트림 업로드, 범위 읽기, 게시, 삭제")
+    void s3BlobStore() throws IOException {
+        String bucket = envOrDefault("STORAGE_S3_BUCKET", "loveforest-test");
+        S3Client s3Client = S3Client.builder()
+                .endpointOverride(URI.create(System.getenv("STORAGE_S3_ENDPOINT")))
+                .region(Region.US_EAST_1)
+                .forcePathStyle(true)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(
+                        envOrDefault("STORAGE_S3_ACCESS_KEY", "minioadmin"),
+                        envOrDefault("STORAGE_S3_SECRET_KEY", "minioadmin"))))
+                .build();
+        try {
+            s3Client.createBucket(builder -> builder.bucket(bucket));
+        } catch (BucketAlreadyOwnedByYouException ignored) {
+            // 이전 실행에서 만든 버킷
+        }
+
+        verifyContract(new S3BlobStore(s3Client, bucket));
+    }
+
+    private void verifyContract(BlobStore store) throws IOException {
+        byte[] content = new byte[200_000];
+        new Random(7).nextBytes(content);
+
+        String url = store.upload(new ByteArrayInputStream(content), content.length, ".png", "image/png");
+        assertThat(store.owns(url)).isTrue();
+        assertThat(store.owns("https://example.com/other.png")).isFalse();
+
+        BlobMetadata metadata = store.stat(url);
+        assertThat(metadata.contentLength()).isEqualTo(content.length);
+        assertThat(metadata.contentType()).isEqualTo("image/png");
+
+        try (InputStream in = store.openStream(url)) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+        try (InputStream in = store.openRange(url, 1000, 5000)) {
+            assertThat(in.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, 1000, 6000));
+        }
+        // 파일 끝을 넘는 범위는 끝까지만 읽는다
+        try (InputStream in = store.openRange(url, content.length - 10, 100)) {
+            assertThat(in.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, content.length - 10, content.length));
+        }
+
+        Path incoming = store.createIncomingFile(".mtl");
+        Files.writeString(incoming, "newmtl material");
+        String published = store.publishFile(incoming, "published-" + System.nanoTime() + ".mtl");
+        assertThat(incoming).doesNotExist();
+        assertThat(published).isEqualTo(store.fileUrl(published.substring(published.lastIndexOf('/') + 1)));
+        try (InputStream in = store.openStream(published)) {
+            assertThat(new String(in.readAllBytes())).isEqualTo("newmtl material");
+        }
+
+        store.deleteFile(url);
+        store.deleteFile(published);
+        // 이 저장소가 게시하지 않은 URL은 건너뛴다
+        store.deleteFile("https://example.com/other.png");
+        assertThatThrownBy(() -> store.stat(url)).isInstanceOf(RuntimeException.class);
+    }
+
+    private static String envOrDefault(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,38 @@
+package com.loveforest.loveforest.support;
+
+import com.loveforest.loveforest.domain.couple.entity.Couple;
+import com.loveforest.loveforest.domain.user.entity.User;
+import com.loveforest.loveforest.domain.user.enums.Authority;
+import com.loveforest.loveforest.domain.user.enums.Gender;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+
+/**
+ * JPA 테스트용 커플/회원 데이터
+ */
+public final class CoupleFixtures {
+
+    private CoupleFixtures() {
+    }
+
+    /**
+     * 회원 두 명(코드 소문자 + 1, 2)으로 이루어진 커플을 저장하고 표시 정보를 채운다
+     */
+    public static Couple persistCouple(TestEntityManager em, String code) {
+        String prefix = code.toLowerCase();
+        Couple couple = new Couple(code);
+        couple.addUser(newUser(prefix + "1"));
+        couple.addUser(newUser(prefix + "2"));
+        em.persist(couple);
+        em.flush();
+        couple.refreshProfile();
+        em.flush();
+        return couple;
+    }
+
+    public static User newUser(String name) {
+        return new User(name + "@loveforest.com", name, "password", name,
+                Gender.MALE, Authority.USER, LocalDate.of(2024, 1, 1), null);
+    }
+}
@@ -0,0 +1,18 @@
+package com.loveforest.loveforest.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 슬라이스 테스트용 MeterRegistry (@DataJpaTest는 메트릭 자동 설정을 포함하지 않는다)
+ */
+@TestConfiguration
+public class TestMetricsConfig {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}